@@ -5,7 +5,7 @@
 call clean.bat
 
 :: Compile Project (Targets Sent to "build" Directory)
-javac -d build src\*.java src\ui\*.java src\ui\utility\*.java src\io\*.java src\model\*.java src\model\types\*.java
+javac -d build src\*.java src\analysis\*.java src\ui\*.java src\ui\utility\*.java src\index\*.java src\cli\*.java src\report\*.java src\server\*.java src\render\*.java src\io\*.java src\model\*.java src\model\types\*.java
 
 :: Print Update
 echo Project compiled.
@@ -1,19 +1,70 @@
-
-import io.EventRepository;
+import cli.BatchCommand;
+import cli.ExportCommand;
+import cli.NetworkCommand;
+import cli.SessionsCommand;
+import cli.StatsCommand;
+import cli.TimelapseCommand;
+import server.DashboardServer;
 import ui.GraphWindow;
 
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
 /* Event Grapher
  * Christopher Cruzen
  * 01.01.2021
  *
- * Main is a simple container that launches the GraphWindow interface.
+ * Main is a simple container that launches the GraphWindow interface. Any
+ * arguments are treated as input files or globs, merged in time order.
+ *
+ * Starting with --stats prints the statistics on stdout instead of opening a
+ * window (see StatsCommand), --export writes the infographic to a PNG (see
+ * ExportCommand), --timelapse replays the year into PNG frames (see
+ * TimelapseCommand), --sessions prints session & proximity stats (see
+ * SessionsCommand), --network prints the performer & site co-occurrence graph (see
+ * NetworkCommand), --batch writes reports for every input in a manifest (see
+ * BatchCommand), and --serve serves the charts over HTTP (see DashboardServer).
  */
 
 public class Main {
 
-    public static void main(String[] args) {
-        //EventRepository eventRepository = new EventRepository();
-        GraphWindow graphWindow = new GraphWindow();
+    public static void main(String[] args) throws IOException {
+        List<String> arguments = Arrays.asList(args);
+        if (!arguments.isEmpty() && arguments.get(0).equals(StatsCommand.FLAG)) {
+            new StatsCommand(arguments.subList(1, arguments.size())).run();
+            return;
+        }
+        if (!arguments.isEmpty() && arguments.get(0).equals(ExportCommand.FLAG)) {
+            new ExportCommand(arguments.subList(1, arguments.size())).run();
+            return;
+        }
+        if (!arguments.isEmpty() && arguments.get(0).equals(TimelapseCommand.FLAG)) {
+            new TimelapseCommand(arguments.subList(1, arguments.size())).run();
+            return;
+        }
+        if (!arguments.isEmpty() && arguments.get(0).equals(SessionsCommand.FLAG)) {
+            new SessionsCommand(arguments.subList(1, arguments.size())).run();
+            return;
+        }
+        if (!arguments.isEmpty() && arguments.get(0).equals(NetworkCommand.FLAG)) {
+            new NetworkCommand(arguments.subList(1, arguments.size())).run();
+            return;
+        }
+        if (!arguments.isEmpty() && arguments.get(0).equals(BatchCommand.FLAG)) {
+            new BatchCommand(arguments.subList(1, arguments.size())).run();
+            return;
+        }
+        if (!arguments.isEmpty() && arguments.get(0).equals(DashboardServer.FLAG)) {
+            new DashboardServer(arguments.subList(1, arguments.size())).start();
+            return;
+        }
+        showWindow(arguments);
+    }
+
+    // Kept separate so the headless modes never touch interface classes.
+    private static void showWindow(List<String> arguments) {
+        GraphWindow graphWindow = new GraphWindow(arguments);
         graphWindow.show();
     }
 }
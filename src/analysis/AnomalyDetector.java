@@ -0,0 +1,279 @@
+package analysis;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/* Event Grapher
+ * Christopher Cruzen
+ * 10.19.2026
+ *
+ *   AnomalyDetector flags unusual stretches in a chronological stream of event times:
+ * bursts, days with far more events than the days before them, and droughts, gaps far
+ * longer than the gaps before them. It's fed one timestamp at a time and keeps only a
+ * trailing window of recent day counts and gaps, so each series costs fixed memory and
+ * a pass stays linear however long the stream.
+ *
+ *   Baselines are robust: the median of the trailing window, with the median absolute
+ * deviation (MAD) as its spread, so earlier anomalies barely move them. A day is a burst
+ * when its count sits far enough above the median in MADs, and consecutive burst days
+ * form one interval. As counts are small whole numbers, the spread is never taken below
+ * the square root of the median, as a Poisson count's would be. Gaps are heavy-tailed,
+ * so a drought must both clear a stricter threshold and span several median gaps.
+ *
+ * Note: Nothing is flagged until a baseline has MIN_BASELINE values, so the first week
+ *       of a stream is never anomalous.
+ */
+
+public class AnomalyDetector {
+
+
+    /*--- Variables ---*/
+
+    public enum Kind {
+        BURST,
+        DROUGHT
+    }
+
+    // Constants
+    public static final int BASELINE_DAYS = 28;
+    public static final int BASELINE_GAPS = 64;
+    private static final int MIN_BASELINE = 7;
+    private static final double MAD_SCALE = 1.4826;
+    private static final double BURST_THRESHOLD = 4.5;
+    private static final int BURST_MIN_EXCESS = 3;
+    private static final double DROUGHT_THRESHOLD = 12;
+    private static final double DROUGHT_MIN_RATIO = 8;
+
+    // Variables
+    private final ZoneId zone;
+    private final TrailingWindow dayCounts;
+    private final TrailingWindow gaps;
+    private final List<Anomaly> anomalies;
+
+    // Stream State
+    private LocalDate currentDay;
+    private long currentDayStart;
+    private long currentDayEnd;
+    private int currentDayCount;
+    private Anomaly openBurst;
+    private long lastTimestamp;
+
+
+    /*--- Constructor ---*/
+
+    public AnomalyDetector(ZoneId zone) {
+        this.zone = zone;
+        dayCounts = new TrailingWindow(BASELINE_DAYS);
+        gaps = new TrailingWindow(BASELINE_GAPS);
+        anomalies = new ArrayList<>();
+        lastTimestamp = Long.MIN_VALUE;
+    }
+
+
+    /*--- Public Methods ---*/
+
+    // Events earlier than the last one count toward the current day but not as gaps.
+    public void accept(long timestamp) {
+
+        // Close Finished Days, Including Empty Ones
+        if (currentDay == null) {
+            startDay(toLocalDate(timestamp));
+        } else if (timestamp >= currentDayEnd) {
+            LocalDate day = toLocalDate(timestamp);
+            closeDay();
+            long emptyDays = day.toEpochDay() - currentDay.toEpochDay() - 1;
+            if (emptyDays > 0 && openBurst != null) {
+                anomalies.add(openBurst);
+                openBurst = null;
+            }
+            for (long x = 0; x < Math.min(emptyDays, BASELINE_DAYS); x++) dayCounts.add(0);
+            startDay(day);
+        }
+        currentDayCount++;
+
+        // Check The Gap Since The Last Event
+        if (timestamp < lastTimestamp) return;
+        if (lastTimestamp != Long.MIN_VALUE) {
+            long gap = timestamp - lastTimestamp;
+            double score = getDroughtScore(gap);
+            if (score > 0) {
+                anomalies.add(new Anomaly(Kind.DROUGHT, lastTimestamp, timestamp, gap, gaps.median(), score));
+            }
+            gaps.add(gap);
+        }
+        lastTimestamp = timestamp;
+    }
+
+    /* Note: Returns every anomaly so far, oldest first. A burst still running on the
+     *       current day is included as it stands, though the day isn't over.
+     */
+    public List<Anomaly> getAnomalies() {
+        List<Anomaly> result = new ArrayList<>(anomalies);
+        Anomaly burst = currentDay == null ? openBurst : extendBurst(openBurst, false);
+        if (burst != null) result.add(burst);
+        result.sort((a, b) -> Long.compare(a.start, b.start));
+        return Collections.unmodifiableList(result);
+    }
+
+    public void copyFrom(AnomalyDetector other) {
+        dayCounts.copyFrom(other.dayCounts);
+        gaps.copyFrom(other.gaps);
+        anomalies.clear();
+        anomalies.addAll(other.anomalies);
+        currentDay = other.currentDay;
+        currentDayStart = other.currentDayStart;
+        currentDayEnd = other.currentDayEnd;
+        currentDayCount = other.currentDayCount;
+        openBurst = other.openBurst;
+        lastTimestamp = other.lastTimestamp;
+    }
+
+
+    /*--- Private Methods ---*/
+
+    private void startDay(LocalDate day) {
+        currentDay = day;
+        currentDayStart = day.atStartOfDay(zone).toInstant().toEpochMilli();
+        currentDayEnd = day.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+        currentDayCount = 0;
+    }
+
+    private void closeDay() {
+        Anomaly burst = extendBurst(openBurst, true);
+        if (burst == null && openBurst != null) anomalies.add(openBurst);
+        openBurst = burst;
+        dayCounts.add(currentDayCount);
+    }
+
+    // Returns the open burst extended by the current day, or null if the day isn't a burst.
+    private Anomaly extendBurst(Anomaly burst, boolean dayClosed) {
+        double score = getBurstScore(currentDayCount);
+        if (score <= 0) return dayClosed ? null : burst;
+        if (burst == null) return new Anomaly(Kind.BURST, currentDayStart, currentDayEnd, currentDayCount, dayCounts.median(), score);
+        return new Anomaly(Kind.BURST, burst.start, currentDayEnd, Math.max(burst.value, currentDayCount),
+                burst.value >= currentDayCount ? burst.baseline : dayCounts.median(), Math.max(burst.score, score));
+    }
+
+    // Robust score of a day's count, or 0 when the day isn't a burst.
+    private double getBurstScore(int count) {
+        if (dayCounts.size() < MIN_BASELINE) return 0;
+        double median = dayCounts.median();
+        if (count - median < BURST_MIN_EXCESS) return 0;
+        double spread = Math.max(MAD_SCALE * dayCounts.deviation(median), Math.sqrt(Math.max(median, 1)));
+        double score = (count - median) / spread;
+        return score >= BURST_THRESHOLD ? score : 0;
+    }
+
+    // Robust score of a gap, or 0 when the gap isn't a drought.
+    private double getDroughtScore(long gap) {
+        if (gaps.size() < MIN_BASELINE) return 0;
+        double median = gaps.median();
+        if (gap < DROUGHT_MIN_RATIO * Math.max(median, 1)) return 0;
+        double spread = Math.max(MAD_SCALE * gaps.deviation(median), 1);
+        double score = (gap - median) / spread;
+        return score >= DROUGHT_THRESHOLD ? score : 0;
+    }
+
+    private LocalDate toLocalDate(long timestamp) {
+        return Instant.ofEpochMilli(timestamp).atZone(zone).toLocalDate();
+    }
+
+
+    /*--- Public Classes ---*/
+
+    // An anomalous interval [start, end). Value is a burst's busiest day count or a drought's gap.
+    public static class Anomaly {
+
+        public final Kind kind;
+        public final long start;
+        public final long end;
+        public final long value;
+        public final double baseline;
+        public final double score;
+
+        Anomaly(Kind kind, long start, long end, long value, double baseline, double score) {
+            this.kind = kind;
+            this.start = start;
+            this.end = end;
+            this.value = value;
+            this.baseline = baseline;
+            this.score = score;
+        }
+    }
+
+
+    /*--- Private Classes ---*/
+
+    /* Note: Keeps the latest values in arrival order and in sorted order side by side, so
+     *       the median is read directly and each new value shifts at most the window.
+     */
+    private static class TrailingWindow {
+
+        private final long[] arrivals;
+        private final long[] sorted;
+        private final double[] deviations;
+        private int head;
+        private int size;
+
+        TrailingWindow(int capacity) {
+            arrivals = new long[capacity];
+            sorted = new long[capacity];
+            deviations = new double[capacity];
+        }
+
+        void add(long value) {
+            if (size == arrivals.length) {
+                remove(arrivals[head]);
+                arrivals[head] = value;
+                head = (head + 1) % arrivals.length;
+            } else {
+                arrivals[(head + size) % arrivals.length] = value;
+            }
+
+            // Insert Into Sorted Order
+            int position = size;
+            while (position > 0 && sorted[position - 1] > value) {
+                sorted[position] = sorted[position - 1];
+                position--;
+            }
+            sorted[position] = value;
+            size++;
+        }
+
+        double median() {
+            if (size == 0) return 0;
+            int middle = size / 2;
+            return (size % 2) == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2.0;
+        }
+
+        // Median absolute deviation from the given median.
+        double deviation(double median) {
+            for (int x = 0; x < size; x++) deviations[x] = Math.abs(sorted[x] - median);
+            Arrays.sort(deviations, 0, size);
+            int middle = size / 2;
+            return (size % 2) == 1 ? deviations[middle] : (deviations[middle - 1] + deviations[middle]) / 2;
+        }
+
+        int size() {
+            return size;
+        }
+
+        void copyFrom(TrailingWindow other) {
+            System.arraycopy(other.arrivals, 0, arrivals, 0, arrivals.length);
+            System.arraycopy(other.sorted, 0, sorted, 0, sorted.length);
+            head = other.head;
+            size = other.size;
+        }
+
+        private void remove(long value) {
+            int position = Arrays.binarySearch(sorted, 0, size, value);
+            System.arraycopy(sorted, position + 1, sorted, position, size - position - 1);
+            size--;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package analysis;
+
+import model.types.EventType;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/* Event Grapher
+ * Christopher Cruzen
+ * 10.19.2026
+ *
+ *   BucketIndex maps each infographic bucket (a day of the annual grid, an hour of the
+ * weekly grid, a weekday bar, an hour-of-day bar) to the events that fall inside it.
+ * Members are stored in compressed-row form: one shared position array per bucket
+ * family plus an offsets array, so looking up a bucket's events costs O(1) plus the
+ * number of events returned.
+ */
+
+public class BucketIndex {
+
+
+    /*--- Variables ---*/
+
+    public enum Family {
+        DAY,        // Day of year
+        WEEK_HOUR,  // type * 168 + weekday * 24 + hour
+        WEEKDAY,    // type * 7 + weekday
+        HOUR        // Hour of day
+    }
+
+    private static final int TYPES = EventType.values().length;
+
+    private final int[][] offsets;
+    private final int[][] members;
+
+
+    /*--- Constructor ---*/
+
+    private BucketIndex(int[][] offsets, int[][] members) {
+        this.offsets = offsets;
+        this.members = members;
+    }
+
+
+    /*--- Public Static Methods ---*/
+
+    // Indexes the events at the given ascending positions of the sorted columns.
+    public static BucketIndex build(int year, ZoneId zone, long[] timestamps, byte[] types, int[] positions) {
+        int size = positions.length;
+        int daysInYear = LocalDate.of(year, 1, 1).lengthOfYear();
+        int[] bucketCounts = {daysInYear, TYPES * 7 * 24, TYPES * 7, 24};
+        int families = Family.values().length;
+
+        // Resolve Bucket Keys
+        int[][] keys = new int[families][size];
+        CalendarCursor calendar = new CalendarCursor(year, zone);
+        for (int x = 0; x < size; x++) {
+            int position = positions[x];
+            int type = types[position];
+            calendar.moveTo(timestamps[position]);
+            keys[Family.DAY.ordinal()][x] = calendar.getDayOfYear();
+            keys[Family.WEEK_HOUR.ordinal()][x] = (type * 168) + (calendar.getDayOfWeek() * 24) + calendar.getHourOfDay();
+            keys[Family.WEEKDAY.ordinal()][x] = (type * 7) + calendar.getDayOfWeek();
+            keys[Family.HOUR.ordinal()][x] = calendar.getHourOfDay();
+        }
+
+        // Counting Sort Into Compressed Rows
+        int[][] offsets = new int[families][];
+        int[][] members = new int[families][];
+        for (int family = 0; family < families; family++) {
+            int[] familyOffsets = new int[bucketCounts[family] + 1];
+            for (int key : keys[family]) {
+                if (key >= 0) familyOffsets[key + 1]++;
+            }
+            for (int x = 0; x < bucketCounts[family]; x++) familyOffsets[x + 1] += familyOffsets[x];
+
+            int[] familyMembers = new int[familyOffsets[bucketCounts[family]]];
+            int[] next = familyOffsets.clone();
+            for (int x = 0; x < size; x++) {
+                int key = keys[family][x];
+                if (key >= 0) familyMembers[next[key]++] = positions[x];
+            }
+            offsets[family] = familyOffsets;
+            members[family] = familyMembers;
+        }
+
+        return new BucketIndex(offsets, members);
+    }
+
+
+    /*--- Public Access Methods ---*/
+
+    public int getCount(Family family, int bucket) {
+        int[] familyOffsets = offsets[family.ordinal()];
+        if (bucket < 0 || bucket >= familyOffsets.length - 1) return 0;
+        return familyOffsets[bucket + 1] - familyOffsets[bucket];
+    }
+
+    // Returns the position of the n-th event (in time order) in a bucket.
+    public int getMember(Family family, int bucket, int n) {
+        return members[family.ordinal()][offsets[family.ordinal()][bucket] + n];
+    }
+
+    public int[] getMembers(Family family, int bucket) {
+        int count = getCount(family, bucket);
+        int[] result = new int[count];
+        if (count > 0) {
+            System.arraycopy(members[family.ordinal()], offsets[family.ordinal()][bucket], result, 0, count);
+        }
+        return result;
+    }
+
+    public static int getWeekHourBucket(EventType type, int dayOfWeek, int hour) {
+        return (type.ordinal() * 168) + (dayOfWeek * 24) + hour;
+    }
+
+    public static int getWeekdayBucket(EventType type, int dayOfWeek) {
+        return (type.ordinal() * 7) + dayOfWeek;
+    }
+}
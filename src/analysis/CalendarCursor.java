@@ -0,0 +1,107 @@
+package analysis;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+
+/* Event Grapher
+ * Christopher Cruzen
+ * 10.19.2026
+ *
+ *   CalendarCursor resolves the local calendar fields of a stream of timestamps. It
+ * remembers the boundaries of the last day and hour it resolved, so a chronological
+ * stream only pays for a time zone lookup once per distinct day and hour.
+ */
+
+public class CalendarCursor {
+
+
+    /*--- Variables ---*/
+
+    private final ZoneId zone;
+    private final int year;
+    private long dayStart;
+    private long dayEnd;
+    private int dayOfWeek;
+    private int dayOfYear;
+    private int dayYear;
+    private long hourStart;
+    private long hourEnd;
+    private int hourOfDay;
+
+
+    /*--- Constructor ---*/
+
+    // Day-of-year values are reported relative to the given calendar year.
+    public CalendarCursor(int year, ZoneId zone) {
+        this.zone = zone;
+        this.year = year;
+        dayStart = dayEnd = hourStart = hourEnd = Long.MIN_VALUE;
+    }
+
+
+    /*--- Public Methods ---*/
+
+    // Moves the cursor to a timestamp, returning true if it landed on a different day.
+    public boolean moveTo(long timestamp) {
+        boolean newDay = timestamp < dayStart || timestamp >= dayEnd;
+        if (newDay) {
+            LocalDate date = Instant.ofEpochMilli(timestamp).atZone(zone).toLocalDate();
+            dayStart = date.atStartOfDay(zone).toInstant().toEpochMilli();
+            dayEnd = date.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+            dayOfWeek = date.getDayOfWeek().getValue() - 1;
+            dayYear = date.getYear();
+            dayOfYear = dayYear == year ? date.getDayOfYear() - 1 : -1;
+        }
+        if (timestamp < hourStart || timestamp >= hourEnd) {
+            ZonedDateTime hour = Instant.ofEpochMilli(timestamp).atZone(zone).truncatedTo(ChronoUnit.HOURS);
+            hourStart = hour.toInstant().toEpochMilli();
+            hourEnd = hourStart + (60 * 60 * 1000);
+            hourOfDay = hour.getHour();
+        }
+        return newDay;
+    }
+
+    // Copies another cursor's position into this one.
+    public void copyFrom(CalendarCursor other) {
+        dayStart = other.dayStart;
+        dayEnd = other.dayEnd;
+        dayOfWeek = other.dayOfWeek;
+        dayOfYear = other.dayOfYear;
+        dayYear = other.dayYear;
+        hourStart = other.hourStart;
+        hourEnd = other.hourEnd;
+        hourOfDay = other.hourOfDay;
+    }
+
+
+    /*--- Public Access Methods ---*/
+
+    public long getDayStart() {
+        return dayStart;
+    }
+
+    public long getDayEnd() {
+        return dayEnd;
+    }
+
+    // Monday = 0 ... Sunday = 6
+    public int getDayOfWeek() {
+        return dayOfWeek;
+    }
+
+    // January 1st = 0, or -1 when the day falls outside the cursor's year.
+    public int getDayOfYear() {
+        return dayOfYear;
+    }
+
+    public int getYear() {
+        return dayYear;
+    }
+
+    public int getHourOfDay() {
+        return hourOfDay;
+    }
+}
@@ -0,0 +1,350 @@
+package analysis;
+
+import model.CreditedEvent;
+import model.Event;
+import model.LiveEvent;
+import model.Performer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/* Event Grapher
+ * Christopher Cruzen
+ * 10.19.2026
+ *
+ *   CooccurrenceGraph links the performers and sites that appear in the same event. Each
+ * name is interned once as an int id, and an edge's weight is the number of events two
+ * names share. Edges are held in compressed sparse row (CSR) form: every node's neighbors
+ * and weights sit in one slice of two flat int arrays, found through an offsets array,
+ * so a graph of hundreds of thousands of names costs a few ints per edge and no objects.
+ *
+ *   Building runs in three passes. Names are interned in order, giving each event a short
+ * list of ids, and the lists are inverted into each node's events. Then ranges of nodes
+ * are counted in parallel: a node walks its events, tallying every higher-numbered node
+ * it meets in a dense counter array, so pairs are counted without sorting or hashing.
+ * Components come from a union-find over the final edges.
+ */
+
+public class CooccurrenceGraph {
+
+
+    /*--- Variables ---*/
+
+    public enum Kind {
+        PERFORMER,
+        SITE
+    }
+
+    // Constants
+    private static final int CHUNK_NODES = 1 << 14;
+
+    // Nodes
+    private final String[] names;
+    private final Kind[] kinds;
+    private final List<Map<String, Integer>> ids;
+
+    // Edges (CSR)
+    private final int[] offsets;
+    private final int[] neighbors;
+    private final int[] weights;
+    private final int edgeCount;
+
+    // Components
+    private final int[] components;
+    private final int[] componentSizes;
+
+
+    /*--- Constructor ---*/
+
+    // Takes each node's higher-numbered neighbors, in ascending order, node after node.
+    private CooccurrenceGraph(List<String> names, List<Kind> kinds, List<Map<String, Integer>> ids, List<UpperEdges> ranges) {
+        this.names = names.toArray(new String[0]);
+        this.kinds = kinds.toArray(new Kind[0]);
+        this.ids = ids;
+
+        // Count Degrees, Then Lay Out Each Node's Slice
+        int nodes = this.names.length;
+        offsets = new int[nodes + 1];
+        int edges = 0;
+        for (UpperEdges range : ranges) {
+            for (int x = 0; x < range.size; x++) {
+                offsets[range.firsts[x] + 1]++;
+                offsets[range.seconds[x] + 1]++;
+            }
+            edges += range.size;
+        }
+        edgeCount = edges;
+        for (int x = 0; x < nodes; x++) offsets[x + 1] += offsets[x];
+
+        // Fill Slices - Edges Arrive Sorted, So Every Slice Ends Up In Ascending Order
+        neighbors = new int[offsets[nodes]];
+        weights = new int[offsets[nodes]];
+        int[] positions = Arrays.copyOf(offsets, nodes);
+        for (UpperEdges range : ranges) {
+            for (int x = 0; x < range.size; x++) {
+                int first = range.firsts[x];
+                int second = range.seconds[x];
+                neighbors[positions[first]] = second;
+                weights[positions[first]++] = range.weights[x];
+                neighbors[positions[second]] = first;
+                weights[positions[second]++] = range.weights[x];
+            }
+        }
+
+        // Union-Find Components
+        int[] parents = new int[nodes];
+        for (int x = 0; x < nodes; x++) parents[x] = x;
+        for (int node = 0; node < nodes; node++) {
+            for (int x = offsets[node]; x < offsets[node + 1]; x++) {
+                int first = find(parents, node);
+                int second = find(parents, neighbors[x]);
+                if (first != second) parents[Math.max(first, second)] = Math.min(first, second);
+            }
+        }
+        components = new int[nodes];
+        int[] sizes = new int[nodes];
+        int count = 0;
+        for (int x = 0; x < nodes; x++) {
+            int root = find(parents, x);
+            components[x] = root == x ? count++ : components[root];
+            sizes[components[x]]++;
+        }
+        componentSizes = Arrays.copyOf(sizes, count);
+    }
+
+
+    /*--- Public Static Methods ---*/
+
+    public static CooccurrenceGraph build(List<Event> events) {
+
+        // Intern Names, Giving Each Event Its Ids
+        List<String> names = new ArrayList<>();
+        List<Kind> kinds = new ArrayList<>();
+        List<Map<String, Integer>> ids = List.of(new HashMap<>(), new HashMap<>());
+        int[] eventStarts = new int[events.size() + 1];
+        int[] eventIds = new int[16];
+        int size = 0;
+        for (int x = 0; x < events.size(); x++) {
+            Event event = events.get(x);
+            eventStarts[x] = size;
+            if (event instanceof LiveEvent) {
+                for (Performer performer : ((LiveEvent) event).performers) {
+                    if (performer.name.isEmpty()) continue;
+                    if (size == eventIds.length) eventIds = Arrays.copyOf(eventIds, size * 2);
+                    size = addId(eventIds, size, eventStarts[x], intern(performer.name, Kind.PERFORMER, names, kinds, ids));
+                }
+            }
+            if (event instanceof CreditedEvent) {
+                for (String site : ((CreditedEvent) event).sites) {
+                    if (site.isEmpty()) continue;
+                    if (size == eventIds.length) eventIds = Arrays.copyOf(eventIds, size * 2);
+                    size = addId(eventIds, size, eventStarts[x], intern(site, Kind.SITE, names, kinds, ids));
+                }
+            }
+        }
+        eventStarts[events.size()] = size;
+
+        // Invert To Each Node's Events
+        int nodes = names.size();
+        int[] nodeStarts = new int[nodes + 1];
+        for (int x = 0; x < size; x++) nodeStarts[eventIds[x] + 1]++;
+        for (int x = 0; x < nodes; x++) nodeStarts[x + 1] += nodeStarts[x];
+        int[] nodeEvents = new int[size];
+        int[] positions = Arrays.copyOf(nodeStarts, nodes);
+        for (int x = 0; x < events.size(); x++) {
+            for (int y = eventStarts[x]; y < eventStarts[x + 1]; y++) nodeEvents[positions[eventIds[y]]++] = x;
+        }
+
+        // Count Pairs In Parallel Node Ranges
+        int[] nodeIds = eventIds;
+        int chunks = (nodes + CHUNK_NODES - 1) / CHUNK_NODES;
+        List<UpperEdges> ranges = IntStream.range(0, chunks).parallel()
+                .mapToObj(chunk -> countPairs(eventStarts, nodeIds, nodeStarts, nodeEvents,
+                        chunk * CHUNK_NODES, Math.min(nodes, (chunk + 1) * CHUNK_NODES)))
+                .collect(Collectors.toList());
+        return new CooccurrenceGraph(names, kinds, ids, ranges);
+    }
+
+
+    /*--- Public Methods ---*/
+
+    // Returns the node's id, or -1 if the name never appears.
+    public int getId(Kind kind, String name) {
+        Integer id = ids.get(kind.ordinal()).get(name);
+        return id == null ? -1 : id;
+    }
+
+    public String getName(int node) {
+        return names[node];
+    }
+
+    public Kind getKind(int node) {
+        return kinds[node];
+    }
+
+    public int getNodeCount() {
+        return names.length;
+    }
+
+    public int getEdgeCount() {
+        return edgeCount;
+    }
+
+    public int getDegree(int node) {
+        return offsets[node + 1] - offsets[node];
+    }
+
+    // Returns the k strongest pairs, heaviest first, ties broken by ids.
+    public List<Edge> getTopPairs(int k) {
+        Comparator<Edge> strongestFirst = Comparator.comparingInt((Edge edge) -> -edge.weight)
+                .thenComparingInt(edge -> edge.first).thenComparingInt(edge -> edge.second);
+        PriorityQueue<Edge> heap = new PriorityQueue<>(strongestFirst.reversed());
+        for (int node = 0; node < names.length && k > 0; node++) {
+            for (int x = offsets[node]; x < offsets[node + 1]; x++) {
+                if (neighbors[x] < node) continue;
+                if (heap.size() == k && weights[x] <= heap.peek().weight) continue;
+                heap.add(new Edge(node, neighbors[x], weights[x]));
+                if (heap.size() > k) heap.poll();
+            }
+        }
+        List<Edge> pairs = new ArrayList<>(heap);
+        pairs.sort(strongestFirst);
+        return pairs;
+    }
+
+    // Returns the node's k strongest neighbors, heaviest first.
+    public List<Edge> getNeighbors(int node, int k) {
+        Integer[] order = new Integer[getDegree(node)];
+        for (int x = 0; x < order.length; x++) order[x] = offsets[node] + x;
+        Arrays.sort(order, (a, b) -> weights[a] != weights[b] ? Integer.compare(weights[b], weights[a]) : Integer.compare(neighbors[a], neighbors[b]));
+        List<Edge> result = new ArrayList<>(Math.min(k, order.length));
+        for (int x = 0; x < Math.min(k, order.length); x++) result.add(new Edge(node, neighbors[order[x]], weights[order[x]]));
+        return result;
+    }
+
+    // Components are numbered from 0 in order of their lowest node id.
+    public int getComponent(int node) {
+        return components[node];
+    }
+
+    public int getComponentCount() {
+        return componentSizes.length;
+    }
+
+    public int getComponentSize(int component) {
+        return componentSizes[component];
+    }
+
+    // Returns the component ids of the n largest components, largest first.
+    public int[] getLargestComponents(int n) {
+        return IntStream.range(0, componentSizes.length).boxed()
+                .sorted((a, b) -> componentSizes[a] != componentSizes[b] ? Integer.compare(componentSizes[b], componentSizes[a]) : Integer.compare(a, b))
+                .limit(n).mapToInt(Integer::intValue).toArray();
+    }
+
+
+    /*--- Private Methods ---*/
+
+    private static int intern(String name, Kind kind, List<String> names, List<Kind> kinds, List<Map<String, Integer>> ids) {
+        Integer id = ids.get(kind.ordinal()).get(name);
+        if (id != null) return id;
+        names.add(name);
+        kinds.add(kind);
+        ids.get(kind.ordinal()).put(name, names.size() - 1);
+        return names.size() - 1;
+    }
+
+    // Adds an id to the event's list unless it's already there, as a name may repeat within an event.
+    private static int addId(int[] eventIds, int size, int eventStart, int id) {
+        for (int x = eventStart; x < size; x++) {
+            if (eventIds[x] == id) return size;
+        }
+        eventIds[size] = id;
+        return size + 1;
+    }
+
+    /* Note: Method counts, for each node in [fromNode, toNode), the events it shares with
+     *       each higher-numbered node. Counts are tallied in a dense array and cleared
+     *       through the list of nodes touched, so each node costs only its own pairs.
+     */
+    private static UpperEdges countPairs(int[] eventStarts, int[] eventIds, int[] nodeStarts, int[] nodeEvents,
+                                         int fromNode, int toNode) {
+        int[] counts = new int[nodeStarts.length - 1];
+        int[] touched = new int[16];
+        UpperEdges edges = new UpperEdges();
+        for (int node = fromNode; node < toNode; node++) {
+            int size = 0;
+            for (int x = nodeStarts[node]; x < nodeStarts[node + 1]; x++) {
+                int event = nodeEvents[x];
+                for (int y = eventStarts[event]; y < eventStarts[event + 1]; y++) {
+                    int other = eventIds[y];
+                    if (other <= node) continue;
+                    if (counts[other]++ == 0) {
+                        if (size == touched.length) touched = Arrays.copyOf(touched, size * 2);
+                        touched[size++] = other;
+                    }
+                }
+            }
+            Arrays.sort(touched, 0, size);
+            for (int x = 0; x < size; x++) {
+                edges.add(node, touched[x], counts[touched[x]]);
+                counts[touched[x]] = 0;
+            }
+        }
+        return edges;
+    }
+
+    private static int find(int[] parents, int node) {
+        while (parents[node] != node) {
+            parents[node] = parents[parents[node]];
+            node = parents[node];
+        }
+        return node;
+    }
+
+
+    /*--- Public Classes ---*/
+
+    public static class Edge {
+
+        public final int first;
+        public final int second;
+        public final int weight;
+
+        Edge(int first, int second, int weight) {
+            this.first = first;
+            this.second = second;
+            this.weight = weight;
+        }
+    }
+
+
+    /*--- Private Classes ---*/
+
+    // Edges from lower to higher-numbered nodes, in ascending order.
+    private static class UpperEdges {
+
+        int[] firsts = new int[64];
+        int[] seconds = new int[64];
+        int[] weights = new int[64];
+        int size;
+
+        void add(int first, int second, int weight) {
+            if (size == firsts.length) {
+                firsts = Arrays.copyOf(firsts, size * 2);
+                seconds = Arrays.copyOf(seconds, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            firsts[size] = first;
+            seconds[size] = second;
+            weights[size++] = weight;
+        }
+    }
+}
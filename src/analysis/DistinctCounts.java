@@ -0,0 +1,204 @@
+package analysis;
+
+import model.CreditedEvent;
+import model.Event;
+import model.LiveEvent;
+import model.Performer;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/* Event Grapher
+ * Christopher Cruzen
+ * 10.19.2026
+ *
+ *   DistinctCounts estimates how many different performers and sites appear in any span
+ * of time. Rather than a set of names per period, it keeps one HyperLogLog per category
+ * for every week, month and year that has events, a fixed 2 KB apiece. Distinct counts
+ * over a range merge the fewest whole periods that cover it: whole years, then whole
+ * months, then weeks, so a range's edges resolve to the weeks that contain them.
+ */
+
+public class DistinctCounts {
+
+
+    /*--- Variables ---*/
+
+    public enum Category {
+        PERFORMERS,
+        SITES
+    }
+
+    public enum Period {
+        WEEK,
+        MONTH,
+        YEAR
+    }
+
+    // Variables
+    private final ZoneId zone;
+    private final List<Map<Long, HyperLogLog>> sketches;
+    private final long[] dayPeriodStarts;
+    private long dayStart;
+    private long dayEnd;
+
+
+    /*--- Constructor ---*/
+
+    public DistinctCounts(ZoneId zone) {
+        this.zone = zone;
+        sketches = new ArrayList<>(Category.values().length * Period.values().length);
+        for (int x = 0; x < Category.values().length * Period.values().length; x++) sketches.add(new HashMap<>());
+        dayPeriodStarts = new long[Period.values().length];
+        dayEnd = Long.MIN_VALUE;
+    }
+
+
+    /*--- Public Methods ---*/
+
+    public void accept(Event event) {
+        boolean hasPerformers = event instanceof LiveEvent && !((LiveEvent) event).performers.isEmpty();
+        boolean hasSites = event instanceof CreditedEvent && !((CreditedEvent) event).sites.isEmpty();
+        if (!hasPerformers && !hasSites) return;
+
+        // Find The Event's Periods Once Per Day
+        long time = event.date.getTime();
+        if (time < dayStart || time >= dayEnd) moveToDay(time);
+        long[] starts = dayPeriodStarts;
+
+        if (hasPerformers) {
+            for (Performer performer : ((LiveEvent) event).performers) {
+                if (!performer.name.isEmpty()) add(Category.PERFORMERS, starts, performer.name);
+            }
+        }
+        if (hasSites) {
+            for (String site : ((CreditedEvent) event).sites) {
+                if (!site.isEmpty()) add(Category.SITES, starts, site);
+            }
+        }
+    }
+
+    // Returns new counts covering both inputs.
+    public DistinctCounts merge(DistinctCounts other) {
+        DistinctCounts merged = new DistinctCounts(zone);
+        for (DistinctCounts source : new DistinctCounts[]{this, other}) {
+            for (int x = 0; x < sketches.size(); x++) {
+                for (Map.Entry<Long, HyperLogLog> entry : source.sketches.get(x).entrySet()) {
+                    HyperLogLog sketch = merged.sketches.get(x).get(entry.getKey());
+                    if (sketch == null) {
+                        merged.sketches.get(x).put(entry.getKey(), entry.getValue().copy());
+                    } else {
+                        sketch.merge(entry.getValue());
+                    }
+                }
+            }
+        }
+        return merged;
+    }
+
+    // Estimates the distinct values seen in the period containing the given time.
+    public long count(Category category, Period period, long time) {
+        HyperLogLog sketch = getSketches(category, period).get(getPeriodStart(period, time));
+        return sketch == null ? 0 : sketch.estimate();
+    }
+
+    // Estimates the distinct values seen in [start, end), widened to whole weeks at the edges.
+    public long count(Category category, long start, long end) {
+        HyperLogLog union = new HyperLogLog();
+        long cursor = start;
+        while (cursor < end) {
+            long yearStart = getPeriodStart(Period.YEAR, cursor);
+            long yearEnd = getNextPeriodStart(Period.YEAR, yearStart);
+            long monthStart = getPeriodStart(Period.MONTH, cursor);
+            long monthEnd = getNextPeriodStart(Period.MONTH, monthStart);
+            if (yearStart == cursor && yearEnd <= end) {
+                mergeInto(union, category, Period.YEAR, yearStart);
+                cursor = yearEnd;
+            } else if (monthStart == cursor && monthEnd <= end) {
+                mergeInto(union, category, Period.MONTH, monthStart);
+                cursor = monthEnd;
+            } else {
+                long weekStart = getPeriodStart(Period.WEEK, cursor);
+                mergeInto(union, category, Period.WEEK, weekStart);
+                cursor = Math.min(getNextPeriodStart(Period.WEEK, weekStart), monthEnd);
+            }
+        }
+        return union.estimate();
+    }
+
+    // Returns the start of the latest period in [start, end) with any values, or -1 if none.
+    public long getLastPeriodStart(Period period, long start, long end) {
+        long last = -1;
+        for (Category category : Category.values()) {
+            for (long periodStart : getSketches(category, period).keySet()) {
+                if (periodStart >= start && periodStart < end) last = Math.max(last, periodStart);
+            }
+        }
+        return last;
+    }
+
+    // Weeks start on Monday.
+    public long getPeriodStart(Period period, long time) {
+        LocalDate date = Instant.ofEpochMilli(time).atZone(zone).toLocalDate();
+        switch (period) {
+            case WEEK:
+                date = date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                break;
+            case MONTH:
+                date = date.withDayOfMonth(1);
+                break;
+            default:
+                date = date.withDayOfYear(1);
+        }
+        return date.atStartOfDay(zone).toInstant().toEpochMilli();
+    }
+
+
+    /*--- Private Methods ---*/
+
+    private long getNextPeriodStart(Period period, long periodStart) {
+        LocalDate date = Instant.ofEpochMilli(periodStart).atZone(zone).toLocalDate();
+        switch (period) {
+            case WEEK:
+                date = date.plusWeeks(1);
+                break;
+            case MONTH:
+                date = date.plusMonths(1);
+                break;
+            default:
+                date = date.plusYears(1);
+        }
+        return date.atStartOfDay(zone).toInstant().toEpochMilli();
+    }
+
+    // Events mostly arrive in time order, so the periods of one day are found once for all its events.
+    private void moveToDay(long time) {
+        LocalDate date = Instant.ofEpochMilli(time).atZone(zone).toLocalDate();
+        dayStart = date.atStartOfDay(zone).toInstant().toEpochMilli();
+        dayEnd = date.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+        for (Period period : Period.values()) dayPeriodStarts[period.ordinal()] = getPeriodStart(period, time);
+    }
+
+    private void add(Category category, long[] starts, String value) {
+        long hash = HyperLogLog.hash(value);
+        for (Period period : Period.values()) {
+            getSketches(category, period).computeIfAbsent(starts[period.ordinal()], start -> new HyperLogLog()).addHash(hash);
+        }
+    }
+
+    private void mergeInto(HyperLogLog union, Category category, Period period, long periodStart) {
+        HyperLogLog sketch = getSketches(category, period).get(periodStart);
+        if (sketch != null) union.merge(sketch);
+    }
+
+    private Map<Long, HyperLogLog> getSketches(Category category, Period period) {
+        return sketches.get((category.ordinal() * Period.values().length) + period.ordinal());
+    }
+}
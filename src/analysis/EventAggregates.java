@@ -0,0 +1,295 @@
+package analysis;
+
+import model.types.EventType;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+/* Event Grapher
+ * Christopher Cruzen
+ * 10.19.2026
+ *
+ *   EventAggregates holds every number the infographic draws: totals, per-day counts
+ * for the annual grid, hour-of-week, day-of-week and hour-of-day buckets, gaps, the
+ * peak day and week, and unusual bursts and droughts. It's filled in a single
+ * chronological pass, either all at once through compute() or incrementally through
+ * accept().
+ *
+ *   Calendar fields are resolved once per distinct local day and hour rather than
+ * once per event, so a pass costs little more than reading the timestamps.
+ */
+
+public class EventAggregates {
+
+
+    /*--- Variables ---*/
+
+    // Constants
+    public static final int TYPES = EventType.values().length;
+    public static final long WEEK_MILLIS = 7L * 24 * 60 * 60 * 1000;
+    private static final int CANCEL_CHECK_INTERVAL = 1 << 16;
+
+    // Layout
+    private final ZoneId zone;
+    private final int year;
+    private final int daysInYear;
+
+    // Counts
+    private int totalCount;
+    private final int[] typeCounts;
+    private final int[] dayCounts;
+    private final int[][] dayTypeCounts;
+    private final int[][][] weekHourCounts;
+    private final int[][] weekdayCounts;
+    private final int[] hourCounts;
+    private final GapAnalyzer gapAnalyzer;
+    private final AnomalyDetector anomalyDetector;
+
+    // Peak Day State
+    private int peakDayCount;
+    private long peakDayStart;
+    private int currentDayCount;
+
+    // Peak Week State (Window Start Times Still Open)
+    private long[] windowStarts;
+    private int windowHead;
+    private int windowSize;
+    private int peakWeekCount;
+    private long peakWeekStart;
+
+    // Calendar Cache
+    private final CalendarCursor calendar;
+
+
+    /*--- Constructor ---*/
+
+    // Aggregates for an annual grid covering the given calendar year.
+    public EventAggregates(int year) {
+        this(year, ZoneId.systemDefault());
+    }
+
+    public EventAggregates(int year, ZoneId zone) {
+        this.zone = zone;
+        this.year = year;
+        this.daysInYear = LocalDate.of(year, 1, 1).lengthOfYear();
+
+        typeCounts = new int[TYPES];
+        dayCounts = new int[daysInYear];
+        dayTypeCounts = new int[TYPES][daysInYear];
+        weekHourCounts = new int[TYPES][7][24];
+        weekdayCounts = new int[TYPES][7];
+        hourCounts = new int[24];
+        gapAnalyzer = new GapAnalyzer();
+        anomalyDetector = new AnomalyDetector(zone);
+
+        windowStarts = new long[64];
+        calendar = new CalendarCursor(year, zone);
+    }
+
+
+    /*--- Public Static Methods ---*/
+
+    // Aggregates every event in the (chronologically sorted) columns.
+    public static EventAggregates compute(int year, long[] timestamps, byte[] types) {
+        EventAggregates aggregates = new EventAggregates(year);
+        for (int x = 0; x < timestamps.length; x++) {
+            aggregates.accept(timestamps[x], types[x]);
+        }
+        return aggregates;
+    }
+
+    /* Note: Method aggregates only the events at the given ascending positions. It checks
+     *       for thread interruption as it goes and returns null if interrupted, so callers
+     *       can abandon stale background computations.
+     */
+    public static EventAggregates compute(int year, long[] timestamps, byte[] types, int[] positions) {
+        EventAggregates aggregates = new EventAggregates(year);
+        for (int x = 0; x < positions.length; x++) {
+            if ((x % CANCEL_CHECK_INTERVAL) == 0 && Thread.currentThread().isInterrupted()) return null;
+            int position = positions[x];
+            aggregates.accept(timestamps[position], types[position]);
+        }
+        return aggregates;
+    }
+
+
+    /*--- Public Accumulation Methods ---*/
+
+    public void accept(long timestamp, EventType type) {
+        accept(timestamp, type.ordinal());
+    }
+
+    public void accept(long timestamp, int type) {
+        long previousDayStart = calendar.getDayStart();
+        if (calendar.moveTo(timestamp)) {
+            closeDay(previousDayStart);
+        }
+        int dayOfYear = calendar.getDayOfYear();
+        int dayOfWeek = calendar.getDayOfWeek();
+        int hourOfDay = calendar.getHourOfDay();
+
+        // Totals & Buckets
+        totalCount++;
+        typeCounts[type]++;
+        if (dayOfYear >= 0) {
+            dayCounts[dayOfYear]++;
+            dayTypeCounts[type][dayOfYear]++;
+        }
+        weekHourCounts[type][dayOfWeek][hourOfDay]++;
+        weekdayCounts[type][dayOfWeek]++;
+        hourCounts[hourOfDay]++;
+        gapAnalyzer.accept(timestamp, type);
+        anomalyDetector.accept(timestamp);
+
+        // Peak Day
+        currentDayCount++;
+
+        // Peak Week - Close Windows That No Longer Contain This Event
+        while (windowSize > 0 && windowStarts[windowHead] + WEEK_MILLIS <= timestamp) {
+            if (windowSize > peakWeekCount) {
+                peakWeekCount = windowSize;
+                peakWeekStart = windowStarts[windowHead];
+            }
+            windowHead = (windowHead + 1) % windowStarts.length;
+            windowSize--;
+        }
+        if (windowSize == windowStarts.length) growWindow();
+        windowStarts[(windowHead + windowSize) % windowStarts.length] = timestamp;
+        windowSize++;
+    }
+
+    // Returns an independent copy that can keep accumulating separately.
+    public EventAggregates copy() {
+        EventAggregates copy = new EventAggregates(year, zone);
+        copy.totalCount = totalCount;
+        System.arraycopy(typeCounts, 0, copy.typeCounts, 0, TYPES);
+        System.arraycopy(dayCounts, 0, copy.dayCounts, 0, daysInYear);
+        System.arraycopy(hourCounts, 0, copy.hourCounts, 0, 24);
+        for (int type = 0; type < TYPES; type++) {
+            System.arraycopy(dayTypeCounts[type], 0, copy.dayTypeCounts[type], 0, daysInYear);
+            System.arraycopy(weekdayCounts[type], 0, copy.weekdayCounts[type], 0, 7);
+            for (int day = 0; day < 7; day++) {
+                System.arraycopy(weekHourCounts[type][day], 0, copy.weekHourCounts[type][day], 0, 24);
+            }
+        }
+        copy.gapAnalyzer.copyFrom(gapAnalyzer);
+        copy.anomalyDetector.copyFrom(anomalyDetector);
+        copy.peakDayCount = peakDayCount;
+        copy.peakDayStart = peakDayStart;
+        copy.currentDayCount = currentDayCount;
+        copy.windowStarts = windowStarts.clone();
+        copy.windowHead = windowHead;
+        copy.windowSize = windowSize;
+        copy.peakWeekCount = peakWeekCount;
+        copy.peakWeekStart = peakWeekStart;
+        copy.calendar.copyFrom(calendar);
+        return copy;
+    }
+
+
+    /*--- Public Access Methods ---*/
+
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    public int getDaysInYear() {
+        return daysInYear;
+    }
+
+    public int getTotalCount() {
+        return totalCount;
+    }
+
+    public int getTypeCount(EventType type) {
+        return typeCounts[type.ordinal()];
+    }
+
+    // Index 0 is January 1st of the aggregated year.
+    public int getDayCount(int dayOfYear) {
+        return dayCounts[dayOfYear];
+    }
+
+    public int getDayTypeCount(EventType type, int dayOfYear) {
+        return dayTypeCounts[type.ordinal()][dayOfYear];
+    }
+
+    // Day 0 is Monday; hour 0 is midnight.
+    public int getWeekHourCount(EventType type, int dayOfWeek, int hour) {
+        return weekHourCounts[type.ordinal()][dayOfWeek][hour];
+    }
+
+    // Day 0 is Monday.
+    public int getWeekdayCount(EventType type, int dayOfWeek) {
+        return weekdayCounts[type.ordinal()][dayOfWeek];
+    }
+
+    // Hour 0 is midnight.
+    public int getHourCount(int hour) {
+        return hourCounts[hour];
+    }
+
+    public GapAnalyzer getGapAnalyzer() {
+        return gapAnalyzer;
+    }
+
+    // Returns the bursts & droughts found so far, oldest first.
+    public List<AnomalyDetector.Anomaly> getAnomalies() {
+        return anomalyDetector.getAnomalies();
+    }
+
+    public int getPeakDayCount() {
+        return currentDayCount > peakDayCount ? currentDayCount : peakDayCount;
+    }
+
+    // Returns the local midnight beginning the peak day.
+    public long getPeakDayStart() {
+        return currentDayCount > peakDayCount ? calendar.getDayStart() : peakDayStart;
+    }
+
+    public int getPeakWeekCount() {
+        return windowSize > peakWeekCount ? windowSize : peakWeekCount;
+    }
+
+    // Returns the time of the event that begins the busiest seven-day window.
+    public long getPeakWeekStart() {
+        return windowSize > peakWeekCount ? windowStarts[windowHead] : peakWeekStart;
+    }
+
+    public double getDailyAverage() {
+        return totalCount / (double) daysInYear;
+    }
+
+    public double getWeeklyAverage() {
+        return totalCount / (daysInYear == 365 ? 52.0 : 52.2857); // 52 Weeks + 2/7 Extra
+    }
+
+    public double getTypePercent(EventType type) {
+        return totalCount == 0 ? 0 : typeCounts[type.ordinal()] / (double) totalCount;
+    }
+
+
+    /*--- Private Methods ---*/
+
+    private void closeDay(long dayStart) {
+        if (currentDayCount > peakDayCount) {
+            peakDayCount = currentDayCount;
+            peakDayStart = dayStart;
+        }
+        currentDayCount = 0;
+    }
+
+    private void growWindow() {
+        long[] grown = new long[windowStarts.length * 2];
+        for (int x = 0; x < windowSize; x++) {
+            grown[x] = windowStarts[(windowHead + x) % windowStarts.length];
+        }
+        windowStarts = grown;
+        windowHead = 0;
+    }
+}
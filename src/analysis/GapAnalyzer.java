@@ -0,0 +1,142 @@
+package analysis;
+
+import model.types.EventType;
+
+import java.util.Arrays;
+
+/* Event Grapher
+ * Christopher Cruzen
+ * 10.19.2026
+ *
+ *   GapAnalyzer measures the time between events in a single pass over their
+ * timestamps. It tracks three families of gap distributions:
+ *
+ *   - Overall:   Gap between each event and the event before it.
+ *   - By Type:   Overall gaps, split by the type of the event that ends the gap.
+ *   - Same Type: Gap between each event and the previous event of its own type.
+ *
+ *   Events may be fed incrementally through accept(), so the distributions can
+ * be kept current as new events arrive. Timestamps are expected in chronological
+ * order; an event older than its predecessor is counted but contributes no gap.
+ */
+
+public class GapAnalyzer {
+
+
+    /*--- Variables ---*/
+
+    // Constants
+    private static final int TYPES = EventType.values().length;
+
+    // Variables
+    private final GapDistribution overall;
+    private final GapDistribution[] byType;
+    private final GapDistribution[] sameType;
+    private final long[] lastTimestampByType;
+    private final int[] lastIndexByType;
+    private long lastTimestamp;
+    private int eventCount;
+    private int outOfOrderCount;
+
+
+    /*--- Constructor ---*/
+
+    public GapAnalyzer() {
+        overall = new GapDistribution();
+        byType = new GapDistribution[TYPES];
+        sameType = new GapDistribution[TYPES];
+        for (int x = 0; x < TYPES; x++) {
+            byType[x] = new GapDistribution();
+            sameType[x] = new GapDistribution();
+        }
+        lastTimestampByType = new long[TYPES];
+        lastIndexByType = new int[TYPES];
+        Arrays.fill(lastIndexByType, -1);
+        eventCount = 0;
+        outOfOrderCount = 0;
+    }
+
+
+    /*--- Public Static Methods ---*/
+
+    // Analyzes parallel arrays of timestamps and type ordinals in one pass.
+    public static GapAnalyzer analyze(long[] timestamps, byte[] types) {
+        GapAnalyzer analyzer = new GapAnalyzer();
+        for (int x = 0; x < timestamps.length; x++) {
+            analyzer.accept(timestamps[x], types[x]);
+        }
+        return analyzer;
+    }
+
+
+    /*--- Public Accumulation Methods ---*/
+
+    public void accept(long timestamp, EventType type) {
+        accept(timestamp, type.ordinal());
+    }
+
+    public void accept(long timestamp, int type) {
+        int index = eventCount++;
+
+        // Overall & By Type
+        if (index > 0) {
+            long gap = timestamp - lastTimestamp;
+            if (gap >= 0) {
+                overall.add(gap, lastTimestamp, index - 1, index);
+                byType[type].add(gap, lastTimestamp, index - 1, index);
+            } else {
+                outOfOrderCount++;
+            }
+        }
+
+        // Same Type
+        if (lastIndexByType[type] >= 0) {
+            long gap = timestamp - lastTimestampByType[type];
+            if (gap >= 0) {
+                sameType[type].add(gap, lastTimestampByType[type], lastIndexByType[type], index);
+            }
+        }
+
+        // Advance State
+        lastTimestamp = timestamp;
+        lastTimestampByType[type] = timestamp;
+        lastIndexByType[type] = index;
+    }
+
+    // Replaces this analyzer's state with a copy of another's.
+    public void copyFrom(GapAnalyzer other) {
+        overall.copyFrom(other.overall);
+        for (int x = 0; x < TYPES; x++) {
+            byType[x].copyFrom(other.byType[x]);
+            sameType[x].copyFrom(other.sameType[x]);
+        }
+        System.arraycopy(other.lastTimestampByType, 0, lastTimestampByType, 0, TYPES);
+        System.arraycopy(other.lastIndexByType, 0, lastIndexByType, 0, TYPES);
+        lastTimestamp = other.lastTimestamp;
+        eventCount = other.eventCount;
+        outOfOrderCount = other.outOfOrderCount;
+    }
+
+
+    /*--- Public Access Methods ---*/
+
+    public GapDistribution getOverall() {
+        return overall;
+    }
+
+    public GapDistribution getByType(EventType type) {
+        return byType[type.ordinal()];
+    }
+
+    public GapDistribution getSameType(EventType type) {
+        return sameType[type.ordinal()];
+    }
+
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    public int getOutOfOrderCount() {
+        return outOfOrderCount;
+    }
+}
@@ -0,0 +1,217 @@
+package analysis;
+
+/* Event Grapher
+ * Christopher Cruzen
+ * 10.19.2026
+ *
+ *   GapDistribution accumulates the time gaps of a single event series. It keeps
+ * exact extremes (with the positions of the events that bound them), a running
+ * mean, and a log-scaled histogram from which percentiles are estimated.
+ *
+ * Note: Histogram buckets split each power of two into eight linear sub-buckets,
+ *       so percentile estimates are within ~12.5% of the true gap length.
+ */
+
+public class GapDistribution {
+
+
+    /*--- Variables ---*/
+
+    // Constants
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = 64 * SUB_BUCKETS;
+
+    // Variables
+    private final int[] histogram;
+    private long count;
+    private double sum;
+    private long min;
+    private int minStartIndex;
+    private int minEndIndex;
+    private long minStartTime;
+    private long max;
+    private int maxStartIndex;
+    private int maxEndIndex;
+    private long maxStartTime;
+
+
+    /*--- Constructor ---*/
+
+    public GapDistribution() {
+        histogram = new int[BUCKETS];
+        count = 0;
+        sum = 0;
+        min = Long.MAX_VALUE;
+        max = Long.MIN_VALUE;
+        minStartIndex = minEndIndex = -1;
+        maxStartIndex = maxEndIndex = -1;
+    }
+
+
+    /*--- Public Accumulation Methods ---*/
+
+    // Records a gap between the events at startIndex and endIndex.
+    public void add(long gap, long startTime, int startIndex, int endIndex) {
+        count++;
+        sum += gap;
+        histogram[getBucket(gap)]++;
+
+        if (gap < min) {
+            min = gap;
+            minStartTime = startTime;
+            minStartIndex = startIndex;
+            minEndIndex = endIndex;
+        }
+        if (gap > max) {
+            max = gap;
+            maxStartTime = startTime;
+            maxStartIndex = startIndex;
+            maxEndIndex = endIndex;
+        }
+    }
+
+    public void merge(GapDistribution other) {
+        if (other.count == 0) return;
+        if (other.min < min) {
+            min = other.min;
+            minStartTime = other.minStartTime;
+            minStartIndex = other.minStartIndex;
+            minEndIndex = other.minEndIndex;
+        }
+        if (other.max > max) {
+            max = other.max;
+            maxStartTime = other.maxStartTime;
+            maxStartIndex = other.maxStartIndex;
+            maxEndIndex = other.maxEndIndex;
+        }
+        for (int x = 0; x < BUCKETS; x++) histogram[x] += other.histogram[x];
+        count += other.count;
+        sum += other.sum;
+    }
+
+    // Replaces this distribution's state with a copy of another's.
+    public void copyFrom(GapDistribution other) {
+        System.arraycopy(other.histogram, 0, histogram, 0, BUCKETS);
+        count = other.count;
+        sum = other.sum;
+        min = other.min;
+        minStartIndex = other.minStartIndex;
+        minEndIndex = other.minEndIndex;
+        minStartTime = other.minStartTime;
+        max = other.max;
+        maxStartIndex = other.maxStartIndex;
+        maxEndIndex = other.maxEndIndex;
+        maxStartTime = other.maxStartTime;
+    }
+
+
+    /*--- Public Access Methods ---*/
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        return count == 0 ? 0 : sum / count;
+    }
+
+    public long getMin() {
+        return count == 0 ? 0 : min;
+    }
+
+    public long getMinStartTime() {
+        return minStartTime;
+    }
+
+    public long getMinEndTime() {
+        return minStartTime + getMin();
+    }
+
+    public int getMinStartIndex() {
+        return minStartIndex;
+    }
+
+    public int getMinEndIndex() {
+        return minEndIndex;
+    }
+
+    public long getMax() {
+        return count == 0 ? 0 : max;
+    }
+
+    public long getMaxStartTime() {
+        return maxStartTime;
+    }
+
+    public long getMaxEndTime() {
+        return maxStartTime + getMax();
+    }
+
+    public int getMaxStartIndex() {
+        return maxStartIndex;
+    }
+
+    public int getMaxEndIndex() {
+        return maxEndIndex;
+    }
+
+    public long getP50() {
+        return getPercentile(0.50);
+    }
+
+    public long getP90() {
+        return getPercentile(0.90);
+    }
+
+    public long getP99() {
+        return getPercentile(0.99);
+    }
+
+    // Returns the estimated gap below which the given fraction (0-1) of gaps fall.
+    public long getPercentile(double fraction) {
+        if (count == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(fraction * count));
+        long seen = 0;
+        for (int x = 0; x < BUCKETS; x++) {
+            seen += histogram[x];
+            if (seen >= rank) {
+                long midpoint = getBucketLowerBound(x) + (getBucketWidth(x) / 2);
+                return Math.max(min, Math.min(max, midpoint));
+            }
+        }
+        return max;
+    }
+
+    // Returns a copy of the raw log-scaled histogram counts.
+    public int[] getHistogram() {
+        return histogram.clone();
+    }
+
+    public static long getBucketLowerBound(int bucket) {
+        int exponent = bucket >> SUB_BUCKET_BITS;
+        int sub = bucket & (SUB_BUCKETS - 1);
+        if (exponent < SUB_BUCKET_BITS) return bucket;
+        return (1L << exponent) + ((long) sub << (exponent - SUB_BUCKET_BITS));
+    }
+
+
+    /*--- Private Methods ---*/
+
+    private static int getBucket(long gap) {
+        if (gap < SUB_BUCKETS) return (int) Math.max(0, gap);
+        int exponent = 63 - Long.numberOfLeadingZeros(gap);
+        int sub = (int) ((gap >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1));
+        return (exponent << SUB_BUCKET_BITS) + sub;
+    }
+
+    private static long getBucketWidth(int bucket) {
+        int exponent = bucket >> SUB_BUCKET_BITS;
+        if (exponent < SUB_BUCKET_BITS) return 1;
+        return 1L << (exponent - SUB_BUCKET_BITS);
+    }
+}
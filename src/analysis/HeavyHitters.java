@@ -0,0 +1,236 @@
+package analysis;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/* Event Grapher
+ * Christopher Cruzen
+ * 10.19.2026
+ *
+ *   HeavyHitters estimates the most frequent values in a stream using the Space-Saving
+ * algorithm, in memory fixed by its capacity rather than by the number of distinct values.
+ * It keeps one counter per tracked value in a min-heap. An untracked value takes over the
+ * smallest counter, inheriting that count as its possible overestimate.
+ *
+ *   The guarantees: every value seen more than total / capacity times is tracked, and each
+ * tracked count overestimates the true count by at most its error, which never exceeds
+ * total / capacity. Until the first value is evicted, or always in exact mode, counts are
+ * exact. Sketches of separate streams merge into a sketch of the combined stream.
+ */
+
+public class HeavyHitters {
+
+
+    /*--- Variables ---*/
+
+    // Constants
+    public static final int EXACT = Integer.MAX_VALUE;
+    private static final int INITIAL_SLOTS = 16;
+
+    // Variables
+    private final int capacity;
+    private final Map<String, Integer> positions;
+    private String[] values;
+    private long[] counts;
+    private long[] errors;
+    private int size;
+    private long total;
+    private boolean evicted;
+
+
+    /*--- Constructor ---*/
+
+    // Tracks at most capacity values; EXACT tracks every value.
+    public HeavyHitters(int capacity) {
+        if (capacity < 1) throw new IllegalArgumentException("Capacity must be positive.");
+        this.capacity = capacity;
+        int slots = Math.min(capacity, INITIAL_SLOTS);
+        positions = new HashMap<>(slots * 2);
+        values = new String[slots];
+        counts = new long[slots];
+        errors = new long[slots];
+    }
+
+    public static HeavyHitters exact() {
+        return new HeavyHitters(EXACT);
+    }
+
+
+    /*--- Public Methods ---*/
+
+    public void offer(String value) {
+        offer(value, 1);
+    }
+
+    public void offer(String value, long weight) {
+        total += weight;
+        Integer position = positions.get(value);
+
+        // Tracked Value
+        if (position != null) {
+            counts[position] += weight;
+            siftDown(position);
+            return;
+        }
+
+        // Free Counter
+        if (size < capacity) {
+            if (size == values.length) grow();
+            values[size] = value;
+            counts[size] = weight;
+            errors[size] = 0;
+            positions.put(value, size);
+            siftUp(size++);
+            return;
+        }
+
+        // Take Over The Smallest Counter
+        evicted = true;
+        positions.remove(values[0]);
+        values[0] = value;
+        errors[0] = counts[0];
+        counts[0] += weight;
+        positions.put(value, 0);
+        siftDown(0);
+    }
+
+    /* Note: Returns a new sketch of both streams combined, tracking at most capacity
+     *       values. A value missing from a full sketch is credited with that sketch's
+     *       smallest count, as both a count and an error, so the guarantees still hold.
+     */
+    public HeavyHitters merge(HeavyHitters other, int capacity) {
+        long floor = evicted ? counts[0] : 0;
+        long otherFloor = other.evicted ? other.counts[0] : 0;
+
+        // Combine Counters
+        Map<String, long[]> combined = new HashMap<>((size + other.size) * 2);
+        for (int x = 0; x < size; x++) {
+            combined.put(values[x], new long[]{counts[x] + otherFloor, errors[x] + otherFloor});
+        }
+        for (int x = 0; x < other.size; x++) {
+            long[] entry = combined.get(other.values[x]);
+            if (entry == null) {
+                combined.put(other.values[x], new long[]{other.counts[x] + floor, other.errors[x] + floor});
+            } else {
+                entry[0] += other.counts[x] - otherFloor;
+                entry[1] += other.errors[x] - otherFloor;
+            }
+        }
+
+        // Keep The Largest
+        List<Map.Entry<String, long[]>> entries = new ArrayList<>(combined.entrySet());
+        entries.sort((a, b) -> Long.compare(b.getValue()[0], a.getValue()[0]));
+        HeavyHitters merged = new HeavyHitters(capacity);
+        int kept = Math.min(capacity, entries.size());
+        for (int x = 0; x < kept; x++) {
+            Map.Entry<String, long[]> entry = entries.get(x);
+            if (merged.size == merged.values.length) merged.grow();
+            merged.values[merged.size] = entry.getKey();
+            merged.counts[merged.size] = entry.getValue()[0];
+            merged.errors[merged.size] = entry.getValue()[1];
+            merged.positions.put(entry.getKey(), merged.size);
+            merged.siftUp(merged.size++);
+        }
+        merged.total = total + other.total;
+        merged.evicted = evicted || other.evicted || kept < entries.size();
+        return merged;
+    }
+
+    // Returns up to n tracked values, most frequent first.
+    public List<Entry> top(int n) {
+        Integer[] order = new Integer[size];
+        for (int x = 0; x < size; x++) order[x] = x;
+        Arrays.sort(order, (a, b) -> {
+            int result = Long.compare(counts[b], counts[a]);
+            return result != 0 ? result : values[a].compareTo(values[b]);
+        });
+        List<Entry> entries = new ArrayList<>(Math.min(n, size));
+        for (int x = 0; x < Math.min(n, size); x++) {
+            entries.add(new Entry(values[order[x]], counts[order[x]], errors[order[x]]));
+        }
+        return entries;
+    }
+
+    // True while every count is exact.
+    public boolean isExact() {
+        return !evicted;
+    }
+
+    // Sum of every offered weight.
+    public long getTotal() {
+        return total;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int size() {
+        return size;
+    }
+
+
+    /*--- Private Heap Methods ---*/
+
+    private void siftUp(int position) {
+        while (position > 0) {
+            int parent = (position - 1) / 2;
+            if (counts[parent] <= counts[position]) return;
+            swap(position, parent);
+            position = parent;
+        }
+    }
+
+    private void siftDown(int position) {
+        while (true) {
+            int smallest = position;
+            int left = (2 * position) + 1;
+            int right = left + 1;
+            if (left < size && counts[left] < counts[smallest]) smallest = left;
+            if (right < size && counts[right] < counts[smallest]) smallest = right;
+            if (smallest == position) return;
+            swap(position, smallest);
+            position = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        String value = values[a];
+        values[a] = values[b];
+        values[b] = value;
+        long count = counts[a];
+        counts[a] = counts[b];
+        counts[b] = count;
+        long error = errors[a];
+        errors[a] = errors[b];
+        errors[b] = error;
+        positions.put(values[a], a);
+        positions.put(values[b], b);
+    }
+
+    private void grow() {
+        int slots = (int) Math.min(capacity, values.length * 2L);
+        values = Arrays.copyOf(values, slots);
+        counts = Arrays.copyOf(counts, slots);
+        errors = Arrays.copyOf(errors, slots);
+    }
+
+
+    /*--- Public Classes ---*/
+
+    public static class Entry {
+
+        public final String value;
+        public final long count;
+        public final long error;
+
+        Entry(String value, long count, long error) {
+            this.value = value;
+            this.count = count;
+            this.error = error;
+        }
+    }
+}
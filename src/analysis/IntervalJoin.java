@@ -0,0 +1,78 @@
+package analysis;
+
+/* Event Grapher
+ * Christopher Cruzen
+ * 10.19.2026
+ *
+ *   IntervalJoin pairs the events of two sorted series that fall within a time window
+ * of each other, such as solo events within 15 minutes of a shared one. Both series are
+ * walked once, front to back: as the left event advances, the window's start on the right
+ * only ever moves forward, so a join costs O(N + M) plus the pairs it reports.
+ */
+
+public class IntervalJoin {
+
+
+    /*--- Interfaces ---*/
+
+    public interface PairSink {
+        void accept(int leftIndex, int rightIndex);
+    }
+
+
+    /*--- Public Static Methods ---*/
+
+    // Reports every pair with |left - right| <= window, in left then right order, and returns their number.
+    public static long join(long[] left, long[] right, long window, PairSink sink) {
+        long pairs = 0;
+        int windowStart = 0;
+        for (int x = 0; x < left.length; x++) {
+            while (windowStart < right.length && right[windowStart] < left[x] - window) windowStart++;
+            for (int y = windowStart; y < right.length && right[y] <= left[x] + window; y++) {
+                if (sink != null) sink.accept(x, y);
+                pairs++;
+            }
+        }
+        return pairs;
+    }
+
+    // Counts the left events with at least one right event within the window.
+    public static int countMatched(long[] left, long[] right, long window) {
+        int matched = 0;
+        int windowStart = 0;
+        for (long time : left) {
+            while (windowStart < right.length && right[windowStart] < time - window) windowStart++;
+            if (windowStart < right.length && right[windowStart] <= time + window) matched++;
+        }
+        return matched;
+    }
+
+    // Returns the index of the nearest right event for each left event, or -1 when right is empty.
+    public static int[] nearest(long[] left, long[] right) {
+        int[] nearest = new int[left.length];
+        int position = 0;
+        for (int x = 0; x < left.length; x++) {
+            while (position + 1 < right.length && right[position + 1] <= left[x]) position++;
+            if (right.length == 0) {
+                nearest[x] = -1;
+            } else if (position + 1 < right.length
+                    && Math.abs(right[position + 1] - left[x]) < Math.abs(left[x] - right[position])) {
+                nearest[x] = position + 1;
+            } else {
+                nearest[x] = position;
+            }
+        }
+        return nearest;
+    }
+
+    // Merges sorted series into one sorted series in a single pass.
+    public static long[] union(long[] first, long[] second) {
+        long[] merged = new long[first.length + second.length];
+        int x = 0;
+        int y = 0;
+        for (int z = 0; z < merged.length; z++) {
+            merged[z] = (y >= second.length || (x < first.length && first[x] <= second[y])) ? first[x++] : second[y++];
+        }
+        return merged;
+    }
+}
@@ -0,0 +1,86 @@
+package analysis;
+
+import model.CreditedEvent;
+import model.Event;
+import model.LiveEvent;
+import model.Performer;
+import model.VirtualEvent;
+
+/* Event Grapher
+ * Christopher Cruzen
+ * 10.19.2026
+ *
+ *   Rankings keeps a HeavyHitters sketch of the most frequent headliners, performers,
+ * sites and platforms. It's fed event by event as input is read and never keeps the
+ * events themselves, so the rankings cost the same memory for a month or a decade.
+ */
+
+public class Rankings {
+
+
+    /*--- Variables ---*/
+
+    public enum Category {
+        HEADLINERS("Headliners"),
+        PERFORMERS("Performers"),
+        SITES("Sites"),
+        PLATFORMS("Platforms");
+
+        public final String title;
+
+        Category(String title) {
+            this.title = title;
+        }
+    }
+
+    // Constants
+    public static final int DEFAULT_CAPACITY = 256;
+
+    // Variables
+    private final HeavyHitters[] sketches;
+
+
+    /*--- Constructor ---*/
+
+    // Tracks at most capacity values per category; HeavyHitters.EXACT tracks every value.
+    public Rankings(int capacity) {
+        sketches = new HeavyHitters[Category.values().length];
+        for (int x = 0; x < sketches.length; x++) sketches[x] = new HeavyHitters(capacity);
+    }
+
+    private Rankings(HeavyHitters[] sketches) {
+        this.sketches = sketches;
+    }
+
+
+    /*--- Public Methods ---*/
+
+    public void accept(Event event) {
+        for (String headliner : event.headliners) offer(Category.HEADLINERS, headliner);
+        if (event instanceof LiveEvent) {
+            for (Performer performer : ((LiveEvent) event).performers) offer(Category.PERFORMERS, performer.name);
+        }
+        if (event instanceof CreditedEvent) {
+            for (String site : ((CreditedEvent) event).sites) offer(Category.SITES, site);
+        }
+        if (event instanceof VirtualEvent) offer(Category.PLATFORMS, ((VirtualEvent) event).platform);
+    }
+
+    // Returns new rankings of both inputs combined.
+    public Rankings merge(Rankings other, int capacity) {
+        HeavyHitters[] merged = new HeavyHitters[sketches.length];
+        for (int x = 0; x < sketches.length; x++) merged[x] = sketches[x].merge(other.sketches[x], capacity);
+        return new Rankings(merged);
+    }
+
+    public HeavyHitters get(Category category) {
+        return sketches[category.ordinal()];
+    }
+
+
+    /*--- Private Methods ---*/
+
+    private void offer(Category category, String value) {
+        if (value != null && !value.isEmpty()) sketches[category.ordinal()].offer(value);
+    }
+}
@@ -0,0 +1,148 @@
+package analysis;
+
+import model.types.EventType;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Arrays;
+
+/* Event Grapher
+ * Christopher Cruzen
+ * 10.19.2026
+ *
+ *   RollingCounts answers "how many events in the N days ending on this date" in constant
+ * time. It keeps, per event type, a running total of events through each local day of its
+ * range, built once in a single pass. Any window's sum is then the difference of two
+ * running totals, whatever its length or end date.
+ *
+ *   Windows are clipped to start no earlier than the first counted day, and averages
+ * divide by the days kept, so a 90-day average on the first day of data isn't diluted by
+ * days before it. Days after the last counted day are empty, not unknown, so averages
+ * past the last event fall toward zero.
+ *
+ * Note: Only the latest MAX_DAYS days are counted, so one badly dated event can't make
+ *       the counts span millennia.
+ */
+
+public class RollingCounts {
+
+
+    /*--- Variables ---*/
+
+    // Constants
+    public static final int[] STANDARD_WINDOWS = {7, 30, 90};
+    private static final int TYPES = EventType.values().length;
+    private static final int MAX_DAYS = 1 << 16;
+
+    // Variables
+    private final long firstDay;
+    private final int days;
+    private final int[][] prefixSums;
+
+
+    /*--- Constructor ---*/
+
+    // prefixSums[type][x] holds the type's events on the first x days.
+    private RollingCounts(long firstDay, int days, int[][] prefixSums) {
+        this.firstDay = firstDay;
+        this.days = days;
+        this.prefixSums = prefixSums;
+    }
+
+
+    /*--- Public Static Methods ---*/
+
+    // Counts the (chronologically sorted) columns from the first event's day, at most MAX_DAYS back, to the last's.
+    public static RollingCounts build(long[] timestamps, byte[] types, ZoneId zone) {
+        if (timestamps.length == 0) return new RollingCounts(0, 0, new int[TYPES][1]);
+        long lastDay = toLocalDate(timestamps[timestamps.length - 1], zone).toEpochDay();
+        long firstDay = Math.max(toLocalDate(timestamps[0], zone).toEpochDay(), lastDay - MAX_DAYS + 1);
+        int days = (int) (lastDay - firstDay + 1);
+        int[][] prefixSums = new int[TYPES][days + 1];
+
+        // Skip Events Before The First Counted Day
+        long firstMillis = LocalDate.ofEpochDay(firstDay).atStartOfDay(zone).toInstant().toEpochMilli();
+        int first = Arrays.binarySearch(timestamps, firstMillis);
+        if (first < 0) first = -first - 1;
+        while (first > 0 && timestamps[first - 1] == firstMillis) first--;
+
+        // Count Each Day, Resolving The Calendar Only When A Day Ends
+        int day = -1;
+        long dayEnd = Long.MIN_VALUE;
+        for (int x = first; x < timestamps.length; x++) {
+            if (timestamps[x] >= dayEnd) {
+                LocalDate date = toLocalDate(timestamps[x], zone);
+                day = (int) (date.toEpochDay() - firstDay);
+                dayEnd = date.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+            }
+            prefixSums[types[x]][day + 1]++;
+        }
+        accumulate(prefixSums);
+        return new RollingCounts(firstDay, days, prefixSums);
+    }
+
+    // Counts one year's aggregates, covering that year only.
+    public static RollingCounts of(EventAggregates aggregates) {
+        int days = aggregates.getDaysInYear();
+        int[][] prefixSums = new int[TYPES][days + 1];
+        for (EventType type : EventType.values()) {
+            for (int x = 0; x < days; x++) prefixSums[type.ordinal()][x + 1] = aggregates.getDayTypeCount(type, x);
+        }
+        accumulate(prefixSums);
+        return new RollingCounts(LocalDate.of(aggregates.getYear(), 1, 1).toEpochDay(), days, prefixSums);
+    }
+
+
+    /*--- Public Methods ---*/
+
+    // Events of the given type (every type when null) in the window days ending on day.
+    public int sum(EventType type, LocalDate day, int window) {
+        long end = Math.min(day.toEpochDay() - firstDay, days - 1);
+        long start = Math.max(day.toEpochDay() - firstDay - window + 1, 0);
+        if (end < start) return 0;
+        if (type != null) return prefixSums[type.ordinal()][(int) end + 1] - prefixSums[type.ordinal()][(int) start];
+        int sum = 0;
+        for (int[] sums : prefixSums) sum += sums[(int) end + 1] - sums[(int) start];
+        return sum;
+    }
+
+    // Events per day over the part of the window from the first counted day on.
+    public double average(EventType type, LocalDate day, int window) {
+        long end = day.toEpochDay() - firstDay;
+        long start = Math.max(end - window + 1, 0);
+        if (end < start) return 0;
+        return sum(type, day, window) / (double) (end - start + 1);
+    }
+
+    // True if the given day falls within the counted days.
+    public boolean covers(LocalDate day) {
+        long offset = day.toEpochDay() - firstDay;
+        return offset >= 0 && offset < days;
+    }
+
+    public LocalDate getFirstDay() {
+        return LocalDate.ofEpochDay(firstDay);
+    }
+
+    public LocalDate getLastDay() {
+        return LocalDate.ofEpochDay(firstDay + days - 1);
+    }
+
+    public int getDays() {
+        return days;
+    }
+
+
+    /*--- Private Methods ---*/
+
+    private static void accumulate(int[][] prefixSums) {
+        for (int[] sums : prefixSums) {
+            for (int x = 1; x < sums.length; x++) sums[x] += sums[x - 1];
+        }
+    }
+
+    private static LocalDate toLocalDate(long timestamp, ZoneId zone) {
+        return Instant.ofEpochMilli(timestamp).atZone(zone).toLocalDate();
+    }
+}
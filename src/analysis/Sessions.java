@@ -0,0 +1,112 @@
+package analysis;
+
+import java.util.Arrays;
+
+/* Event Grapher
+ * Christopher Cruzen
+ * 10.19.2026
+ *
+ *   Sessions splits a sorted series of event times into sessions: runs of events each
+ * no more than a maximum gap after the one before. Boundaries fall wherever a gap is
+ * longer, so a single pass over the series finds them all.
+ *
+ *   Session lengths, first event to last, are kept in a GapDistribution for their mean,
+ * percentiles and extremes; a lone event is a session of length zero.
+ */
+
+public class Sessions {
+
+
+    /*--- Variables ---*/
+
+    // Variables
+    private final long[] timestamps;
+    private final long maxGap;
+    private final int[] starts;
+    private final int count;
+    private final GapDistribution lengths;
+    private final int maxEvents;
+
+
+    /*--- Constructor ---*/
+
+    private Sessions(long[] timestamps, long maxGap, int[] starts, int count, GapDistribution lengths, int maxEvents) {
+        this.timestamps = timestamps;
+        this.maxGap = maxGap;
+        this.starts = starts;
+        this.count = count;
+        this.lengths = lengths;
+        this.maxEvents = maxEvents;
+    }
+
+
+    /*--- Public Static Methods ---*/
+
+    // Sessionizes the given (chronologically sorted) times; the array is kept, not copied.
+    public static Sessions find(long[] timestamps, long maxGap) {
+        int[] starts = new int[16];
+        int count = 0;
+        GapDistribution lengths = new GapDistribution();
+        int maxEvents = 0;
+
+        // Close A Session At Each Long Gap & At The End
+        for (int x = 0; x < timestamps.length; x++) {
+            if (x == 0 || timestamps[x] - timestamps[x - 1] > maxGap) {
+                if (count == starts.length) starts = Arrays.copyOf(starts, count * 2);
+                starts[count++] = x;
+            }
+            if (x == timestamps.length - 1 || timestamps[x + 1] - timestamps[x] > maxGap) {
+                int first = starts[count - 1];
+                lengths.add(timestamps[x] - timestamps[first], timestamps[first], first, x);
+                maxEvents = Math.max(maxEvents, x - first + 1);
+            }
+        }
+        return new Sessions(timestamps, maxGap, starts, count, lengths, maxEvents);
+    }
+
+
+    /*--- Public Access Methods ---*/
+
+    public int size() {
+        return count;
+    }
+
+    public long getMaxGap() {
+        return maxGap;
+    }
+
+    // Index of the session's first event in the sessionized series.
+    public int getFirstIndex(int session) {
+        return starts[session];
+    }
+
+    // Index of the session's last event in the sessionized series.
+    public int getLastIndex(int session) {
+        return session + 1 < count ? starts[session + 1] - 1 : timestamps.length - 1;
+    }
+
+    public long getStart(int session) {
+        return timestamps[getFirstIndex(session)];
+    }
+
+    public long getEnd(int session) {
+        return timestamps[getLastIndex(session)];
+    }
+
+    public int getEventCount(int session) {
+        return getLastIndex(session) - getFirstIndex(session) + 1;
+    }
+
+    // Distribution of session lengths; its extremes' indices bound the shortest & longest sessions.
+    public GapDistribution getLengths() {
+        return lengths;
+    }
+
+    public double getAverageEvents() {
+        return count == 0 ? 0 : timestamps.length / (double) count;
+    }
+
+    public int getMaxEvents() {
+        return maxEvents;
+    }
+}
@@ -0,0 +1,265 @@
+package analysis;
+
+import model.types.EventType;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Arrays;
+
+/* Event Grapher
+ * Christopher Cruzen
+ * 10.19.2026
+ *
+ *   TimelinePyramid holds event counts per EventType at several resolutions: hour, day,
+ * week, month and year. The hour level is counted from the sorted event columns and
+ * each coarser level is rolled up from a finer level whose buckets nest inside it (weeks
+ * and months from days, years from months). Building the whole pyramid costs one pass
+ * over the events plus one pass over the (far fewer) hour buckets.
+ *
+ *   Buckets at every level are contiguous from the first event to the last, including
+ * empty ones, so a time range maps to a run of bucket indices by binary search.
+ *
+ * Note: A level that would need more than MAX_BUCKETS buckets (hours past roughly a
+ *       century, say from one mistyped year) is left out, and the finest level kept is
+ *       counted from the events instead. getLevelFor never returns a level left out.
+ */
+
+public class TimelinePyramid {
+
+
+    /*--- Variables ---*/
+
+    public enum Level {
+        HOUR(60L * 60 * 1000),
+        DAY(24L * 60 * 60 * 1000),
+        WEEK(7L * 24 * 60 * 60 * 1000),
+        MONTH(28L * 24 * 60 * 60 * 1000),
+        YEAR(365L * 24 * 60 * 60 * 1000);
+
+        // Shortest possible bucket, ignoring daylight saving transitions.
+        public final long minimumMillis;
+
+        Level(long minimumMillis) {
+            this.minimumMillis = minimumMillis;
+        }
+    }
+
+    private static final int TYPES = EventType.values().length;
+    private static final int MAX_BUCKETS = 1 << 20;
+
+    private final ZoneId zone;
+    private final long[][] bucketStarts;    // [level][bucket], plus one trailing end boundary; null if left out
+    private final int[][][] counts;         // [level][type][bucket]
+    private final int[][] totals;           // [level][bucket]
+
+
+    /*--- Constructor ---*/
+
+    private TimelinePyramid(ZoneId zone, long[][] bucketStarts, int[][][] counts, int[][] totals) {
+        this.zone = zone;
+        this.bucketStarts = bucketStarts;
+        this.counts = counts;
+        this.totals = totals;
+    }
+
+
+    /*--- Public Static Methods ---*/
+
+    public static TimelinePyramid build(long[] timestamps, byte[] types) {
+        return build(timestamps, types, ZoneId.systemDefault());
+    }
+
+    // Timestamps must be sorted in ascending order.
+    public static TimelinePyramid build(long[] timestamps, byte[] types, ZoneId zone) {
+        int levels = Level.values().length;
+        long[][] bucketStarts = new long[levels][];
+        int[][][] counts = new int[levels][][];
+        int[][] totals = new int[levels][];
+
+        // Empty Dataset - One Empty Bucket Per Level Around Now
+        long first = timestamps.length == 0 ? System.currentTimeMillis() : timestamps[0];
+        long last = timestamps.length == 0 ? first : timestamps[timestamps.length - 1];
+
+        // Count The Finest Level That Fits
+        int finest = 0;
+        while (finest < levels - 1 && (last - first) / Level.values()[finest].minimumMillis >= MAX_BUCKETS) finest++;
+        bucketStarts[finest] = getBoundaries(Level.values()[finest], first, last, zone);
+        counts[finest] = countEvents(timestamps, types, bucketStarts[finest]);
+
+        // Roll Up Coarser Levels
+        for (int level = finest + 1; level < levels; level++) {
+            int source = getRollupSource(Level.values()[level]).ordinal();
+            long[] starts = getBoundaries(Level.values()[level], first, last, zone);
+            if (source < finest) {
+                bucketStarts[level] = starts;
+                counts[level] = countEvents(timestamps, types, starts);
+                continue;
+            }
+            long[] finerStarts = bucketStarts[source];
+            int[][] finerCounts = counts[source];
+            int[][] levelCounts = new int[TYPES][starts.length - 1];
+            int target = 0;
+            for (int finer = 0; finer < finerStarts.length - 1; finer++) {
+                while (finerStarts[finer] >= starts[target + 1]) target++;
+                for (int type = 0; type < TYPES; type++) levelCounts[type][target] += finerCounts[type][finer];
+            }
+            bucketStarts[level] = starts;
+            counts[level] = levelCounts;
+        }
+
+        // Sum Types
+        for (int level = finest; level < levels; level++) {
+            int[] levelTotals = new int[bucketStarts[level].length - 1];
+            for (int type = 0; type < TYPES; type++) {
+                for (int x = 0; x < levelTotals.length; x++) levelTotals[x] += counts[level][type][x];
+            }
+            totals[level] = levelTotals;
+        }
+
+        return new TimelinePyramid(zone, bucketStarts, counts, totals);
+    }
+
+
+    /*--- Public Methods ---*/
+
+    /* Note: Returns the finest level whose buckets are at least the given number of pixels
+     *       wide at the given scale, falling back to years when even those are too narrow.
+     */
+    public Level getLevelFor(double millisPerPixel, int minimumPixels) {
+        for (Level level : Level.values()) {
+            if (totals[level.ordinal()] != null && level.minimumMillis / millisPerPixel >= minimumPixels) return level;
+        }
+        return Level.YEAR;
+    }
+
+    // Returns the index of the bucket containing the given time, clamped to the timeline.
+    public int getBucketAt(Level level, long time) {
+        long[] starts = bucketStarts[level.ordinal()];
+        int index = Arrays.binarySearch(starts, time);
+        if (index < 0) index = -index - 2;
+        return Math.max(0, Math.min(getBucketCount(level) - 1, index));
+    }
+
+    // Returns the largest bucket total between two bucket indices, inclusive.
+    public int getMaxTotal(Level level, int firstBucket, int lastBucket) {
+        int[] levelTotals = totals[level.ordinal()];
+        int max = 0;
+        for (int x = Math.max(0, firstBucket); x <= Math.min(levelTotals.length - 1, lastBucket); x++) {
+            max = Math.max(max, levelTotals[x]);
+        }
+        return max;
+    }
+
+
+    /*--- Public Access Methods ---*/
+
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    public int getBucketCount(Level level) {
+        return totals[level.ordinal()].length;
+    }
+
+    public long getBucketStart(Level level, int bucket) {
+        return bucketStarts[level.ordinal()][bucket];
+    }
+
+    public long getBucketEnd(Level level, int bucket) {
+        return bucketStarts[level.ordinal()][bucket + 1];
+    }
+
+    public int getCount(Level level, EventType type, int bucket) {
+        return counts[level.ordinal()][type.ordinal()][bucket];
+    }
+
+    public int getTotal(Level level, int bucket) {
+        return totals[level.ordinal()][bucket];
+    }
+
+    public long getStart() {
+        return bucketStarts[Level.YEAR.ordinal()][0];
+    }
+
+    public long getEnd() {
+        long[] yearStarts = bucketStarts[Level.YEAR.ordinal()];
+        return yearStarts[yearStarts.length - 1];
+    }
+
+
+    /*--- Private Methods ---*/
+
+    // Counts sorted events into the buckets between the given boundaries.
+    private static int[][] countEvents(long[] timestamps, byte[] types, long[] starts) {
+        int[][] levelCounts = new int[TYPES][starts.length - 1];
+        int bucket = 0;
+        for (int x = 0; x < timestamps.length; x++) {
+            while (timestamps[x] >= starts[bucket + 1]) bucket++;
+            levelCounts[types[x]][bucket]++;
+        }
+        return levelCounts;
+    }
+
+    // Weeks straddle months, so both roll up from days.
+    private static Level getRollupSource(Level level) {
+        switch (level) {
+            case DAY:
+                return Level.HOUR;
+            case YEAR:
+                return Level.MONTH;
+            default:
+                return Level.DAY;
+        }
+    }
+
+    // Returns the start of every bucket overlapping [first, last], followed by the end of the last.
+    private static long[] getBoundaries(Level level, long first, long last, ZoneId zone) {
+        ZonedDateTime current = truncate(level, Instant.ofEpochMilli(first).atZone(zone));
+        long[] boundaries = new long[16];
+        int size = 0;
+        while (true) {
+            long start = current.toInstant().toEpochMilli();
+            if (size == boundaries.length) boundaries = Arrays.copyOf(boundaries, size * 2);
+            boundaries[size++] = start;
+            if (start > last) break;
+            current = advance(level, current);
+        }
+        return Arrays.copyOf(boundaries, size);
+    }
+
+    private static ZonedDateTime truncate(Level level, ZonedDateTime time) {
+        LocalDate date = time.toLocalDate();
+        switch (level) {
+            case HOUR:
+                return time.truncatedTo(ChronoUnit.HOURS);
+            case DAY:
+                return date.atStartOfDay(time.getZone());
+            case WEEK:
+                return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).atStartOfDay(time.getZone());
+            case MONTH:
+                return date.withDayOfMonth(1).atStartOfDay(time.getZone());
+            default:
+                return date.withDayOfYear(1).atStartOfDay(time.getZone());
+        }
+    }
+
+    private static ZonedDateTime advance(Level level, ZonedDateTime start) {
+        switch (level) {
+            case HOUR:
+                return start.plusHours(1);
+            case DAY:
+                return start.toLocalDate().plusDays(1).atStartOfDay(start.getZone());
+            case WEEK:
+                return start.toLocalDate().plusWeeks(1).atStartOfDay(start.getZone());
+            case MONTH:
+                return start.toLocalDate().plusMonths(1).atStartOfDay(start.getZone());
+            default:
+                return start.toLocalDate().plusYears(1).atStartOfDay(start.getZone());
+        }
+    }
+}
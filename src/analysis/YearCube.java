@@ -0,0 +1,163 @@
+package analysis;
+
+import model.types.EventType;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/* Event Grapher
+ * Christopher Cruzen
+ * 10.19.2026
+ *
+ *   YearCube counts events by year, type, and hour of day, day of week and week of year,
+ * for every year in the data at once. Each year's counts form one slice, found by its
+ * offset from the first year, so comparing any set of years reads slices already built
+ * rather than scanning the events again per year.
+ *
+ *   Like EventAggregates, calendar fields are resolved through a CalendarCursor, once per
+ * distinct local day and hour rather than once per event.
+ *
+ * Note: Week 0 starts on January 1st. The last week absorbs the year's final one or two
+ *       days, so every year has the same number of weeks to line up.
+ */
+
+public class YearCube {
+
+
+    /*--- Variables ---*/
+
+    // Constants
+    public static final int WEEKS = 52;
+    private static final int TYPES = EventType.values().length;
+
+    // Variables
+    private final int firstYear;
+    private final Slice[] slices;
+
+
+    /*--- Constructor ---*/
+
+    private YearCube(int firstYear, Slice[] slices) {
+        this.firstYear = firstYear;
+        this.slices = slices;
+    }
+
+
+    /*--- Public Static Methods ---*/
+
+    /* Note: Method counts the events at the given positions of the (chronologically sorted)
+     *       columns, or every event when positions is null. It checks for thread interruption
+     *       as it goes and returns null if interrupted, as EventAggregates.compute does.
+     */
+    public static YearCube build(long[] timestamps, byte[] types, int[] positions, ZoneId zone) {
+        int size = positions == null ? timestamps.length : positions.length;
+        if (size == 0) return new YearCube(0, new Slice[0]);
+        int firstYear = toLocalDate(timestamps[positions == null ? 0 : positions[0]], zone).getYear();
+        int lastYear = toLocalDate(timestamps[positions == null ? size - 1 : positions[size - 1]], zone).getYear();
+        Slice[] slices = new Slice[lastYear - firstYear + 1];
+
+        // Count Each Event Into Its Year's Slice
+        CalendarCursor calendar = new CalendarCursor(firstYear, zone);
+        Slice slice = null;
+        int week = 0;
+        for (int x = 0; x < size; x++) {
+            if ((x & 0xffff) == 0 && Thread.currentThread().isInterrupted()) return null;
+            int position = positions == null ? x : positions[x];
+            if (calendar.moveTo(timestamps[position]) || slice == null) {
+                int year = calendar.getYear();
+                if (year < firstYear || year > lastYear) {
+                    slices = growSlices(slices, firstYear, Math.min(firstYear, year), Math.max(lastYear, year));
+                    firstYear = Math.min(firstYear, year);
+                    lastYear = Math.max(lastYear, year);
+                }
+                if (slices[year - firstYear] == null) slices[year - firstYear] = new Slice(year);
+                slice = slices[year - firstYear];
+                week = Math.min(WEEKS - 1, (toLocalDate(calendar.getDayStart(), zone).getDayOfYear() - 1) / 7);
+            }
+            int type = types[position];
+            slice.total++;
+            slice.typeCounts[type]++;
+            slice.hourCounts[type][calendar.getHourOfDay()]++;
+            slice.weekdayCounts[type][calendar.getDayOfWeek()]++;
+            slice.weekCounts[type][week]++;
+        }
+        return new YearCube(firstYear, slices);
+    }
+
+
+    /*--- Public Methods ---*/
+
+    // Returns the years with at least one event, oldest first.
+    public int[] getYears() {
+        int count = 0;
+        for (Slice slice : slices) if (slice != null) count++;
+        int[] years = new int[count];
+        count = 0;
+        for (Slice slice : slices) if (slice != null) years[count++] = slice.year;
+        return years;
+    }
+
+    // Returns the year's slice, or null if the year has no events.
+    public Slice getSlice(int year) {
+        int index = year - firstYear;
+        return index < 0 || index >= slices.length ? null : slices[index];
+    }
+
+
+    /*--- Private Methods ---*/
+
+    private static Slice[] growSlices(Slice[] slices, int firstYear, int newFirstYear, int newLastYear) {
+        Slice[] grown = new Slice[newLastYear - newFirstYear + 1];
+        System.arraycopy(slices, 0, grown, firstYear - newFirstYear, slices.length);
+        return grown;
+    }
+
+    private static LocalDate toLocalDate(long timestamp, ZoneId zone) {
+        return Instant.ofEpochMilli(timestamp).atZone(zone).toLocalDate();
+    }
+
+
+    /*--- Public Classes ---*/
+
+    // One year's counts. A null type counts every type.
+    public static class Slice {
+
+        public final int year;
+        private int total;
+        private final int[] typeCounts = new int[TYPES];
+        private final int[][] hourCounts = new int[TYPES][24];
+        private final int[][] weekdayCounts = new int[TYPES][7];
+        private final int[][] weekCounts = new int[TYPES][WEEKS];
+
+        Slice(int year) {
+            this.year = year;
+        }
+
+        public int getTotal(EventType type) {
+            return type == null ? total : typeCounts[type.ordinal()];
+        }
+
+        // Hour 0 is midnight.
+        public int getHourCount(EventType type, int hour) {
+            return sum(hourCounts, type, hour);
+        }
+
+        // Day 0 is Monday.
+        public int getWeekdayCount(EventType type, int dayOfWeek) {
+            return sum(weekdayCounts, type, dayOfWeek);
+        }
+
+        // Week 0 begins January 1st.
+        public int getWeekCount(EventType type, int week) {
+            return sum(weekCounts, type, week);
+        }
+
+        private static int sum(int[][] counts, EventType type, int bucket) {
+            if (type != null) return counts[type.ordinal()][bucket];
+            int sum = 0;
+            for (int[] typeCounts : counts) sum += typeCounts[bucket];
+            return sum;
+        }
+    }
+}
@@ -0,0 +1,437 @@
+package cli;
+
+import analysis.DistinctCounts;
+import analysis.EventAggregates;
+import analysis.Rankings;
+import io.ExternalSorter;
+import io.InputManager;
+import model.Event;
+import render.TileRenderer;
+import report.StatsWriter;
+import server.DashboardServer;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Year;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.zip.Deflater;
+
+/* Event Grapher
+ * Christopher Cruzen
+ * 10.19.2026
+ *
+ *   BatchCommand writes the infographic & stats for every input listed in a manifest, in
+ * one JVM, so class loading, JIT warm-up, fonts and the classification rules are paid for
+ * once rather than per file. Each manifest line is one job, an output name, "=", then
+ * input files or globs; without a name the first input's file name is used. Names are
+ * file names within --output, so they can't contain path separators or "..".
+ *
+ *     # name = inputs
+ *     alice = users\alice\events-*.txt
+ *     users\bob.txt.gz
+ *
+ *   Every job runs on its own virtual thread, which reads & parses the job's input and
+ * writes its output, blocking on disk cheaply. The CPU-heavy stages (aggregating & ranking
+ * the parsed events in batches, painting & compressing tiles) are handed to one executor
+ * of --threads workers shared by all jobs, so a slow disk never holds a worker. A job's
+ * timings are printed as it finishes, and the batch's throughput at the end.
+ *
+ *   Jobs whose input is out of order are reported on stderr, as --stats does. With
+ * --spill, each job's records are sorted on disk through an ExternalSorter before they
+ * are aggregated, so any order is handled in bounded memory.
+ *
+ * Ex: java -cp build Main --batch --output=reports --threads=8 manifest.txt
+ */
+
+public class BatchCommand {
+
+
+    /*--- Variables ---*/
+
+    // Constants
+    public static final String FLAG = "--batch";
+    private static final String OUTPUT_OPTION = "--output=";
+    private static final String THREADS_OPTION = "--threads=";
+    private static final String SCALE_OPTION = "--scale=";
+    private static final String FORMAT_OPTION = "--format=";
+    private static final String YEAR_OPTION = "--year=";
+    private static final String SPILL_OPTION = "--spill";
+    private static final String DEFAULT_OUTPUT = "reports";
+    private static final int JOBS_PER_THREAD = 2;
+    private static final int BATCH_EVENTS = 4096;
+    private static final double MAX_SCALE = 16;
+
+    // Options
+    private String output;
+    private int threads;
+    private double scale;
+    private StatsWriter.Format format;
+    private Integer year;
+    private boolean spill;
+    private String manifest;
+
+
+    /*--- Constructor ---*/
+
+    // Arguments are options followed by the manifest's path.
+    public BatchCommand(List<String> arguments) {
+        output = DEFAULT_OUTPUT;
+        threads = Runtime.getRuntime().availableProcessors();
+        scale = 1;
+        format = StatsWriter.Format.JSON;
+        for (String argument : arguments) {
+            if (argument.startsWith(OUTPUT_OPTION)) {
+                output = argument.substring(OUTPUT_OPTION.length());
+            } else if (argument.startsWith(THREADS_OPTION)) {
+                threads = parseThreads(argument.substring(THREADS_OPTION.length()));
+            } else if (argument.startsWith(SCALE_OPTION)) {
+                scale = parseScale(argument.substring(SCALE_OPTION.length()));
+            } else if (argument.startsWith(FORMAT_OPTION)) {
+                format = parseFormat(argument.substring(FORMAT_OPTION.length()));
+            } else if (argument.startsWith(YEAR_OPTION)) {
+                year = StreamAggregator.parseYear(argument.substring(YEAR_OPTION.length()));
+            } else if (argument.equals(SPILL_OPTION)) {
+                spill = true;
+            } else {
+                manifest = argument;
+            }
+        }
+        if (manifest == null) {
+            System.err.println("Error: No manifest file.");
+            System.exit(1);
+        }
+    }
+
+
+    /*--- Public Methods ---*/
+
+    public void run() {
+        System.setProperty("java.awt.headless", "true");
+        InputManager inputManager = new InputManager();
+        List<Job> jobs = readManifest(inputManager);
+        File directory = new File(output);
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            System.err.println("Error: Couldn't create " + output + ".");
+            System.exit(1);
+        }
+
+        // Shared CPU Stage & Admission Limit
+        AtomicInteger workerCount = new AtomicInteger();
+        ExecutorService cpuExecutor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "batch-cpu-" + workerCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        Semaphore admission = new Semaphore(threads * JOBS_PER_THREAD);
+
+        // Start Every Job On Its Own Virtual Thread
+        long start = System.nanoTime();
+        ExecutorService jobExecutor = DashboardServer.newVirtualThreadExecutor();
+        List<Future<Integer>> results = new ArrayList<>(jobs.size());
+        for (Job job : jobs) {
+            results.add(jobExecutor.submit(() -> runJob(job, inputManager, directory, cpuExecutor, admission)));
+        }
+
+        // Collect Results
+        long events = 0;
+        int failures = 0;
+        for (int x = 0; x < jobs.size(); x++) {
+            try {
+                events += results.get(x).get();
+            } catch (ExecutionException exception) {
+                Throwable cause = exception.getCause() instanceof CompletionException ? exception.getCause().getCause() : exception.getCause();
+                System.err.println("Error: " + jobs.get(x).name + " failed. " + cause.getMessage());
+                failures++;
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        jobExecutor.shutdown();
+        cpuExecutor.shutdown();
+
+        // Throughput
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.println(String.format(Locale.ROOT, "Finished %d jobs (%d failed), %d events in %.2fs: %.2f jobs/s, %.0f events/s.",
+                jobs.size(), failures, events, seconds, jobs.size() / seconds, events / seconds));
+        if (failures > 0) System.exit(1);
+    }
+
+
+    /*--- Private Job Methods ---*/
+
+    /* Note: Method runs on the job's virtual thread and returns the number of events. It
+     *       blocks only on the shared executor and on file I/O, both cheap for a virtual
+     *       thread, and waits for admission so only a bounded number of jobs hold their
+     *       aggregates & image bands in memory at once.
+     */
+    private int runJob(Job job, InputManager inputManager, File directory, ExecutorService cpuExecutor,
+                       Semaphore admission) throws IOException, InterruptedException {
+        admission.acquire();
+        try {
+            long start = System.nanoTime();
+
+            // Read & Parse Here, Aggregating Batches Of Events On The CPU Stage
+            EventAggregates aggregates;
+            EventBatcher batcher = new EventBatcher(year, spill, cpuExecutor);
+            try {
+                StreamAggregator.stream(inputManager, job.inputFiles, (timestamp, type) -> { }, batcher);
+                aggregates = batcher.finish();
+            } finally {
+                batcher.close();
+            }
+            StreamAggregator.warnIfOutOfOrder(job.name, aggregates);
+            long analyzed = System.nanoTime();
+
+            // Paint Tiles On The CPU Stage, Writing Bands From This Thread
+            TileRenderer renderer = new TileRenderer(scale, TileRenderer.DEFAULT_TILE_SIZE, 1, Deflater.DEFAULT_COMPRESSION);
+            renderer.setRankings(batcher.rankings);
+            renderer.setDistinctCounts(batcher.distinctCounts);
+            try (OutputStream stream = new BufferedOutputStream(new FileOutputStream(new File(directory, job.name + ".png")), 1 << 16)) {
+                renderer.render(aggregates, stream, cpuExecutor);
+            }
+            long rendered = System.nanoTime();
+
+            // Write Stats
+            String extension = format.name().toLowerCase(Locale.ROOT);
+            Files.writeString(new File(directory, job.name + "." + extension).toPath(),
+                    new StatsWriter(format).write(aggregates), StandardCharsets.UTF_8);
+            long finished = System.nanoTime();
+
+            System.out.println(String.format(Locale.ROOT, "%s: %d events, analyze %dms, render %dms, total %dms.",
+                    job.name, aggregates.getTotalCount(), (analyzed - start) / 1000000,
+                    (rendered - analyzed) / 1000000, (finished - start) / 1000000));
+            return aggregates.getTotalCount();
+        } finally {
+            admission.release();
+        }
+    }
+
+
+    /*--- Private Manifest Methods ---*/
+
+    // Resolves every job's inputs up front, so a bad manifest fails before any work starts.
+    private List<Job> readManifest(InputManager inputManager) {
+        List<Job> jobs = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+        try (BufferedReader reader = new BufferedReader(new FileReader(manifest, StandardCharsets.UTF_8))) {
+            String line = reader.readLine();
+            while (line != null) {
+                line = line.trim();
+                if (!line.isEmpty() && !line.startsWith("#")) {
+                    int equals = line.indexOf('=');
+                    String name = equals < 0 ? null : line.substring(0, equals).trim();
+                    List<String> patterns = Arrays.asList(line.substring(equals + 1).trim().split("\\s+"));
+                    List<File> inputFiles = findInputFiles(inputManager, patterns);
+                    if (name == null || name.isEmpty()) name = getDefaultName(inputFiles.get(0));
+                    if (name.contains("/") || name.contains("\\") || name.contains("..")) {
+                        System.err.println("Error: Invalid output name " + name + ". Names can't contain \"/\", \"\\\" or \"..\".");
+                        System.exit(1);
+                    }
+                    if (!names.add(name)) {
+                        System.err.println("Error: Manifest names " + name + " twice.");
+                        System.exit(1);
+                    }
+                    jobs.add(new Job(name, inputFiles));
+                }
+                line = reader.readLine();
+            }
+        } catch (IOException exception) {
+            System.err.println("Error: Issue reading manifest " + manifest + ".");
+            System.exit(1);
+        }
+        if (jobs.isEmpty()) {
+            System.err.println("Error: Manifest lists no inputs.");
+            System.exit(1);
+        }
+        return jobs;
+    }
+
+    private static List<File> findInputFiles(InputManager inputManager, List<String> patterns) {
+        try {
+            return inputManager.findInputFiles(patterns);
+        } catch (FileNotFoundException exception) {
+            System.err.println("Error: " + exception.getMessage());
+            System.exit(1);
+            return new ArrayList<>();
+        }
+    }
+
+    // The file name up to its first dot (ex: bob.txt.gz is bob).
+    private static String getDefaultName(File file) {
+        String name = file.getName();
+        int dot = name.indexOf('.');
+        return dot > 0 ? name.substring(0, dot) : name;
+    }
+
+
+    /*--- Private Parsing Methods ---*/
+
+    private static int parseThreads(String value) {
+        try {
+            int threads = Integer.parseInt(value);
+            if (threads > 0) return threads;
+        } catch (NumberFormatException exception) {
+            // Reported Below
+        }
+        System.err.println("Error: Invalid thread count " + value + ". Expected a positive number.");
+        System.exit(1);
+        return 1;
+    }
+
+    private static double parseScale(String value) {
+        try {
+            double scale = Double.parseDouble(value);
+            if (scale > 0 && scale <= MAX_SCALE) return scale;
+        } catch (NumberFormatException exception) {
+            // Reported Below
+        }
+        System.err.println("Error: Invalid scale " + value + ". Expected a number up to " + (int) MAX_SCALE + ".");
+        System.exit(1);
+        return 1;
+    }
+
+    private static StatsWriter.Format parseFormat(String value) {
+        try {
+            return StatsWriter.Format.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException exception) {
+            System.err.println("Error: Unknown format " + value + ". Expected json or csv.");
+            System.exit(1);
+            return null;
+        }
+    }
+
+
+    /*--- Private Classes ---*/
+
+    /* Note: Class aggregates & ranks a job's events on the CPU stage, a batch at a time and
+     *       in arrival order. The job's thread fills the next batch while the last is being
+     *       counted and waits for it before handing over another, so each job holds at most
+     *       two batches and its counts are only ever touched by one worker at a time. When
+     *       spilling, records go to an ExternalSorter instead and are aggregated in time
+     *       order by finish().
+     */
+    private static class EventBatcher implements Consumer<Event>, AutoCloseable {
+
+        final Rankings rankings = new Rankings(Rankings.DEFAULT_CAPACITY);
+        final DistinctCounts distinctCounts = new DistinctCounts(ZoneId.systemDefault());
+        private final ExecutorService cpuExecutor;
+        private final ExternalSorter sorter;
+        private EventAggregates aggregates;
+        private List<Event> batch = new ArrayList<>(BATCH_EVENTS);
+        private CompletableFuture<Void> pending = CompletableFuture.completedFuture(null);
+
+        // A null year aggregates the year of the first event.
+        EventBatcher(Integer year, boolean spill, ExecutorService cpuExecutor) {
+            this.cpuExecutor = cpuExecutor;
+            sorter = spill ? new ExternalSorter() : null;
+            aggregates = year == null ? null : new EventAggregates(year);
+        }
+
+        @Override
+        public void accept(Event event) {
+            batch.add(event);
+            if (batch.size() == BATCH_EVENTS) handOff();
+        }
+
+        // Counts the last batch and returns the aggregates once every batch is counted.
+        EventAggregates finish() throws IOException {
+            handOff();
+            try {
+                pending.join();
+                if (sorter != null) CompletableFuture.runAsync(this::mergeSorted, cpuExecutor).join();
+            } catch (CompletionException exception) {
+                if (exception.getCause() instanceof UncheckedIOException) throw ((UncheckedIOException) exception.getCause()).getCause();
+                throw exception;
+            }
+            return aggregates == null ? new EventAggregates(Year.now().getValue()) : aggregates;
+        }
+
+        // Waits for any batch still being counted, then deletes spilled runs.
+        @Override
+        public void close() {
+            try {
+                pending.join();
+            } catch (CompletionException exception) {
+                // Already Reported By finish() Or The Read That Failed
+            }
+            if (sorter != null) sorter.close();
+        }
+
+        private void handOff() {
+            List<Event> full = batch;
+            batch = new ArrayList<>(BATCH_EVENTS);
+            pending.join();
+            pending = CompletableFuture.runAsync(() -> count(full), cpuExecutor);
+        }
+
+        private void count(List<Event> events) {
+            for (Event event : events) {
+                long timestamp = event.date.getTime();
+                if (sorter != null) {
+                    addRecord(timestamp, event.type.ordinal());
+                } else {
+                    aggregate(timestamp, event.type.ordinal());
+                }
+                rankings.accept(event);
+                distinctCounts.accept(event);
+            }
+        }
+
+        private void aggregate(long timestamp, int type) {
+            if (aggregates == null) aggregates = new EventAggregates(StreamAggregator.getYear(timestamp));
+            aggregates.accept(timestamp, type);
+        }
+
+        private void addRecord(long timestamp, int type) {
+            try {
+                sorter.add(timestamp, type);
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        }
+
+        private void mergeSorted() {
+            try {
+                sorter.merge(this::aggregate);
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        }
+    }
+
+    private static class Job {
+
+        final String name;
+        final List<File> inputFiles;
+
+        Job(String name, List<File> inputFiles) {
+            this.name = name;
+            this.inputFiles = inputFiles;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package cli;
+
+import analysis.DistinctCounts;
+import analysis.EventAggregates;
+import analysis.Rankings;
+import render.TileRenderer;
+
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/* Event Grapher
+ * Christopher Cruzen
+ * 10.19.2026
+ *
+ *   ExportCommand writes the infographic to a PNG file without opening a window. The
+ * --scale option multiplies the image size for posters and high-DPI displays; the
+ * image is painted in tiles on every core and streamed to disk (see TileRenderer).
+ * --spill sorts the input on disk first, for input that's out of order or too large
+ * for the heap.
+ *
+ * Ex: java -cp build Main --export --scale=8 --output=poster.png "input\events-*.txt"
+ */
+
+public class ExportCommand {
+
+
+    /*--- Variables ---*/
+
+    // Constants
+    public static final String FLAG = "--export";
+    private static final String SCALE_OPTION = "--scale=";
+    private static final String OUTPUT_OPTION = "--output=";
+    private static final String YEAR_OPTION = "--year=";
+    private static final String SPILL_OPTION = "--spill";
+    private static final String DEFAULT_OUTPUT = "infographic.png";
+    private static final double MAX_SCALE = 16;
+
+    // Options
+    private double scale;
+    private String output;
+    private Integer year;
+    private boolean spill;
+    private final List<String> inputPatterns;
+
+
+    /*--- Constructor ---*/
+
+    // Arguments are options followed by input file paths or globs.
+    public ExportCommand(List<String> arguments) {
+        scale = 1;
+        output = DEFAULT_OUTPUT;
+        inputPatterns = new ArrayList<>();
+        for (String argument : arguments) {
+            if (argument.startsWith(SCALE_OPTION)) {
+                scale = parseScale(argument.substring(SCALE_OPTION.length()));
+            } else if (argument.startsWith(OUTPUT_OPTION)) {
+                output = argument.substring(OUTPUT_OPTION.length());
+            } else if (argument.startsWith(YEAR_OPTION)) {
+                year = StreamAggregator.parseYear(argument.substring(YEAR_OPTION.length()));
+            } else if (argument.equals(SPILL_OPTION)) {
+                spill = true;
+            } else {
+                inputPatterns.add(argument);
+            }
+        }
+    }
+
+
+    /*--- Public Methods ---*/
+
+    public void run() {
+        System.setProperty("java.awt.headless", "true");
+        Rankings rankings = new Rankings(Rankings.DEFAULT_CAPACITY);
+        DistinctCounts distinctCounts = new DistinctCounts(ZoneId.systemDefault());
+        EventAggregates aggregates = StreamAggregator.aggregate(inputPatterns, year, event -> {
+            rankings.accept(event);
+            distinctCounts.accept(event);
+        }, spill);
+
+        // Render & Stream To Disk
+        TileRenderer renderer = new TileRenderer(scale);
+        renderer.setRankings(rankings);
+        renderer.setDistinctCounts(distinctCounts);
+        long start = System.nanoTime();
+        try (OutputStream stream = new BufferedOutputStream(new FileOutputStream(output), 1 << 16)) {
+            renderer.render(aggregates, stream);
+        } catch (IOException exception) {
+            System.err.println("Error: Couldn't write " + output + ".");
+            System.exit(1);
+        }
+        System.out.println("Wrote " + output + " (" + renderer.getWidth() + "x" + renderer.getHeight() + ") in "
+                + ((System.nanoTime() - start) / 1000000) + "ms.");
+    }
+
+
+    /*--- Private Methods ---*/
+
+    private static double parseScale(String value) {
+        try {
+            double scale = Double.parseDouble(value);
+            if (scale > 0 && scale <= MAX_SCALE) return scale;
+        } catch (NumberFormatException exception) {
+            // Reported Below
+        }
+        System.err.println("Error: Invalid scale " + value + ". Expected a number up to " + (int) MAX_SCALE + ".");
+        System.exit(1);
+        return 1;
+    }
+}
@@ -0,0 +1,110 @@
+package cli;
+
+import analysis.CooccurrenceGraph;
+import io.EventRepository;
+import report.NetworkWriter;
+import report.StatsWriter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/* Event Grapher
+ * Christopher Cruzen
+ * 10.19.2026
+ *
+ *   NetworkCommand prints the performer & site co-occurrence graph on stdout: how many
+ * names and links it has, its largest connected components, and its --top (20 by
+ * default) strongest pairs. Each --of names a performer or site whose strongest
+ * neighbors are listed too; a name that's both is looked up as a performer.
+ *
+ * Ex: java -cp build Main --network --top=10 --of=Cara --of=siteB "input\events-*.txt"
+ */
+
+public class NetworkCommand {
+
+
+    /*--- Variables ---*/
+
+    // Constants
+    public static final String FLAG = "--network";
+    private static final String FORMAT_OPTION = "--format=";
+    private static final String TOP_OPTION = "--top=";
+    private static final String OF_OPTION = "--of=";
+
+    // Options
+    private StatsWriter.Format format;
+    private int top;
+    private final List<String> names;
+    private final List<String> inputPatterns;
+
+
+    /*--- Constructor ---*/
+
+    // Arguments are options followed by input file paths or globs.
+    public NetworkCommand(List<String> arguments) {
+        format = StatsWriter.Format.JSON;
+        top = 20;
+        names = new ArrayList<>();
+        inputPatterns = new ArrayList<>();
+        for (String argument : arguments) {
+            if (argument.startsWith(FORMAT_OPTION)) {
+                format = parseFormat(argument.substring(FORMAT_OPTION.length()));
+            } else if (argument.startsWith(TOP_OPTION)) {
+                top = parseTop(argument.substring(TOP_OPTION.length()));
+            } else if (argument.startsWith(OF_OPTION)) {
+                names.add(argument.substring(OF_OPTION.length()));
+            } else {
+                inputPatterns.add(argument);
+            }
+        }
+    }
+
+
+    /*--- Public Methods ---*/
+
+    public void run() {
+        EventRepository eventRepository = new EventRepository(inputPatterns);
+        CooccurrenceGraph graph = eventRepository.getCooccurrenceGraph();
+
+        // Resolve Names
+        List<Integer> nodes = new ArrayList<>();
+        for (String name : names) {
+            int node = graph.getId(CooccurrenceGraph.Kind.PERFORMER, name);
+            if (node < 0) node = graph.getId(CooccurrenceGraph.Kind.SITE, name);
+            if (node < 0) {
+                System.err.println("Error: No performer or site named " + name + ".");
+                System.exit(1);
+            }
+            nodes.add(node);
+        }
+
+        System.out.print(new NetworkWriter(format).write(graph, top, nodes));
+        System.out.flush();
+    }
+
+
+    /*--- Private Methods ---*/
+
+    private static StatsWriter.Format parseFormat(String value) {
+        try {
+            return StatsWriter.Format.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException exception) {
+            System.err.println("Error: Unknown format " + value + ". Expected json or csv.");
+            System.exit(1);
+            return null;
+        }
+    }
+
+    private static int parseTop(String value) {
+        try {
+            int top = Integer.parseInt(value);
+            if (top > 0) return top;
+        } catch (NumberFormatException exception) {
+            // Reported Below
+        }
+        System.err.println("Error: Invalid count " + value + ". Expected a positive number.");
+        System.exit(1);
+        return 0;
+    }
+}
@@ -0,0 +1,152 @@
+package cli;
+
+import analysis.IntervalJoin;
+import analysis.Sessions;
+import io.EventRepository;
+import model.types.EventType;
+import report.SessionWriter;
+import report.StatsWriter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/* Event Grapher
+ * Christopher Cruzen
+ * 10.19.2026
+ *
+ *   SessionsCommand prints how the events cluster into sessions, and which events of
+ * some types fall within a window of events of others, on stdout. Sessions break at any
+ * gap longer than --gap minutes (30 by default). The proximity join matches --left
+ * events (solo by default) to --right events (shared & virtual) within --near minutes
+ * (15); --pairs also lists every matched pair.
+ *
+ * Ex: java -cp build Main --sessions --gap=45 --near=10 --left=solo --right=shared,virtual "input\events-*.txt"
+ */
+
+public class SessionsCommand {
+
+
+    /*--- Variables ---*/
+
+    // Constants
+    public static final String FLAG = "--sessions";
+    private static final String FORMAT_OPTION = "--format=";
+    private static final String GAP_OPTION = "--gap=";
+    private static final String NEAR_OPTION = "--near=";
+    private static final String LEFT_OPTION = "--left=";
+    private static final String RIGHT_OPTION = "--right=";
+    private static final String PAIRS_OPTION = "--pairs";
+    private static final long MINUTE_MILLIS = 60 * 1000;
+
+    // Options
+    private StatsWriter.Format format;
+    private long maxGap;
+    private long window;
+    private List<EventType> leftTypes;
+    private List<EventType> rightTypes;
+    private boolean listPairs;
+    private final List<String> inputPatterns;
+
+
+    /*--- Constructor ---*/
+
+    // Arguments are options followed by input file paths or globs.
+    public SessionsCommand(List<String> arguments) {
+        format = StatsWriter.Format.JSON;
+        maxGap = 30 * MINUTE_MILLIS;
+        window = 15 * MINUTE_MILLIS;
+        leftTypes = List.of(EventType.SOLO);
+        rightTypes = List.of(EventType.SHARED, EventType.VIRTUAL);
+        inputPatterns = new ArrayList<>();
+        for (String argument : arguments) {
+            if (argument.startsWith(FORMAT_OPTION)) {
+                format = parseFormat(argument.substring(FORMAT_OPTION.length()));
+            } else if (argument.startsWith(GAP_OPTION)) {
+                maxGap = parseMinutes(argument.substring(GAP_OPTION.length()));
+            } else if (argument.startsWith(NEAR_OPTION)) {
+                window = parseMinutes(argument.substring(NEAR_OPTION.length()));
+            } else if (argument.startsWith(LEFT_OPTION)) {
+                leftTypes = parseTypes(argument.substring(LEFT_OPTION.length()));
+            } else if (argument.startsWith(RIGHT_OPTION)) {
+                rightTypes = parseTypes(argument.substring(RIGHT_OPTION.length()));
+            } else if (argument.equals(PAIRS_OPTION)) {
+                listPairs = true;
+            } else {
+                inputPatterns.add(argument);
+            }
+        }
+    }
+
+
+    /*--- Public Methods ---*/
+
+    public void run() {
+        EventRepository eventRepository = new EventRepository(inputPatterns);
+        Sessions sessions = Sessions.find(eventRepository.getTimestamps(), maxGap);
+        SessionWriter.Proximity proximity = new SessionWriter.Proximity(
+                getLabel(leftTypes),
+                getLabel(rightTypes),
+                getTimestamps(eventRepository, leftTypes),
+                getTimestamps(eventRepository, rightTypes),
+                window
+        );
+        System.out.print(new SessionWriter(format).write(sessions, proximity, listPairs));
+        System.out.flush();
+    }
+
+
+    /*--- Private Methods ---*/
+
+    // Merges the types' sorted times, so several types join as one series.
+    private static long[] getTimestamps(EventRepository eventRepository, List<EventType> types) {
+        long[] timestamps = new long[0];
+        for (EventType type : types) timestamps = IntervalJoin.union(timestamps, eventRepository.getTimestamps(type));
+        return timestamps;
+    }
+
+    private static String getLabel(List<EventType> types) {
+        StringBuilder label = new StringBuilder();
+        for (EventType type : types) {
+            if (label.length() > 0) label.append('|');
+            label.append(type.name().toLowerCase(Locale.ROOT));
+        }
+        return label.toString();
+    }
+
+    private static StatsWriter.Format parseFormat(String value) {
+        try {
+            return StatsWriter.Format.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException exception) {
+            System.err.println("Error: Unknown format " + value + ". Expected json or csv.");
+            System.exit(1);
+            return null;
+        }
+    }
+
+    private static long parseMinutes(String value) {
+        try {
+            double minutes = Double.parseDouble(value);
+            if (minutes >= 0) return (long) (minutes * MINUTE_MILLIS);
+        } catch (NumberFormatException exception) {
+            // Reported Below
+        }
+        System.err.println("Error: Invalid minutes " + value + ".");
+        System.exit(1);
+        return 0;
+    }
+
+    private static List<EventType> parseTypes(String value) {
+        List<EventType> types = new ArrayList<>();
+        for (String name : value.split(",")) {
+            try {
+                EventType type = EventType.valueOf(name.trim().toUpperCase(Locale.ROOT));
+                if (!types.contains(type)) types.add(type);
+            } catch (IllegalArgumentException exception) {
+                System.err.println("Error: Unknown event type " + name + ". Expected solo, shared or virtual.");
+                System.exit(1);
+            }
+        }
+        return types;
+    }
+}
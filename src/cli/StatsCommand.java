@@ -0,0 +1,80 @@
+package cli;
+
+import analysis.EventAggregates;
+import report.StatsWriter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/* Event Grapher
+ * Christopher Cruzen
+ * 10.19.2026
+ *
+ *   StatsCommand is Event Grapher's headless mode. It streams the input files once,
+ * in merged time order, through a StreamAggregator and prints the statistics on
+ * stdout. No AWT or Swing classes are ever loaded. With --spill, input that's out of
+ * order or too large for the heap is sorted on disk first.
+ *
+ * Ex: java -cp build Main --stats --format=csv --year=2023 "input\events-*.txt"
+ */
+
+public class StatsCommand {
+
+
+    /*--- Variables ---*/
+
+    // Constants
+    public static final String FLAG = "--stats";
+    private static final String FORMAT_OPTION = "--format=";
+    private static final String YEAR_OPTION = "--year=";
+    private static final String SPILL_OPTION = "--spill";
+
+    // Options
+    private StatsWriter.Format format;
+    private Integer year;
+    private boolean spill;
+    private final List<String> inputPatterns;
+
+
+    /*--- Constructor ---*/
+
+    // Arguments are options followed by input file paths or globs.
+    public StatsCommand(List<String> arguments) {
+        format = StatsWriter.Format.JSON;
+        inputPatterns = new ArrayList<>();
+        for (String argument : arguments) {
+            if (argument.startsWith(FORMAT_OPTION)) {
+                format = parseFormat(argument.substring(FORMAT_OPTION.length()));
+            } else if (argument.startsWith(YEAR_OPTION)) {
+                year = StreamAggregator.parseYear(argument.substring(YEAR_OPTION.length()));
+            } else if (argument.equals(SPILL_OPTION)) {
+                spill = true;
+            } else {
+                inputPatterns.add(argument);
+            }
+        }
+    }
+
+
+    /*--- Public Methods ---*/
+
+    public void run() {
+        EventAggregates aggregates = StreamAggregator.aggregate(inputPatterns, year, null, spill);
+        System.out.print(new StatsWriter(format).write(aggregates));
+        System.out.flush();
+    }
+
+
+    /*--- Private Methods ---*/
+
+    private static StatsWriter.Format parseFormat(String value) {
+        try {
+            return StatsWriter.Format.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException exception) {
+            System.err.println("Error: Unknown format " + value + ". Expected json or csv.");
+            System.exit(1);
+            return null;
+        }
+    }
+}
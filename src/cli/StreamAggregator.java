@@ -0,0 +1,165 @@
+package cli;
+
+import analysis.EventAggregates;
+import io.EventStreamMerger;
+import io.ExternalSorter;
+import io.InputManager;
+import model.Event;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.Year;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/* Event Grapher
+ * Christopher Cruzen
+ * 10.19.2026
+ *
+ *   StreamAggregator feeds the merged input files, in one pass, straight into an
+ * EventAggregates or any other EventSink. Events are discarded as soon as they're
+ * counted, so memory stays flat no matter how large the input is.
+ *
+ *   Out-of-order events can't be re-sorted in memory as the interface does; they are
+ * still counted, contribute no gaps, and are reported as a warning on stderr that
+ * points to --spill. Asking to spill instead sorts the (timestamp, type) records on
+ * disk through an ExternalSorter and aggregates the merged runs, so any order is
+ * handled in bounded memory.
+ */
+
+class StreamAggregator {
+
+
+    /*--- Interfaces ---*/
+
+    interface EventSink {
+        void accept(long timestamp, int type);
+    }
+
+
+    /*--- Variables ---*/
+
+    // Constants
+    private static final int MIN_YEAR = 1;
+    private static final int MAX_YEAR = 9999;
+
+
+    /*--- Public Static Methods ---*/
+
+    // Passes every event, in merged time order, to the sink.
+    static void stream(List<String> inputPatterns, EventSink sink) {
+        stream(inputPatterns, sink, null);
+    }
+
+    // Also hands each whole event to the given consumer, if any.
+    static void stream(List<String> inputPatterns, EventSink sink, Consumer<Event> eventConsumer) {
+        InputManager inputManager = new InputManager();
+        List<File> inputFiles = null;
+        try {
+            inputFiles = inputManager.findInputFiles(
+                    inputPatterns.isEmpty() ? Collections.singletonList(InputManager.INPUT_FILENAME) : inputPatterns
+            );
+        } catch (FileNotFoundException exception) {
+            System.err.println("Error: " + exception.getMessage());
+            System.exit(1);
+        }
+        try {
+            stream(inputManager, inputFiles, sink, eventConsumer);
+        } catch (Exception exception) {
+            System.err.println("Error: Issue reading input file.");
+            System.exit(1);
+        }
+    }
+
+    // Throws read failures to the caller rather than exiting, for drivers running many inputs.
+    static void stream(InputManager inputManager, List<File> inputFiles, EventSink sink, Consumer<Event> eventConsumer)
+            throws IOException {
+        try (EventStreamMerger merger = new EventStreamMerger(inputManager, inputFiles)) {
+            Event event = merger.next();
+            while (event != null) {
+                sink.accept(event.date.getTime(), event.type.ordinal());
+                if (eventConsumer != null) eventConsumer.accept(event);
+                event = merger.next();
+            }
+        }
+    }
+
+    // A null year aggregates the year of the first event, as the interface does.
+    static EventAggregates aggregate(List<String> inputPatterns, Integer year) {
+        return aggregate(inputPatterns, year, null);
+    }
+
+    static EventAggregates aggregate(List<String> inputPatterns, Integer year, Consumer<Event> eventConsumer) {
+        EventAggregates[] aggregates = {year == null ? null : new EventAggregates(year)};
+        stream(inputPatterns, (timestamp, type) -> {
+            if (aggregates[0] == null) aggregates[0] = new EventAggregates(getYear(timestamp));
+            aggregates[0].accept(timestamp, type);
+        }, eventConsumer);
+        if (aggregates[0] == null) aggregates[0] = new EventAggregates(Year.now().getValue());
+        warnIfOutOfOrder(aggregates[0]);
+        return aggregates[0];
+    }
+
+    /* Note: Method hands whole events to the consumer while reading, in file order, so
+     *       only order-independent tallies belong there. The aggregates see the records
+     *       after they've been sorted on disk.
+     */
+    static EventAggregates aggregate(List<String> inputPatterns, Integer year, Consumer<Event> eventConsumer, boolean spill) {
+        if (!spill) return aggregate(inputPatterns, year, eventConsumer);
+        EventAggregates[] aggregates = {year == null ? null : new EventAggregates(year)};
+        try (ExternalSorter sorter = new ExternalSorter()) {
+            stream(inputPatterns, (timestamp, type) -> addRecord(sorter, timestamp, type), eventConsumer);
+            sorter.merge((timestamp, type) -> {
+                if (aggregates[0] == null) aggregates[0] = new EventAggregates(getYear(timestamp));
+                aggregates[0].accept(timestamp, type);
+            });
+        } catch (IOException exception) {
+            System.err.println("Error: Issue reading temporary files.");
+            System.exit(1);
+        }
+        if (aggregates[0] == null) aggregates[0] = new EventAggregates(Year.now().getValue());
+        return aggregates[0];
+    }
+
+    static void warnIfOutOfOrder(EventAggregates aggregates) {
+        warnIfOutOfOrder(null, aggregates);
+    }
+
+    // Names the input in the warning, for drivers running many inputs.
+    static void warnIfOutOfOrder(String name, EventAggregates aggregates) {
+        int outOfOrder = aggregates.getGapAnalyzer().getOutOfOrderCount();
+        if (outOfOrder > 0) {
+            System.err.println("Warning: " + (name == null ? "Input" : name + " input") + " out of order. " + outOfOrder + " events arrived after a later event, so"
+                    + " gaps, peaks and bursts are unreliable. Rerun with --spill to sort the input first.");
+        }
+    }
+
+    private static void addRecord(ExternalSorter sorter, long timestamp, int type) {
+        try {
+            sorter.add(timestamp, type);
+        } catch (IOException exception) {
+            System.err.println("Error: Issue writing temporary files.");
+            System.exit(1);
+        }
+    }
+
+    static int parseYear(String value) {
+        try {
+            int year = Integer.parseInt(value);
+            if (year >= MIN_YEAR && year <= MAX_YEAR) return year;
+        } catch (NumberFormatException exception) {
+            // Reported Below
+        }
+        System.err.println("Error: Invalid year " + value + ". Expected " + MIN_YEAR + " to " + MAX_YEAR + ".");
+        System.exit(1);
+        return 0;
+    }
+
+    static int getYear(long timestamp) {
+        return Instant.ofEpochMilli(timestamp).atZone(ZoneId.systemDefault()).getYear();
+    }
+}
@@ -0,0 +1,135 @@
+package cli;
+
+import render.TimelapseExporter;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/* Event Grapher
+ * Christopher Cruzen
+ * 10.19.2026
+ *
+ *   TimelapseCommand replays a year of input into a directory of PNG frames showing the
+ * infographic filling in, one frame per day or per hour (see TimelapseExporter).
+ *
+ * Ex: java -cp build Main --timelapse --step=hour --output=frames "input\events-*.txt"
+ */
+
+public class TimelapseCommand {
+
+
+    /*--- Variables ---*/
+
+    // Constants
+    public static final String FLAG = "--timelapse";
+    private static final String STEP_OPTION = "--step=";
+    private static final String OUTPUT_OPTION = "--output=";
+    private static final String SCALE_OPTION = "--scale=";
+    private static final String YEAR_OPTION = "--year=";
+    private static final String DEFAULT_OUTPUT = "timelapse";
+
+    // Options
+    private TimelapseExporter.Step step;
+    private String output;
+    private double scale;
+    private Integer year;
+    private final List<String> inputPatterns;
+
+    // Variables
+    private TimelapseExporter exporter;
+
+
+    /*--- Constructor ---*/
+
+    // Arguments are options followed by input file paths or globs.
+    public TimelapseCommand(List<String> arguments) {
+        step = TimelapseExporter.Step.DAY;
+        output = DEFAULT_OUTPUT;
+        scale = 1;
+        inputPatterns = new ArrayList<>();
+        for (String argument : arguments) {
+            if (argument.startsWith(STEP_OPTION)) {
+                step = parseStep(argument.substring(STEP_OPTION.length()));
+            } else if (argument.startsWith(OUTPUT_OPTION)) {
+                output = argument.substring(OUTPUT_OPTION.length());
+            } else if (argument.startsWith(SCALE_OPTION)) {
+                scale = parseScale(argument.substring(SCALE_OPTION.length()));
+            } else if (argument.startsWith(YEAR_OPTION)) {
+                year = StreamAggregator.parseYear(argument.substring(YEAR_OPTION.length()));
+            } else {
+                inputPatterns.add(argument);
+            }
+        }
+    }
+
+
+    /*--- Public Methods ---*/
+
+    public void run() {
+        System.setProperty("java.awt.headless", "true");
+        File directory = new File(output);
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            System.err.println("Error: Couldn't create " + output + ".");
+            System.exit(1);
+        }
+
+        // Replay Events Into Frames
+        long start = System.nanoTime();
+        int frames = 0;
+        try {
+            StreamAggregator.stream(inputPatterns, (timestamp, type) -> {
+                if (exporter == null) {
+                    exporter = new TimelapseExporter(directory, year != null ? year : StreamAggregator.getYear(timestamp), step, scale);
+                }
+                try {
+                    exporter.accept(timestamp, type);
+                } catch (IOException exception) {
+                    fail();
+                }
+            });
+            if (exporter == null) {
+                exporter = new TimelapseExporter(directory, year != null ? year : Year.now().getValue(), step, scale);
+            }
+            frames = exporter.finish();
+        } catch (IOException exception) {
+            fail();
+        }
+        StreamAggregator.warnIfOutOfOrder(exporter.getAggregates());
+        System.out.println("Wrote " + frames + " frames to " + output + " in "
+                + ((System.nanoTime() - start) / 1000000) + "ms.");
+    }
+
+
+    /*--- Private Methods ---*/
+
+    private void fail() {
+        System.err.println("Error: Couldn't write frames to " + output + ".");
+        System.exit(1);
+    }
+
+    private static TimelapseExporter.Step parseStep(String value) {
+        try {
+            return TimelapseExporter.Step.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException exception) {
+            System.err.println("Error: Unknown step " + value + ". Expected day or hour.");
+            System.exit(1);
+            return null;
+        }
+    }
+
+    private static double parseScale(String value) {
+        try {
+            double scale = Double.parseDouble(value);
+            if (scale > 0 && scale <= 4) return scale;
+        } catch (NumberFormatException exception) {
+            // Reported Below
+        }
+        System.err.println("Error: Invalid scale " + value + ". Expected a number up to 4.");
+        System.exit(1);
+        return 1;
+    }
+}
@@ -0,0 +1,410 @@
+package index;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/* Event Grapher
+ * Christopher Cruzen
+ * 10.19.2026
+ *
+ *   EventBitmap is an immutable, compressed set of event positions. Positions are
+ * split into 65536-wide chunks keyed by their high 16 bits. Sparse chunks store
+ * their low bits as a sorted char array and dense chunks as a 1024-word bitmap,
+ * so memory tracks the number of set positions rather than the dataset size.
+ *
+ *   Set operations (and, or, andNot, not) work chunk by chunk, using word-level
+ * logic for dense chunks and merge walks for sparse ones.
+ */
+
+public class EventBitmap {
+
+
+    /*--- Variables ---*/
+
+    // Constants
+    private static final int ARRAY_LIMIT = 4096;
+    private static final int BITMAP_WORDS = 1024;
+    private static final EventBitmap EMPTY = new EventBitmap(new char[0], new Object[0], 0);
+
+    // Variables
+    private final char[] keys;
+    private final Object[] containers;  // char[] (sparse) or long[] (dense), one per key
+    private final int cardinality;
+
+
+    /*--- Constructor ---*/
+
+    private EventBitmap(char[] keys, Object[] containers, int size) {
+        this.keys = keys;
+        this.containers = containers;
+        int total = 0;
+        for (int x = 0; x < size; x++) total += getCardinality(containers[x]);
+        this.cardinality = total;
+    }
+
+
+    /*--- Public Static Methods ---*/
+
+    public static EventBitmap empty() {
+        return EMPTY;
+    }
+
+    // Returns a bitmap holding every position from 0 (inclusive) to size (exclusive).
+    public static EventBitmap range(int size) {
+        Builder builder = new Builder();
+        for (int x = 0; x < size; x++) builder.add(x);
+        return builder.build();
+    }
+
+    public static EventBitmap of(int... sortedPositions) {
+        Builder builder = new Builder();
+        for (int position : sortedPositions) builder.add(position);
+        return builder.build();
+    }
+
+
+    /*--- Public Set Methods ---*/
+
+    public EventBitmap and(EventBitmap other) {
+        Combiner combiner = new Combiner(Math.min(keys.length, other.keys.length));
+        int a = 0;
+        int b = 0;
+        while (a < keys.length && b < other.keys.length) {
+            if (keys[a] < other.keys[b]) {
+                a++;
+            } else if (keys[a] > other.keys[b]) {
+                b++;
+            } else {
+                combiner.add(keys[a], andContainers(containers[a], other.containers[b]));
+                a++;
+                b++;
+            }
+        }
+        return combiner.build();
+    }
+
+    public EventBitmap or(EventBitmap other) {
+        Combiner combiner = new Combiner(keys.length + other.keys.length);
+        int a = 0;
+        int b = 0;
+        while (a < keys.length || b < other.keys.length) {
+            if (b >= other.keys.length || (a < keys.length && keys[a] < other.keys[b])) {
+                combiner.add(keys[a], containers[a]);
+                a++;
+            } else if (a >= keys.length || keys[a] > other.keys[b]) {
+                combiner.add(other.keys[b], other.containers[b]);
+                b++;
+            } else {
+                combiner.add(keys[a], orContainers(containers[a], other.containers[b]));
+                a++;
+                b++;
+            }
+        }
+        return combiner.build();
+    }
+
+    public EventBitmap andNot(EventBitmap other) {
+        Combiner combiner = new Combiner(keys.length);
+        int b = 0;
+        for (int a = 0; a < keys.length; a++) {
+            while (b < other.keys.length && other.keys[b] < keys[a]) b++;
+            if (b < other.keys.length && other.keys[b] == keys[a]) {
+                combiner.add(keys[a], andNotContainers(containers[a], other.containers[b]));
+            } else {
+                combiner.add(keys[a], containers[a]);
+            }
+        }
+        return combiner.build();
+    }
+
+    // Returns every position below universeSize that isn't in this bitmap.
+    public EventBitmap not(int universeSize) {
+        return range(universeSize).andNot(this);
+    }
+
+
+    /*--- Public Access Methods ---*/
+
+    public int getCardinality() {
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return cardinality == 0;
+    }
+
+    public boolean contains(int position) {
+        int keyIndex = Arrays.binarySearch(keys, (char) (position >>> 16));
+        if (keyIndex < 0) return false;
+        char low = (char) position;
+        Object container = containers[keyIndex];
+        if (container instanceof long[]) {
+            return (((long[]) container)[low >>> 6] & (1L << low)) != 0;
+        }
+        return Arrays.binarySearch((char[]) container, low) >= 0;
+    }
+
+    // Visits every position in ascending order.
+    public void forEach(IntConsumer consumer) {
+        for (int x = 0; x < keys.length; x++) {
+            int high = keys[x] << 16;
+            Object container = containers[x];
+            if (container instanceof long[]) {
+                long[] words = (long[]) container;
+                for (int w = 0; w < BITMAP_WORDS; w++) {
+                    long word = words[w];
+                    while (word != 0) {
+                        consumer.accept(high | (w << 6) | Long.numberOfTrailingZeros(word));
+                        word &= word - 1;
+                    }
+                }
+            } else {
+                for (char low : (char[]) container) consumer.accept(high | low);
+            }
+        }
+    }
+
+    public int[] toArray() {
+        int[] positions = new int[cardinality];
+        int[] next = {0};
+        forEach(position -> positions[next[0]++] = position);
+        return positions;
+    }
+
+    // Returns an approximation of the heap used by this bitmap's containers, in bytes.
+    public long getSizeInBytes() {
+        long bytes = keys.length * 2L;
+        for (Object container : containers) {
+            bytes += (container instanceof long[]) ? BITMAP_WORDS * 8L : ((char[]) container).length * 2L;
+        }
+        return bytes;
+    }
+
+
+    /*--- Private Container Methods ---*/
+
+    private static int getCardinality(Object container) {
+        if (container instanceof long[]) {
+            int count = 0;
+            for (long word : (long[]) container) count += Long.bitCount(word);
+            return count;
+        }
+        return ((char[]) container).length;
+    }
+
+    private static Object andContainers(Object a, Object b) {
+        if (a instanceof char[] && b instanceof char[]) {
+            char[] left = (char[]) a;
+            char[] right = (char[]) b;
+            char[] result = new char[Math.min(left.length, right.length)];
+            int size = 0;
+            int x = 0;
+            int y = 0;
+            while (x < left.length && y < right.length) {
+                if (left[x] < right[y]) {
+                    x++;
+                } else if (left[x] > right[y]) {
+                    y++;
+                } else {
+                    result[size++] = left[x];
+                    x++;
+                    y++;
+                }
+            }
+            return Arrays.copyOf(result, size);
+        }
+        if (a instanceof long[] && b instanceof long[]) {
+            long[] result = new long[BITMAP_WORDS];
+            long[] left = (long[]) a;
+            long[] right = (long[]) b;
+            for (int w = 0; w < BITMAP_WORDS; w++) result[w] = left[w] & right[w];
+            return normalize(result);
+        }
+        char[] sparse = (char[]) (a instanceof char[] ? a : b);
+        long[] dense = (long[]) (a instanceof long[] ? a : b);
+        char[] result = new char[sparse.length];
+        int size = 0;
+        for (char low : sparse) {
+            if ((dense[low >>> 6] & (1L << low)) != 0) result[size++] = low;
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    private static Object orContainers(Object a, Object b) {
+        if (a instanceof char[] && b instanceof char[]) {
+            char[] left = (char[]) a;
+            char[] right = (char[]) b;
+            char[] result = new char[left.length + right.length];
+            int size = 0;
+            int x = 0;
+            int y = 0;
+            while (x < left.length || y < right.length) {
+                if (y >= right.length || (x < left.length && left[x] < right[y])) {
+                    result[size++] = left[x++];
+                } else if (x >= left.length || left[x] > right[y]) {
+                    result[size++] = right[y++];
+                } else {
+                    result[size++] = left[x++];
+                    y++;
+                }
+            }
+            return normalize(Arrays.copyOf(result, size));
+        }
+        long[] result = toWords(a);
+        if (b instanceof long[]) {
+            long[] right = (long[]) b;
+            for (int w = 0; w < BITMAP_WORDS; w++) result[w] |= right[w];
+        } else {
+            for (char low : (char[]) b) result[low >>> 6] |= 1L << low;
+        }
+        return result;
+    }
+
+    private static Object andNotContainers(Object a, Object b) {
+        if (a instanceof char[]) {
+            char[] left = (char[]) a;
+            char[] result = new char[left.length];
+            int size = 0;
+            if (b instanceof long[]) {
+                long[] right = (long[]) b;
+                for (char low : left) {
+                    if ((right[low >>> 6] & (1L << low)) == 0) result[size++] = low;
+                }
+            } else {
+                char[] right = (char[]) b;
+                int y = 0;
+                for (char low : left) {
+                    while (y < right.length && right[y] < low) y++;
+                    if (y >= right.length || right[y] != low) result[size++] = low;
+                }
+            }
+            return Arrays.copyOf(result, size);
+        }
+        long[] result = ((long[]) a).clone();
+        if (b instanceof long[]) {
+            long[] right = (long[]) b;
+            for (int w = 0; w < BITMAP_WORDS; w++) result[w] &= ~right[w];
+        } else {
+            for (char low : (char[]) b) result[low >>> 6] &= ~(1L << low);
+        }
+        return normalize(result);
+    }
+
+    private static long[] toWords(Object container) {
+        if (container instanceof long[]) return ((long[]) container).clone();
+        long[] words = new long[BITMAP_WORDS];
+        for (char low : (char[]) container) words[low >>> 6] |= 1L << low;
+        return words;
+    }
+
+    // Picks the smaller representation for a container's contents.
+    private static Object normalize(Object container) {
+        int count = getCardinality(container);
+        if (container instanceof long[] && count <= ARRAY_LIMIT) {
+            char[] lows = new char[count];
+            int size = 0;
+            long[] words = (long[]) container;
+            for (int w = 0; w < BITMAP_WORDS; w++) {
+                long word = words[w];
+                while (word != 0) {
+                    lows[size++] = (char) ((w << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return lows;
+        }
+        if (container instanceof char[] && count > ARRAY_LIMIT) {
+            return toWords(container);
+        }
+        return container;
+    }
+
+
+    /*--- Public Classes ---*/
+
+    // Builds a bitmap from positions added in ascending order. Repeated positions are ignored.
+    public static class Builder {
+
+        private char[] keys = new char[4];
+        private Object[] containers = new Object[4];
+        private int size = 0;
+        private char[] lows = new char[16];
+        private long[] words = null;
+        private int lowCount = 0;
+        private int currentKey = -1;
+        private int lastPosition = -1;
+
+        public Builder add(int position) {
+            if (position < 0) throw new IllegalArgumentException("Negative event position.");
+            if (position <= lastPosition) {
+                if (position == lastPosition) return this;
+                throw new IllegalArgumentException("Positions must be added in ascending order.");
+            }
+            lastPosition = position;
+
+            int key = position >>> 16;
+            if (key != currentKey) {
+                flush();
+                currentKey = key;
+            }
+            char low = (char) position;
+            if (words != null) {
+                words[low >>> 6] |= 1L << low;
+            } else {
+                if (lowCount == lows.length) lows = Arrays.copyOf(lows, lows.length * 2);
+                lows[lowCount++] = low;
+                if (lowCount > ARRAY_LIMIT) {
+                    words = toWords(Arrays.copyOf(lows, lowCount));
+                }
+            }
+            return this;
+        }
+
+        public EventBitmap build() {
+            flush();
+            return new EventBitmap(Arrays.copyOf(keys, size), Arrays.copyOf(containers, size), size);
+        }
+
+        private void flush() {
+            if (currentKey < 0) return;
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                containers = Arrays.copyOf(containers, size * 2);
+            }
+            keys[size] = (char) currentKey;
+            containers[size] = (words != null) ? words : Arrays.copyOf(lows, lowCount);
+            size++;
+            words = null;
+            lowCount = 0;
+            currentKey = -1;
+        }
+    }
+
+
+    /*--- Private Classes ---*/
+
+    // Collects result containers, dropping empty ones.
+    private static class Combiner {
+
+        private final char[] keys;
+        private final Object[] containers;
+        private int size = 0;
+
+        Combiner(int capacity) {
+            keys = new char[capacity];
+            containers = new Object[capacity];
+        }
+
+        void add(char key, Object container) {
+            if (container instanceof char[] && ((char[]) container).length == 0) return;
+            keys[size] = key;
+            containers[size] = container;
+            size++;
+        }
+
+        EventBitmap build() {
+            if (size == 0) return EMPTY;
+            return new EventBitmap(Arrays.copyOf(keys, size), Arrays.copyOf(containers, size), size);
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package index;
+
+import java.util.Locale;
+
+/* Event Grapher
+ * Christopher Cruzen
+ * 10.19.2026
+ *
+ *   EventFilter is a parsed boolean filter over an EventIndex. Expressions combine
+ * field:value terms with & (and), | (or), ! (not) and parentheses. Values run up to
+ * the next operator and may contain spaces, or may be quoted.
+ *
+ * Ex: type:shared & label:jazz
+ *     (performer:Alice | performer:"Bob & Co") & !platform:Twitch
+ *
+ *   Each filter has a canonical string form, so equivalent expressions written with
+ * different spacing or field case share the same cache key.
+ */
+
+public class EventFilter {
+
+
+    /*--- Variables ---*/
+
+    public static final EventFilter ALL = new EventFilter(null);
+
+    private final Node root;
+
+
+    /*--- Constructor ---*/
+
+    private EventFilter(Node root) {
+        this.root = root;
+    }
+
+
+    /*--- Public Static Methods ---*/
+
+    // Parses an expression. Blank expressions match every event.
+    public static EventFilter parse(String expression) throws IllegalArgumentException {
+        if (expression == null || expression.trim().isEmpty()) return ALL;
+        Parser parser = new Parser(expression);
+        Node root = parser.parseOr();
+        parser.skipSpaces();
+        if (!parser.atEnd()) throw parser.error("Unexpected '" + parser.peek() + "'");
+        return new EventFilter(root);
+    }
+
+
+    /*--- Public Methods ---*/
+
+    public EventBitmap evaluate(EventIndex index) {
+        return root == null ? index.getAll() : root.evaluate(index);
+    }
+
+    public boolean matchesAll() {
+        return root == null;
+    }
+
+    @Override
+    public String toString() {
+        return root == null ? "" : root.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof EventFilter && toString().equals(other.toString());
+    }
+
+    @Override
+    public int hashCode() {
+        return toString().hashCode();
+    }
+
+
+    /*--- Private Classes ---*/
+
+    private interface Node {
+        EventBitmap evaluate(EventIndex index);
+    }
+
+    private static class Term implements Node {
+
+        final EventIndex.Field field;
+        final String value;
+
+        Term(EventIndex.Field field, String value) {
+            this.field = field;
+            this.value = value;
+        }
+
+        public EventBitmap evaluate(EventIndex index) {
+            return index.get(field, value);
+        }
+
+        public String toString() {
+            return field.name().toLowerCase(Locale.ROOT) + ":\"" + value + "\"";
+        }
+    }
+
+    private static class Not implements Node {
+
+        final Node operand;
+
+        Not(Node operand) {
+            this.operand = operand;
+        }
+
+        public EventBitmap evaluate(EventIndex index) {
+            return operand.evaluate(index).not(index.getSize());
+        }
+
+        public String toString() {
+            return "!" + operand;
+        }
+    }
+
+    private static class Binary implements Node {
+
+        final Node left;
+        final Node right;
+        final boolean isAnd;
+
+        Binary(Node left, Node right, boolean isAnd) {
+            this.left = left;
+            this.right = right;
+            this.isAnd = isAnd;
+        }
+
+        public EventBitmap evaluate(EventIndex index) {
+
+            // Use andNot Rather Than Materializing A Complement
+            if (isAnd && right instanceof Not) {
+                return left.evaluate(index).andNot(((Not) right).operand.evaluate(index));
+            }
+            if (isAnd && left instanceof Not) {
+                return right.evaluate(index).andNot(((Not) left).operand.evaluate(index));
+            }
+
+            EventBitmap leftBitmap = left.evaluate(index);
+            EventBitmap rightBitmap = right.evaluate(index);
+            return isAnd ? leftBitmap.and(rightBitmap) : leftBitmap.or(rightBitmap);
+        }
+
+        public String toString() {
+            return "(" + left + (isAnd ? " & " : " | ") + right + ")";
+        }
+    }
+
+    private static class Parser {
+
+        private final String text;
+        private int position;
+
+        Parser(String text) {
+            this.text = text;
+            this.position = 0;
+        }
+
+        Node parseOr() {
+            Node node = parseAnd();
+            while (accept('|')) node = new Binary(node, parseAnd(), false);
+            return node;
+        }
+
+        Node parseAnd() {
+            Node node = parseUnary();
+            while (accept('&')) node = new Binary(node, parseUnary(), true);
+            return node;
+        }
+
+        Node parseUnary() {
+            if (accept('!')) return new Not(parseUnary());
+            if (accept('(')) {
+                Node node = parseOr();
+                if (!accept(')')) throw error("Missing ')'");
+                return node;
+            }
+            return parseTerm();
+        }
+
+        Node parseTerm() {
+            skipSpaces();
+            int colon = text.indexOf(':', position);
+            if (colon < 0) throw error("Expected field:value");
+            String fieldName = text.substring(position, colon).trim().toUpperCase(Locale.ROOT);
+            EventIndex.Field field;
+            try {
+                field = EventIndex.Field.valueOf(fieldName);
+            } catch (IllegalArgumentException exception) {
+                throw error("Unknown field '" + fieldName.toLowerCase(Locale.ROOT) + "'");
+            }
+            position = colon + 1;
+            skipSpaces();
+
+            // Quoted Value
+            String value;
+            if (!atEnd() && peek() == '"') {
+                int close = text.indexOf('"', position + 1);
+                if (close < 0) throw error("Missing closing quote");
+                value = text.substring(position + 1, close);
+                position = close + 1;
+
+            // Bare Value - Runs To Next Operator
+            } else {
+                int start = position;
+                while (!atEnd() && "&|()!".indexOf(peek()) < 0) position++;
+                value = text.substring(start, position).trim();
+            }
+            if (value.isEmpty()) throw error("Missing value for '" + fieldName.toLowerCase(Locale.ROOT) + "'");
+            return new Term(field, value);
+        }
+
+        boolean accept(char c) {
+            skipSpaces();
+            if (!atEnd() && peek() == c) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        void skipSpaces() {
+            while (!atEnd() && Character.isWhitespace(peek())) position++;
+        }
+
+        boolean atEnd() {
+            return position >= text.length();
+        }
+
+        char peek() {
+            return text.charAt(position);
+        }
+
+        IllegalArgumentException error(String message) {
+            return new IllegalArgumentException(message + " at position " + (position + 1) + ".");
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package index;
+
+import model.CreditedEvent;
+import model.Event;
+import model.LiveEvent;
+import model.Performer;
+import model.VirtualEvent;
+import model.types.EventType;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/* Event Grapher
+ * Christopher Cruzen
+ * 10.19.2026
+ *
+ *   EventIndex is a set of inverted indexes over an event list. For each indexed
+ * field it holds one EventBitmap per distinct value, marking the positions of the
+ * events that carry that value. Filters are answered by combining bitmaps rather
+ * than scanning events and their nested lists.
+ *
+ * Ex: Shared events labeled "jazz" at site "Venue":
+ *
+ *       index.get(Field.TYPE, "SHARED")
+ *            .and(index.get(Field.LABEL, "jazz"))
+ *            .and(index.get(Field.SITE, "Venue"))
+ */
+
+public class EventIndex {
+
+
+    /*--- Variables ---*/
+
+    public enum Field {
+        TYPE,
+        LABEL,
+        HEADLINER,
+        PERFORMER,
+        SITE,
+        PLATFORM
+    }
+
+    private final Map<Field, Map<String, EventBitmap>> bitmaps;
+    private final int size;
+
+
+    /*--- Constructor ---*/
+
+    public EventIndex(List<Event> events) {
+        size = events.size();
+
+        // Collect Positions Per Value
+        Map<Field, Map<String, EventBitmap.Builder>> builders = new HashMap<>();
+        for (Field field : Field.values()) builders.put(field, new HashMap<>());
+
+        for (int x = 0; x < events.size(); x++) {
+            Event event = events.get(x);
+            add(builders, Field.TYPE, event.type.name(), x);
+            for (String label : event.labels) add(builders, Field.LABEL, label, x);
+            for (String headliner : event.headliners) add(builders, Field.HEADLINER, headliner, x);
+            if (event instanceof VirtualEvent) {
+                add(builders, Field.PLATFORM, ((VirtualEvent) event).platform, x);
+            }
+            if (event instanceof CreditedEvent) {
+                for (String site : ((CreditedEvent) event).sites) add(builders, Field.SITE, site, x);
+            }
+            if (event instanceof LiveEvent) {
+                for (Performer performer : ((LiveEvent) event).performers) {
+                    add(builders, Field.PERFORMER, performer.name, x);
+                }
+            }
+        }
+
+        // Seal Bitmaps
+        bitmaps = new HashMap<>();
+        for (Field field : Field.values()) {
+            Map<String, EventBitmap> values = new HashMap<>();
+            builders.get(field).forEach((value, builder) -> values.put(value, builder.build()));
+            bitmaps.put(field, values);
+        }
+    }
+
+
+    /*--- Public Access Methods ---*/
+
+    // Returns the positions of events with the given field value (empty if none).
+    public EventBitmap get(Field field, String value) {
+        EventBitmap bitmap = bitmaps.get(field).get(normalize(field, value));
+        return bitmap != null ? bitmap : EventBitmap.empty();
+    }
+
+    public EventBitmap get(EventType type) {
+        return get(Field.TYPE, type.name());
+    }
+
+    public EventBitmap getAll() {
+        return EventBitmap.range(size);
+    }
+
+    public Set<String> getValues(Field field) {
+        return Collections.unmodifiableSet(bitmaps.get(field).keySet());
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+
+    /*--- Private Methods ---*/
+
+    private static void add(Map<Field, Map<String, EventBitmap.Builder>> builders, Field field, String value, int position) {
+        if (value == null) return;
+        String key = normalize(field, value);
+        if (key.isEmpty()) return;
+        builders.get(field).computeIfAbsent(key, k -> new EventBitmap.Builder()).add(position);
+    }
+
+    // Labels are stored lowercase by the parser, so label lookups ignore case.
+    private static String normalize(Field field, String value) {
+        String trimmed = value.trim();
+        return field == Field.LABEL || field == Field.TYPE ? trimmed.toLowerCase() : trimmed;
+    }
+}
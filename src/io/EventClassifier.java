@@ -0,0 +1,271 @@
+package io;
+
+import model.types.EventType;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/* Event Grapher
+ * Christopher Cruzen
+ * 10.19.2026
+ *
+ *   EventClassifier decides which model class a parsed line becomes. The decision is made
+ * by an ordered list of rules, read from input\classification.txt when that file exists
+ * and otherwise taken from the defaults below, which reproduce the original behavior.
+ * Each line of the file is one rule; the first rule that matches wins.
+ *
+ *     # Target: Conditions (all must hold)
+ *     EVENT:   type=SHARED
+ *     EVENT:   independent
+ *     VIRTUAL: type=VIRTUAL sites=none
+ *     ART:     labels=anime|comic|fanart
+ *     LIVE:    *
+ *
+ *   Conditions are "type=" one or more of SOLO|VIRTUAL|SHARED, "independent",
+ * "headliners=", "sites=", "performers=" or "labels=" followed by none or any, and
+ * "labels=" followed by label names, which matches events carrying any of them. "*"
+ * matches everything. Events no rule matches are built as plain events.
+ *
+ *   Rules are compiled once into a table indexed by the event's type and presence flags,
+ * whose entries are bitmasks of the rules those conditions allow, plus a map from each
+ * label named by a rule to the bitmask of rules naming it. Classifying an event is one
+ * table lookup, one map lookup per label it carries and a lowest-set-bit, however many
+ * rules there are.
+ */
+
+public class EventClassifier {
+
+
+    /*--- Variables ---*/
+
+    public enum Target {
+        EVENT,
+        VIRTUAL,
+        ART,
+        LIVE
+    }
+
+    // Constants
+    public static final String RULES_FILENAME = "input\\classification.txt";
+    public static final int MAX_RULES = Long.SIZE;
+    private static final String[] DEFAULT_RULES = {
+            "EVENT: type=SHARED",
+            "EVENT: independent",
+            "VIRTUAL: type=VIRTUAL sites=none",
+            "ART: labels=anime|comic|fanart",
+            "LIVE: *"
+    };
+
+    // Presence Flags
+    public static final int INDEPENDENT = 1;
+    public static final int HAS_HEADLINERS = 1 << 1;
+    public static final int HAS_SITES = 1 << 2;
+    public static final int HAS_PERFORMERS = 1 << 3;
+    public static final int HAS_LABELS = 1 << 4;
+    private static final int FLAG_BITS = 5;
+
+    // Compiled Rules
+    private final Target[] targets;
+    private final long[] featureRules;
+    private final Map<String, Long> labelRules;
+    private final long labelFreeRules;
+
+
+    /*--- Constructor ---*/
+
+    // Compiles rule lines in priority order. Throws IllegalArgumentException on a bad rule.
+    public EventClassifier(List<String> ruleLines) {
+        List<Target> ruleTargets = new ArrayList<>();
+        List<int[]> ruleMasks = new ArrayList<>();
+        List<List<String>> ruleLabels = new ArrayList<>();
+
+        // Parse Rules
+        for (int line = 0; line < ruleLines.size(); line++) {
+            String text = ruleLines.get(line).trim();
+            if (text.isEmpty() || text.startsWith("#")) continue;
+            if (ruleTargets.size() == MAX_RULES) {
+                throw new IllegalArgumentException("More than " + MAX_RULES + " rules.");
+            }
+            try {
+                parseRule(text, ruleTargets, ruleMasks, ruleLabels);
+            } catch (IllegalArgumentException exception) {
+                throw new IllegalArgumentException("Line " + (line + 1) + ": " + exception.getMessage());
+            }
+        }
+
+        // Compile Type & Flag Conditions Into One Table
+        targets = ruleTargets.toArray(new Target[0]);
+        featureRules = new long[EventType.values().length << FLAG_BITS];
+        for (int feature = 0; feature < featureRules.length; feature++) {
+            int typeBit = 1 << (feature >>> FLAG_BITS);
+            int flags = feature & ((1 << FLAG_BITS) - 1);
+            for (int rule = 0; rule < targets.length; rule++) {
+                int[] masks = ruleMasks.get(rule);
+                boolean matches = (masks[0] & typeBit) != 0
+                        && (flags & masks[1]) == masks[1]
+                        && (flags & masks[2]) == 0;
+                if (matches) featureRules[feature] |= 1L << rule;
+            }
+        }
+
+        // Compile Label Conditions Into Label Ids
+        labelRules = new HashMap<>();
+        long free = 0;
+        for (int rule = 0; rule < targets.length; rule++) {
+            if (ruleLabels.get(rule).isEmpty()) {
+                free |= 1L << rule;
+                continue;
+            }
+            for (String label : ruleLabels.get(rule)) labelRules.merge(label, 1L << rule, (a, b) -> a | b);
+        }
+        labelFreeRules = free;
+    }
+
+
+    /*--- Static Methods ---*/
+
+    // Returns the shared classifier, compiled from the rules file or the defaults on first use.
+    public static EventClassifier getInstance() {
+        return InstanceHolder.INSTANCE;
+    }
+
+    public static EventClassifier getDefault() {
+        return new EventClassifier(Arrays.asList(DEFAULT_RULES));
+    }
+
+
+    /*--- Public Methods ---*/
+
+    // Labels must already be lower case, as the parser stores them.
+    public Target classify(EventType type, int flags, List<String> labels) {
+        long candidates = featureRules[(type.ordinal() << FLAG_BITS) | flags];
+        long labelMatches = labelFreeRules;
+        for (String label : labels) {
+            Long rules = labelRules.get(label);
+            if (rules != null) labelMatches |= rules;
+        }
+        candidates &= labelMatches;
+        return candidates == 0 ? Target.EVENT : targets[Long.numberOfTrailingZeros(candidates)];
+    }
+
+    public int getRuleCount() {
+        return targets.length;
+    }
+
+
+    /*--- Private Methods ---*/
+
+    // Masks are {allowed type bits, required flags, forbidden flags}.
+    private static void parseRule(String text, List<Target> ruleTargets, List<int[]> ruleMasks,
+                                  List<List<String>> ruleLabels) {
+        int colon = text.indexOf(':');
+        if (colon < 0) throw new IllegalArgumentException("Expected TARGET: conditions.");
+        Target target;
+        try {
+            target = Target.valueOf(text.substring(0, colon).trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException exception) {
+            throw new IllegalArgumentException("Unknown target " + text.substring(0, colon).trim() + ".");
+        }
+
+        int[] masks = {(1 << EventType.values().length) - 1, 0, 0};
+        List<String> labels = new ArrayList<>();
+        String conditions = text.substring(colon + 1).trim();
+        if (conditions.isEmpty()) throw new IllegalArgumentException("Expected conditions or *.");
+        for (String condition : conditions.split("\\s+")) {
+            if (condition.equals("*")) continue;
+            if (condition.equalsIgnoreCase("independent")) {
+                masks[1] |= INDEPENDENT;
+                continue;
+            }
+            int equals = condition.indexOf('=');
+            if (equals < 0) throw new IllegalArgumentException("Unknown condition " + condition + ".");
+            String field = condition.substring(0, equals).toLowerCase(Locale.ROOT);
+            String value = condition.substring(equals + 1);
+
+            if (field.equals("type")) {
+                int types = 0;
+                for (String name : value.split("\\|")) {
+                    try {
+                        types |= 1 << EventType.valueOf(name.toUpperCase(Locale.ROOT)).ordinal();
+                    } catch (IllegalArgumentException exception) {
+                        throw new IllegalArgumentException("Unknown type " + name + ".");
+                    }
+                }
+                masks[0] &= types;
+            } else if (field.equals("labels") && !value.equalsIgnoreCase("none") && !value.equalsIgnoreCase("any")) {
+                for (String label : value.split("\\|")) {
+                    if (!label.isEmpty()) labels.add(label.toLowerCase(Locale.ROOT));
+                }
+            } else {
+                int flag = getFieldFlag(field);
+                if (value.equalsIgnoreCase("any")) {
+                    masks[1] |= flag;
+                } else if (value.equalsIgnoreCase("none")) {
+                    masks[2] |= flag;
+                } else {
+                    throw new IllegalArgumentException("Expected none or any for " + field + ".");
+                }
+            }
+        }
+
+        ruleTargets.add(target);
+        ruleMasks.add(masks);
+        ruleLabels.add(labels);
+    }
+
+    private static int getFieldFlag(String field) {
+        switch (field) {
+            case "headliners":
+                return HAS_HEADLINERS;
+            case "sites":
+                return HAS_SITES;
+            case "performers":
+                return HAS_PERFORMERS;
+            case "labels":
+                return HAS_LABELS;
+            default:
+                throw new IllegalArgumentException("Unknown field " + field + ".");
+        }
+    }
+
+    private static EventClassifier load() {
+        File rulesFile = new File(RULES_FILENAME);
+        if (!rulesFile.exists()) return getDefault();
+
+        List<String> lines = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new FileReader(rulesFile, StandardCharsets.UTF_8))) {
+            String line = reader.readLine();
+            while (line != null) {
+                lines.add(line);
+                line = reader.readLine();
+            }
+        } catch (IOException exception) {
+            System.out.println("Error: Issue reading classification rules.");
+            System.exit(1);
+        }
+        try {
+            return new EventClassifier(lines);
+        } catch (IllegalArgumentException exception) {
+            System.out.println("Error: Invalid classification rule. " + exception.getMessage());
+            System.exit(1);
+            return null;
+        }
+    }
+
+
+    /*--- Private Classes ---*/
+
+    // Loads the rules once, on first use, from whichever thread gets there first.
+    private static class InstanceHolder {
+        static final EventClassifier INSTANCE = load();
+    }
+}
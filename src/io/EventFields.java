@@ -0,0 +1,115 @@
+package io;
+
+import model.*;
+import model.types.EventType;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/* Event Grapher
+ * Christopher Cruzen
+ * 10.19.2026
+ *
+ *   EventFields holds everything one input record says about an event, whatever format
+ * it came from, and builds the model object the classifier picks for it. Every format
+ * parser fills one of these, so each produces the same Event hierarchy.
+ */
+
+class EventFields {
+
+
+    /*--- Variables ---*/
+
+    Date date;
+    EventType type;
+    boolean independent;
+    List<String> headliners;
+    List<String> sites;
+    List<Performer> performers;
+    List<String> labels;
+    String style;
+    String platform;
+    String format;
+    String location;
+    String note;
+
+
+    /*--- Constructor ---*/
+
+    EventFields(Date date, EventType type) {
+        this.date = date;
+        this.type = type;
+        headliners = new ArrayList<>();
+        sites = new ArrayList<>();
+        performers = new ArrayList<>();
+        labels = new ArrayList<>();
+        style = "";
+        platform = "";
+        format = "";
+        location = "";
+        note = "";
+    }
+
+
+    /*--- Build Method ---*/
+
+    // Labels must already be lower case.
+    Event build(EventClassifier classifier) {
+        int flags = (independent ? EventClassifier.INDEPENDENT : 0)
+                | (headliners.isEmpty() ? 0 : EventClassifier.HAS_HEADLINERS)
+                | (sites.isEmpty() ? 0 : EventClassifier.HAS_SITES)
+                | (performers.isEmpty() ? 0 : EventClassifier.HAS_PERFORMERS)
+                | (labels.isEmpty() ? 0 : EventClassifier.HAS_LABELS);
+        Event built;
+        switch (classifier.classify(type, flags, labels)) {
+            case VIRTUAL: {
+
+                // Virtual Event
+                VirtualEvent event = new VirtualEvent();
+                event.headliners = headliners;
+                event.platform = platform;
+                built = event;
+                break;
+            }
+            case ART: {
+
+                // Art Event
+                ArtEvent event = new ArtEvent();
+                event.headliners = headliners;
+                event.labels = labels;
+                event.platform = platform;
+                event.genre = labels.isEmpty() ? "" : labels.get(0);
+                built = event;
+                break;
+            }
+            case LIVE: {
+
+                // Live Event
+                LiveEvent event = new LiveEvent();
+                event.headliners = headliners;
+                event.labels = labels;
+                event.platform = platform;
+                event.sites = sites;
+                event.performers = performers;
+                event.style = style;
+                event.format = format;
+                built = event;
+                break;
+            }
+            default: {
+
+                // Shared Event
+                built = new Event();
+                built.headliners = headliners;
+                // TODO - Add gear
+                break;
+            }
+        }
+        built.date = date;
+        built.type = type;
+        built.location = location;
+        built.note = note;
+        return built;
+    }
+}
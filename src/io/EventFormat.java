@@ -0,0 +1,42 @@
+package io;
+
+import model.Event;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/* Event Grapher
+ * Christopher Cruzen
+ * 10.19.2026
+ *
+ *   EventFormat describes one input file format. Reading is split in two so that any
+ * format can use the chunked parallel load path: readRecord cuts the next record's text
+ * from the stream, cheaply and in order, and a RecordParser, of which each thread makes
+ * its own, turns record text into an event. Only one record is ever held per reader.
+ */
+
+public interface EventFormat {
+
+    // Short name, as shown in messages (ex: "ics").
+    String getName();
+
+    /* Note: Returns true if this format can read the named file. The head is the first
+     *       few thousand characters of the file, already decompressed.
+     */
+    boolean detect(String fileName, String head);
+
+    // Returns the text of the next record, or null at end of stream.
+    String readRecord(BufferedReader reader) throws IOException;
+
+    RecordParser newParser();
+
+
+    /*--- Nested Interfaces ---*/
+
+    // Not thread-safe; make one per thread.
+    interface RecordParser {
+
+        // Returns the event a record describes, or null if the record isn't an event.
+        Event parse(String record);
+    }
+}
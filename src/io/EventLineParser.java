@@ -0,0 +1,150 @@
+package io;
+
+import model.*;
+import model.types.EventType;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+/* Event Grapher
+ * Christopher Cruzen
+ * 10.19.2026
+ *
+ *   EventLineParser converts single lines of the Event Grapher input format into
+ * model objects. Each parser owns its own date format, so separate instances may
+ * be used safely from separate threads. Which model class a line becomes is decided
+ * by an EventClassifier's rules.
+ */
+
+public class EventLineParser {
+
+
+    /*--- Variables ---*/
+
+    private final SimpleDateFormat dateFormat;
+    private final EventClassifier classifier;
+
+
+    /*--- Constructor ---*/
+
+    public EventLineParser() {
+        this(EventClassifier.getInstance());
+    }
+
+    public EventLineParser(EventClassifier classifier) {
+        dateFormat = new SimpleDateFormat(EventRepository.EVENT_STRING_FORMAT.toPattern());
+        this.classifier = classifier;
+    }
+
+
+    /*--- Public Methods ---*/
+
+    // Returns the event described by a line, or null if the line isn't an event.
+    public Event parseLine(String line) {
+        Date eventDate = null;
+        EventType eventType = null;
+        List<String> headliners = new ArrayList<>();
+        List<String> sites = new ArrayList<>();
+        List<Performer> performers = new ArrayList<>();
+        String style = "";
+        String platform = "";
+        String format = "";
+        List<String> labels = new ArrayList<>();
+        boolean isIndependent = false;
+
+        // Check for comma separated list with 2+ items
+        if (line.isEmpty()) return null;
+        if (!line.contains(",")) return null;
+        List<String> elements = Arrays.asList(line.split(","));
+        if (elements.size() < 2) return null;
+
+        // Parse first item as date
+        try {
+            eventDate = dateFormat.parse(elements.get(0));
+        } catch (ParseException e) { return null; }
+        if (eventDate == null) return null;
+
+        // Parse second item as type
+        String typeString =  elements.get(1).trim();
+        if (typeString.length() < 1 || typeString.length() > 3) return null;
+        eventType = EventType.values()[typeString.length() - 1];
+
+        // 2020 Event - All info gathered, build & return
+        if (elements.size() == 2) {
+            Event event = new Event();
+            event.date = eventDate;
+            event.type = eventType;
+            return event;
+
+        // 2021+ Event - Continue parsing fields
+        } else {
+
+            // Parse third item as headliners/independent flag
+            if (eventType == EventType.VIRTUAL || eventType == EventType.SHARED) {
+                headliners = Arrays.asList(elements.get(2).trim().split("\\|"));
+            } else if (elements.get(2).equals("Independent")) {
+                isIndependent = true;
+            }
+
+            // Parse fourth item as sites
+            if (!elements.get(3).trim().isEmpty()) {
+                sites = Arrays.asList(elements.get(3).trim().split("\\|"));
+            }
+
+            // Parse fifth item as performers
+            if (!elements.get(4).trim().isEmpty()) {
+                String[] performerStrings = elements.get(4).trim().split("\\|");
+                for (String string: performerStrings) {
+                    String name = "";
+                    String site = "";
+                    if (string.contains("{")) {
+                        name = string.split("\\{")[0].trim();
+                        site = string.split("\\{")[1].substring(0, string.split("\\{")[1].length() - 1).trim();
+                    } else {
+                        name = string.trim();
+                    }
+                    performers.add(new Performer(name, site));
+                }
+            }
+
+            // Parse sixth item as style
+            if (!elements.get(5).trim().isEmpty()) {
+                style = elements.get(5).trim();
+            }
+
+            // Parse seventh item as platform
+            if (!elements.get(6).trim().isEmpty()) {
+                platform = elements.get(6).trim();
+            }
+
+            // Parse eighth item as format
+            if (!elements.get(7).trim().isEmpty()) {
+                format = elements.get(7).trim();
+            }
+
+            // Parse ninth element as labels
+            if (!elements.get(8).trim().equals("[]") && !elements.get(8).trim().isEmpty()) {
+                String[] labs = elements.get(8).trim().substring(1, elements.get(8).trim().length() - 1).split("\\|");
+                for (String label: labs) {
+                    labels.add(label.toLowerCase());
+                }
+            }
+
+            // Build Event
+            EventFields fields = new EventFields(eventDate, eventType);
+            fields.independent = isIndependent;
+            fields.headliners = headliners;
+            fields.sites = sites;
+            fields.performers = performers;
+            fields.labels = labels;
+            fields.style = style;
+            fields.platform = platform;
+            fields.format = format;
+            return fields.build(classifier);
+        }
+    }
+}
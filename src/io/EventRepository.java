@@ -1,14 +1,21 @@
 package io;
 
+import analysis.CooccurrenceGraph;
+import analysis.DistinctCounts;
+import analysis.Rankings;
+import analysis.RollingCounts;
+import index.EventBitmap;
+import index.EventIndex;
 import model.*;
 import model.types.EventType;
 
-import java.text.ParseException;
+import java.io.IOException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 /* Event Grapher
@@ -16,8 +23,12 @@ import java.util.stream.Collectors;
  * 07.19.2023
  *
  *   EventRepository is the root level data management class of Event Grapher.
- * After delegating a read of the input file, it parses and stores the returned
+ * After delegating a read of the input files, it parses and stores the returned
  * data in usable object lists that can be returned to its calling class.
+ *
+ *   The data itself lives in an immutable RepositorySnapshot. The repository holds the
+ * current one and swaps in a new one on reload, so long-lived readers like the dashboard
+ * server can keep working from a consistent version while the input changes under them.
  */
 
 public class EventRepository {
@@ -31,196 +42,171 @@ public class EventRepository {
 
     // Variables
     private final InputManager inputManager;
-    private List<String> rawInput;
-    private List<Event> eventList;
+    private final List<String> inputPatterns;
+    private final AtomicReference<RepositorySnapshot> currentSnapshot;
 
 
     /*--- Constructor ---*/
 
     public EventRepository() {
+        this(Collections.singletonList(InputManager.INPUT_FILENAME));
+    }
 
-        // Read Input File
+    // Accepts input file paths and/or file name globs (ex: "input/events-2023-*.txt").
+    public EventRepository(List<String> inputPatterns) {
         inputManager = new InputManager();
-        rawInput = inputManager.readInputFile();
+        this.inputPatterns = new ArrayList<>(inputPatterns);
+        currentSnapshot = new AtomicReference<>();
 
-        // Build Event List From Raw Input
-        buildEventList();
+        // Build The First Snapshot
+        try {
+            publish(RepositorySnapshot.build(inputManager, inputManager.resolveInputFiles(this.inputPatterns), null));
+        } catch (Exception exception) {
+            System.out.println("Error: Issue reading input file.");
+            System.exit(1);
+        }
     }
 
 
-    /*--- Private Initialization Methods ---*/
+    /*--- Public Snapshot Methods ---*/
 
-    private void buildEventList() {
-        eventList = new ArrayList<>();
+    /* Note: Readers should take one snapshot and use it for the whole of a unit of work
+     *       (a paint, a request) so everything they read comes from the same version. The
+     *       getters below each read whatever snapshot is current at the time.
+     */
+    public RepositorySnapshot getSnapshot() {
+        return currentSnapshot.get();
+    }
 
-        for (String line: rawInput) {
-            Event event = parseInputLine(line);
-            if (event != null) {
-                eventList.add(event);
-            }
-        }
+    // Returns true once any input file has changed, appeared or vanished since the current snapshot.
+    public boolean isStale() throws IOException {
+        return currentSnapshot.get().isStale(inputManager.findInputFiles(inputPatterns));
     }
 
-    private Event parseInputLine(String line) {
-        Date eventDate = null;
-        EventType eventType = null;
-        List<String> headliners = new ArrayList<>();
-        List<String> sites = new ArrayList<>();
-        List<Performer> performers = new ArrayList<>();
-        String style = "";
-        String platform = "";
-        String format = "";
-        List<String> labels = new ArrayList<>();
-        boolean isIndependent = false;
-
-        // Check for comma separated list with 2+ items
-        if (line.isEmpty()) return null;
-        if (!line.contains(",")) return null;
-        List<String> elements = Arrays.asList(line.split(","));
-        if (elements.size() < 2) return null;
-
-        // Parse first item as date
-        try {
-            eventDate = EVENT_STRING_FORMAT.parse(elements.get(0));
-        } catch (ParseException e) { return null; }
-        if (eventDate == null) return null;
-
-        // Parse second item as type
-        String typeString =  elements.get(1).trim();
-        if (typeString.length() < 1 || typeString.length() > 3) return null;
-        eventType = EventType.values()[typeString.length() - 1];
-
-        // 2020 Event - All info gathered, build & return
-        if (elements.size() == 2) {
-            Event event = new Event();
-            event.date = eventDate;
-            event.type = eventType;
-            return event;
-
-        // 2021+ Event - Continue parsing fields
-        } else {
-
-            // Parse third item as headliners/independent flag
-            if (eventType == EventType.VIRTUAL || eventType == EventType.SHARED) {
-                headliners = Arrays.asList(elements.get(2).trim().split("\\|"));
-            } else if (elements.get(2).equals("Independent")) {
-                isIndependent = true;
-            }
-
-            // Parse fourth item as sites
-            if (!elements.get(3).trim().isEmpty()) {
-                sites = Arrays.asList(elements.get(3).trim().split("\\|"));
-            }
-
-            // Parse fifth item as performers
-            if (!elements.get(4).trim().isEmpty()) {
-                String[] performerStrings = elements.get(4).trim().split("\\|");
-                for (String string: performerStrings) {
-                    String name = "";
-                    String site = "";
-                    if (string.contains("{")) {
-                        name = string.split("\\{")[0].trim();
-                        site = string.split("\\{")[1].substring(0, string.split("\\{")[1].length() - 1).trim();
-                    } else {
-                        name = string.trim();
-                    }
-                    performers.add(new Performer(name, site));
-                }
-            }
-
-            // Parse sixth item as style
-            if (!elements.get(5).trim().isEmpty()) {
-                style = elements.get(5).trim();
-            }
-
-            // Parse seventh item as platform
-            if (!elements.get(6).trim().isEmpty()) {
-                platform = elements.get(6).trim();
-            }
-
-            // Parse eighth item as format
-            if (!elements.get(7).trim().isEmpty()) {
-                format = elements.get(7).trim();
-            }
-
-            // Parse ninth element as labels
-            if (!elements.get(8).trim().equals("[]") && !elements.get(8).trim().isEmpty()) {
-                String[] labs = elements.get(8).trim().substring(1, elements.get(8).trim().length() - 1).split("\\|");
-                for (String label: labs) {
-                    labels.add(label.toLowerCase());
-                }
-            }
-
-            // Build Event
-            if (eventType == EventType.SHARED || isIndependent) {
-
-                // Shared Event
-                Event event = new Event();
-                event.date = eventDate;
-                event.type = eventType;
-                event.headliners = headliners;
-                // TODO - Add gear
-                // TODO - Add notes
-                return event;
-
-            } else if (eventType == EventType.VIRTUAL && sites.isEmpty()) {
-
-                // Virtual Event
-                VirtualEvent event = new VirtualEvent();
-                event.date = eventDate;
-                event.type = eventType;
-                event.headliners = headliners;
-                event.platform = platform;
-                return event;
-
-            } else {
-                if (labels.contains("anime") || labels.contains("comic") || labels.contains("fanart")) {
-
-                    // Art Event
-                    ArtEvent event = new ArtEvent();
-                    event.date = eventDate;
-                    event.type = eventType;
-                    event.headliners = headliners;
-                    event.labels = labels;
-                    event.platform = platform;
-                    event.genre = labels.get(0);
-                    return event;
-
-                } else {
-
-                    // Live Event
-                    LiveEvent event = new LiveEvent();
-                    event.date = eventDate;
-                    event.type = eventType;
-                    event.headliners = headliners;
-                    event.labels = labels;
-                    event.platform = platform;
-                    event.sites = sites;
-                    event.performers = performers;
-                    event.style = style;
-                    event.format = format;
-                    return event;
-                }
-            }
+    /* Note: Re-reads only the input files that changed and atomically publishes the result
+     *       as the next snapshot. Readers holding the previous snapshot are unaffected.
+     *       Returns false, publishing nothing, if no input file changed. A file that was
+     *       re-read counts as changed even if its events came out the same. Throws,
+     *       keeping the current snapshot, if an input file has gone missing.
+     */
+    public synchronized boolean reload() throws IOException {
+        RepositorySnapshot previous = currentSnapshot.get();
+        RepositorySnapshot next = RepositorySnapshot.build(inputManager, inputManager.findInputFiles(inputPatterns), previous);
+        if (next.getFingerprint() == previous.getFingerprint()) return false;
+        publish(next);
+        return true;
+    }
+
+
+    /*--- Private Methods ---*/
+
+    private void publish(RepositorySnapshot snapshot) {
+        if (snapshot.getOutOfOrderCount() > 0) {
+            System.err.println("Warning: Input out of order. " + snapshot.getOutOfOrderCount()
+                    + " events arrived after a later event and were sorted into place.");
         }
+        currentSnapshot.set(snapshot);
     }
 
 
     /*--- Public Data Access Methods ---*/
 
     public List<Event> getFullEventList() {
-        return eventList;
+        return currentSnapshot.get().getEvents();
+    }
+
+    // Returns event times in epoch millis, parallel to the full event list.
+    public long[] getTimestamps() {
+        return currentSnapshot.get().getTimestamps();
+    }
+
+    // Returns EventType ordinals, parallel to the full event list.
+    public byte[] getTypeCodes() {
+        return currentSnapshot.get().getTypeCodes();
+    }
+
+    // Returns sorted event times in epoch millis for a single event type.
+    public long[] getTimestamps(EventType type) {
+        return currentSnapshot.get().getTimestamps(type);
+    }
+
+    // Returns the most frequent headliners, performers, sites & platforms.
+    public Rankings getRankings() {
+        return currentSnapshot.get().getRankings();
+    }
+
+    // Returns distinct performer & site estimates for any week, month, year or range.
+    public DistinctCounts getDistinctCounts() {
+        return currentSnapshot.get().getDistinctCounts();
+    }
+
+    // Returns per-day running totals, answering any rolling-window sum or average in constant time.
+    public RollingCounts getRollingCounts() {
+        return currentSnapshot.get().getRollingCounts();
+    }
+
+    // Returns the performer & site co-occurrence graph, built on first use.
+    public CooccurrenceGraph getCooccurrenceGraph() {
+        return currentSnapshot.get().getCooccurrenceGraph();
+    }
+
+    // Numbers the current snapshot; increases with each reload that changes the input.
+    public long getVersion() {
+        return currentSnapshot.get().getVersion();
     }
 
     public List<Event> getSoloEventList() {
-        return eventList.stream().filter(event -> event.type == EventType.SOLO).collect(Collectors.toList());
+        return getFullEventList().stream().filter(event -> event.type == EventType.SOLO).collect(Collectors.toList());
     }
 
     public List<Event> getVirtualEventList() {
-        return eventList.stream().filter(event -> event.type == EventType.VIRTUAL).collect(Collectors.toList());
+        return getFullEventList().stream().filter(event -> event.type == EventType.VIRTUAL).collect(Collectors.toList());
     }
 
     public List<Event> getSharedEventList() {
-        return eventList.stream().filter(event -> event.type == EventType.SHARED).collect(Collectors.toList());
+        return getFullEventList().stream().filter(event -> event.type == EventType.SHARED).collect(Collectors.toList());
+    }
+
+
+    /*--- Public Index Query Methods ---*/
+
+    // Returns inverted bitmap indexes over type, labels, headliners, performers, sites & platforms.
+    public EventIndex getEventIndex() {
+        return currentSnapshot.get().getEventIndex();
+    }
+
+    // Returns a read-only list of the events whose positions are set in the bitmap.
+    public List<Event> eventsMatching(EventBitmap bitmap) {
+        return currentSnapshot.get().eventsMatching(bitmap);
+    }
+
+
+    /*--- Public Range Query Methods ---*/
+
+    // See RepositorySnapshot; each call reads the current snapshot.
+
+    public List<Event> eventsBetween(Date start, Date end) {
+        return currentSnapshot.get().eventsBetween(start, end);
+    }
+
+    public List<Event> eventsBetween(long start, long end) {
+        return currentSnapshot.get().eventsBetween(start, end);
+    }
+
+    public int countBetween(Date start, Date end) {
+        return currentSnapshot.get().countBetween(start, end);
+    }
+
+    public int countBetween(long start, long end) {
+        return currentSnapshot.get().countBetween(start, end);
+    }
+
+    public int countBetween(long start, long end, EventType type) {
+        return currentSnapshot.get().countBetween(start, end, type);
+    }
+
+    // Returns the index of the first event at or after the given time.
+    public int indexAtOrAfter(long time) {
+        return currentSnapshot.get().indexAtOrAfter(time);
     }
 }
@@ -0,0 +1,155 @@
+package io;
+
+import model.Event;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/* Event Grapher
+ * Christopher Cruzen
+ * 10.19.2026
+ *
+ *   EventSorter is the ordering stage of event ingestion. Everything downstream
+ * of EventRepository assumes chronological order, so parsed events pass through
+ * here before they're stored.
+ *
+ *   Sorting works on primitive long keys rather than Date comparisons. Each key
+ * packs an event's time offset into its high bits and its list index into its
+ * low bits, so a plain primitive sort yields a stable index permutation. Input
+ * that's already in order is detected in a single pass and returned untouched.
+ */
+
+public class EventSorter {
+
+
+    /*--- Variables ---*/
+
+    // Constants
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 16;
+
+    // Variables
+    private int outOfOrderCount;
+
+
+    /*--- Constructor ---*/
+
+    public EventSorter() {
+        outOfOrderCount = 0;
+    }
+
+
+    /*--- Public Methods ---*/
+
+    // Returns the events in chronological order, preserving file order for ties.
+    public List<Event> sort(List<Event> events) {
+        int size = events.size();
+        long[] times = new long[size];
+        for (int x = 0; x < size; x++) {
+            times[x] = events.get(x).date.getTime();
+        }
+
+        // Already Sorted - Common Case, O(N)
+        outOfOrderCount = countOutOfOrder(times);
+        if (outOfOrderCount == 0) return events;
+
+        // Build & Apply Permutation
+        int[] permutation = getSortedPermutation(times);
+        List<Event> sorted = new ArrayList<>(size);
+        for (int index : permutation) {
+            sorted.add(events.get(index));
+        }
+        return sorted;
+    }
+
+    // Returns the number of events found earlier than their predecessor by the last sort.
+    public int getOutOfOrderCount() {
+        return outOfOrderCount;
+    }
+
+
+    /*--- Public Static Methods ---*/
+
+    // Counts the times earlier than the one before them, not how many would have to move.
+    public static int countOutOfOrder(long[] times) {
+        int count = 0;
+        for (int x = 1; x < times.length; x++) {
+            if (times[x] < times[x - 1]) count++;
+        }
+        return count;
+    }
+
+    // Returns the indices of times in ascending time order (stable).
+    public static int[] getSortedPermutation(long[] times) {
+        int size = times.length;
+        int[] permutation = new int[size];
+        if (size == 0) return permutation;
+
+        // Determine Key Layout
+        long min = times[0];
+        long max = times[0];
+        for (long time : times) {
+            if (time < min) min = time;
+            if (time > max) max = time;
+        }
+        int indexBits = Math.max(1, 32 - Integer.numberOfLeadingZeros(size - 1));
+        int offsetBits = 63 - indexBits;
+        long range = max - min;
+
+        if (range >= 0 && range < (1L << offsetBits)) {
+
+            // Packed Keys - Offset In High Bits, Index In Low Bits
+            long[] keys = new long[size];
+            for (int x = 0; x < size; x++) {
+                keys[x] = ((times[x] - min) << indexBits) | x;
+            }
+            sortKeys(keys);
+            long indexMask = (1L << indexBits) - 1;
+            for (int x = 0; x < size; x++) {
+                permutation[x] = (int) (keys[x] & indexMask);
+            }
+
+        } else {
+
+            // Wide Time Range - Sort Times With A Parallel Index Array
+            long[] keys = times.clone();
+            for (int x = 0; x < size; x++) permutation[x] = x;
+            mergeSort(keys, permutation, new long[size], new int[size], 0, size);
+        }
+
+        return permutation;
+    }
+
+
+    /*--- Private Methods ---*/
+
+    private static void sortKeys(long[] keys) {
+        if (keys.length >= PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(keys);
+        } else {
+            Arrays.sort(keys);
+        }
+    }
+
+    private static void mergeSort(long[] keys, int[] values, long[] keyBuffer, int[] valueBuffer, int from, int to) {
+        if (to - from < 2) return;
+        int middle = (from + to) >>> 1;
+        mergeSort(keys, values, keyBuffer, valueBuffer, from, middle);
+        mergeSort(keys, values, keyBuffer, valueBuffer, middle, to);
+        if (keys[middle - 1] <= keys[middle]) return;
+
+        int left = from;
+        int right = middle;
+        for (int x = from; x < to; x++) {
+            if (right >= to || (left < middle && keys[left] <= keys[right])) {
+                keyBuffer[x] = keys[left];
+                valueBuffer[x] = values[left++];
+            } else {
+                keyBuffer[x] = keys[right];
+                valueBuffer[x] = values[right++];
+            }
+        }
+        System.arraycopy(keyBuffer, from, keys, from, to - from);
+        System.arraycopy(valueBuffer, from, values, from, to - from);
+    }
+}
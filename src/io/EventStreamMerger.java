@@ -0,0 +1,148 @@
+package io;
+
+import model.Event;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/* Event Grapher
+ * Christopher Cruzen
+ * 10.19.2026
+ *
+ *   EventStreamMerger combines several input files into one chronological event
+ * stream. Each file is read lazily through its own cursor, and a min-heap keyed on
+ * each cursor's next event time picks the earliest event across all files. Only
+ * one pending event per file is held in memory at a time. Each file is read in the
+ * format FormatRegistry detects for it.
+ *
+ * Note: Files are expected to be chronological internally. Any disorder inside a
+ *       file passes through the merge and is corrected later by EventSorter.
+ */
+
+public class EventStreamMerger implements AutoCloseable {
+
+
+    /*--- Variables ---*/
+
+    private final PriorityQueue<EventCursor> cursorHeap;
+
+
+    /*--- Constructor ---*/
+
+    public EventStreamMerger(InputManager inputManager, List<File> inputFiles) throws IOException {
+        cursorHeap = new PriorityQueue<>(Math.max(1, inputFiles.size()));
+
+        // Open Every File, Closing Those Already Open If One Fails
+        try {
+            for (int x = 0; x < inputFiles.size(); x++) {
+                openCursor(inputManager, inputFiles.get(x), x);
+            }
+        } catch (IOException | RuntimeException exception) {
+            for (EventCursor cursor : cursorHeap) closeQuietly(cursor.reader, exception);
+            cursorHeap.clear();
+            throw exception;
+        }
+    }
+
+
+    /*--- Public Methods ---*/
+
+    // Returns the next event in time order across all files, or null when exhausted.
+    public Event next() throws IOException {
+        EventCursor cursor = cursorHeap.poll();
+        if (cursor == null) return null;
+
+        Event event = cursor.current;
+        if (cursor.advance()) {
+            cursorHeap.add(cursor);
+        } else {
+            cursor.close();
+        }
+        return event;
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (EventCursor cursor : cursorHeap) {
+            cursor.close();
+        }
+        cursorHeap.clear();
+    }
+
+
+    /*--- Private Methods ---*/
+
+    // Heaps a cursor at the file's first event; an empty or unreadable file is closed at once.
+    private void openCursor(InputManager inputManager, File file, int fileIndex) throws IOException {
+        BufferedReader reader = inputManager.openInputFile(file);
+        try {
+            EventCursor cursor = new EventCursor(reader, FormatRegistry.detect(file, reader), fileIndex);
+            if (cursor.advance()) {
+                cursorHeap.add(cursor);
+                return;
+            }
+        } catch (IOException | RuntimeException exception) {
+            closeQuietly(reader, exception);
+            throw exception;
+        }
+        reader.close();
+    }
+
+    // Closes a reader while another failure is being thrown, keeping any close failure with it.
+    private static void closeQuietly(BufferedReader reader, Exception failure) {
+        try {
+            reader.close();
+        } catch (IOException exception) {
+            failure.addSuppressed(exception);
+        }
+    }
+
+
+    /*--- Private Classes ---*/
+
+    private static class EventCursor implements Comparable<EventCursor> {
+
+        private final BufferedReader reader;
+        private final EventFormat format;
+        private final EventFormat.RecordParser parser;
+        private final int fileIndex;
+        private Event current;
+        private long currentTime;
+
+        EventCursor(BufferedReader reader, EventFormat format, int fileIndex) {
+            this.reader = reader;
+            this.format = format;
+            this.parser = format.newParser();
+            this.fileIndex = fileIndex;
+        }
+
+        // Reads ahead to the next parsable event, returning false at end of file.
+        boolean advance() throws IOException {
+            String record = format.readRecord(reader);
+            while (record != null) {
+                Event event = parser.parse(record);
+                if (event != null) {
+                    current = event;
+                    currentTime = event.date.getTime();
+                    return true;
+                }
+                record = format.readRecord(reader);
+            }
+            current = null;
+            return false;
+        }
+
+        void close() throws IOException {
+            reader.close();
+        }
+
+        @Override
+        public int compareTo(EventCursor other) {
+            int result = Long.compare(currentTime, other.currentTime);
+            return result != 0 ? result : Integer.compare(fileIndex, other.fileIndex);
+        }
+    }
+}
@@ -0,0 +1,322 @@
+package io;
+
+import model.types.EventType;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/* Event Grapher
+ * Christopher Cruzen
+ * 10.19.2026
+ *
+ *   ExternalSorter puts more (timestamp, type) records in time order than the heap could
+ * hold. Records are buffered up to a fixed run size, sorted, and spilled to a temporary
+ * file; at the end the runs are merged through a min-heap, a bounded number at a time,
+ * and handed to a sink in order. Memory stays at one run buffer plus one read buffer per
+ * merged run, however many records there are.
+ *
+ *   Runs are compact: a run file starts with its first time, and every record after is
+ * one variable-length integer packing the gap since the previous record with the type
+ * in its low bits, so typical records take two or three bytes instead of nine.
+ *
+ * Note: Records with equal times may come out in any type order. Nothing aggregated
+ *       from them depends on it.
+ */
+
+public class ExternalSorter implements AutoCloseable {
+
+
+    /*--- Interfaces ---*/
+
+    public interface RecordSink {
+        void accept(long timestamp, int type);
+    }
+
+
+    /*--- Variables ---*/
+
+    // Constants
+    public static final int DEFAULT_RUN_RECORDS = 1 << 20;
+    private static final int TYPE_BITS = 2;
+    private static final long TYPE_MASK = (1 << TYPE_BITS) - 1;
+    private static final long MAX_PACKED_OFFSET = 1L << (63 - TYPE_BITS);
+    private static final int MAX_MERGE_WAYS = 64;
+    private static final int STREAM_BUFFER = 1 << 16;
+
+    // Run Buffer
+    private final File directory;
+    private final long[] times;
+    private final byte[] types;
+    private int size;
+
+    // Spilled Runs
+    private final List<Run> runs;
+    private long recordCount;
+
+
+    /*--- Constructors ---*/
+
+    public ExternalSorter() {
+        this(DEFAULT_RUN_RECORDS, null);
+    }
+
+    // A null directory spills to the system temporary directory.
+    public ExternalSorter(int runRecords, File directory) {
+        if (EventType.values().length > (1 << TYPE_BITS)) throw new IllegalStateException("Too many event types.");
+        this.directory = directory;
+        times = new long[Math.max(1, runRecords)];
+        types = new byte[times.length];
+        runs = new ArrayList<>();
+    }
+
+
+    /*--- Public Methods ---*/
+
+    public void add(long timestamp, int type) throws IOException {
+        if (size == times.length) spill();
+        times[size] = timestamp;
+        types[size++] = (byte) type;
+        recordCount++;
+    }
+
+    /* Note: Method passes every record added, in time order, to the sink, then deletes the
+     *       runs. Input that fit in one run is sorted in memory and never touches disk.
+     */
+    public void merge(RecordSink sink) throws IOException {
+        if (runs.isEmpty()) {
+            sortBuffer(sink);
+            size = 0;
+            return;
+        }
+        if (size > 0) spill();
+
+        // Merge Down To One Pass' Worth Of Runs
+        while (runs.size() > MAX_MERGE_WAYS) {
+            List<Run> group = new ArrayList<>(runs.subList(0, MAX_MERGE_WAYS));
+            runs.subList(0, MAX_MERGE_WAYS).clear();
+            try (RunWriter writer = new RunWriter(createRunFile())) {
+                mergeRuns(group, writer::write);
+                runs.add(writer.finish());
+            } catch (SpillException exception) {
+                throw exception.getCause();
+            }
+        }
+        List<Run> group = new ArrayList<>(runs);
+        runs.clear();
+        mergeRuns(group, sink);
+    }
+
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    // Returns the number of runs spilled to disk so far.
+    public int getRunCount() {
+        return runs.size();
+    }
+
+    // Deletes any runs still on disk.
+    @Override
+    public void close() {
+        for (Run run : runs) run.file.delete();
+        runs.clear();
+    }
+
+
+    /*--- Private Methods ---*/
+
+    private void spill() throws IOException {
+        try (RunWriter writer = new RunWriter(createRunFile())) {
+            sortBuffer(writer::write);
+            runs.add(writer.finish());
+        } catch (SpillException exception) {
+            throw exception.getCause();
+        }
+        size = 0;
+    }
+
+    // Sorts the buffered records, packing each time's offset over the type where it fits.
+    private void sortBuffer(RecordSink sink) {
+        if (size == 0) return;
+        long min = times[0];
+        long max = times[0];
+        for (int x = 1; x < size; x++) {
+            if (times[x] < min) min = times[x];
+            if (times[x] > max) max = times[x];
+        }
+
+        if (max - min >= 0 && max - min < MAX_PACKED_OFFSET) {
+
+            // Packed Keys - Offset In High Bits, Type In Low Bits
+            long[] keys = times;
+            for (int x = 0; x < size; x++) keys[x] = ((times[x] - min) << TYPE_BITS) | types[x];
+            Arrays.parallelSort(keys, 0, size);
+            for (int x = 0; x < size; x++) sink.accept((keys[x] >>> TYPE_BITS) + min, (int) (keys[x] & TYPE_MASK));
+
+        } else {
+
+            // Wide Time Range - Sort Through A Permutation
+            int[] permutation = EventSorter.getSortedPermutation(Arrays.copyOf(times, size));
+            for (int index : permutation) sink.accept(times[index], types[index]);
+        }
+    }
+
+    // Merges runs by time, earlier runs first among equal times, deleting each as it's used up.
+    private static void mergeRuns(List<Run> group, RecordSink sink) throws IOException {
+        PriorityQueue<RunReader> heap = new PriorityQueue<>(group.size());
+        try {
+            for (int x = 0; x < group.size(); x++) {
+                RunReader reader = new RunReader(group.get(x), x);
+                if (reader.advance()) heap.add(reader);
+                else reader.close();
+            }
+            RunReader reader = heap.poll();
+            while (reader != null) {
+                sink.accept(reader.time, reader.type);
+                if (reader.advance()) heap.add(reader);
+                else reader.close();
+                reader = heap.poll();
+            }
+        } finally {
+            for (RunReader reader : heap) reader.close();
+            for (Run run : group) run.file.delete();
+        }
+    }
+
+    private File createRunFile() throws IOException {
+        File file = File.createTempFile("events-", ".run", directory);
+        file.deleteOnExit();
+        return file;
+    }
+
+
+    /*--- Private Classes ---*/
+
+    private static class Run {
+
+        final File file;
+        final long count;
+
+        Run(File file, long count) {
+            this.file = file;
+            this.count = count;
+        }
+    }
+
+    private static class RunWriter implements AutoCloseable {
+
+        private final File file;
+        private final DataOutputStream stream;
+        private long previous;
+        private long count;
+
+        RunWriter(File file) throws IOException {
+            this.file = file;
+            stream = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), STREAM_BUFFER));
+        }
+
+        // Records must arrive in time order.
+        void write(long time, int type) {
+            try {
+                if (count == 0) {
+                    stream.writeLong(time);
+                    previous = time;
+                }
+                long packed = ((time - previous) << TYPE_BITS) | type;
+                while ((packed & ~0x7fL) != 0) {
+                    stream.write((int) (packed & 0x7f) | 0x80);
+                    packed >>>= 7;
+                }
+                stream.write((int) packed);
+                previous = time;
+                count++;
+            } catch (IOException exception) {
+                throw new SpillException(exception);
+            }
+        }
+
+        Run finish() throws IOException {
+            stream.flush();
+            return new Run(file, count);
+        }
+
+        @Override
+        public void close() throws IOException {
+            stream.close();
+        }
+    }
+
+    private static class RunReader implements Comparable<RunReader> {
+
+        private final DataInputStream stream;
+        private final int order;
+        private long remaining;
+        private boolean started;
+        private long time;
+        private int type;
+
+        RunReader(Run run, int order) throws IOException {
+            stream = new DataInputStream(new BufferedInputStream(new FileInputStream(run.file), STREAM_BUFFER));
+            this.order = order;
+            remaining = run.count;
+        }
+
+        // Reads the next record, returning false at the end of the run.
+        boolean advance() throws IOException {
+            if (remaining == 0) return false;
+            if (!started) {
+                time = stream.readLong();
+                started = true;
+            }
+            long packed = 0;
+            int shift = 0;
+            int next;
+            do {
+                next = stream.read();
+                if (next < 0) throw new EOFException("Run ended early.");
+                packed |= (long) (next & 0x7f) << shift;
+                shift += 7;
+            } while ((next & 0x80) != 0);
+            time += packed >>> TYPE_BITS;
+            type = (int) (packed & TYPE_MASK);
+            remaining--;
+            return true;
+        }
+
+        void close() throws IOException {
+            stream.close();
+        }
+
+        @Override
+        public int compareTo(RunReader other) {
+            int result = Long.compare(time, other.time);
+            return result != 0 ? result : Integer.compare(order, other.order);
+        }
+    }
+
+    // Carries a write failure out of a RecordSink, which can't throw checked exceptions.
+    private static class SpillException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        SpillException(IOException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized IOException getCause() {
+            return (IOException) super.getCause();
+        }
+    }
+}
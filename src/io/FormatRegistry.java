@@ -0,0 +1,71 @@
+package io;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/* Event Grapher
+ * Christopher Cruzen
+ * 10.19.2026
+ *
+ *   FormatRegistry knows every input format and picks one for each input file. Formats
+ * are asked in registration order, newest first, with the original line format as the
+ * fallback, so a file that no other format claims reads exactly as before. Detection
+ * looks at the file name (less any .gz) and at the first few thousand characters, so
+ * piped and compressed input is recognized too.
+ */
+
+public class FormatRegistry {
+
+
+    /*--- Variables ---*/
+
+    // Constants
+    private static final int HEAD_SIZE = 4096;
+    private static final EventFormat DEFAULT_FORMAT = new LineFormat();
+
+    // Variables
+    private static final List<EventFormat> formats = new CopyOnWriteArrayList<>(List.of(
+            new IcsFormat(),
+            new JsonLinesFormat()
+    ));
+
+
+    /*--- Constructor ---*/
+
+    private FormatRegistry() {
+    }
+
+
+    /*--- Public Methods ---*/
+
+    // Registered formats are asked before the built-in ones.
+    public static void register(EventFormat format) {
+        formats.add(0, format);
+    }
+
+    /* Note: Peeks at the start of the reader without consuming it, so the reader must
+     *       support mark, as those from InputManager do.
+     */
+    public static EventFormat detect(File file, BufferedReader reader) throws IOException {
+        char[] head = new char[HEAD_SIZE];
+        reader.mark(HEAD_SIZE);
+        int length = 0;
+        int read = 0;
+        while (length < HEAD_SIZE && (read = reader.read(head, length, HEAD_SIZE - length)) > 0) {
+            length += read;
+        }
+        reader.reset();
+
+        String fileName = file.getName().toLowerCase(Locale.ROOT);
+        if (fileName.endsWith(".gz")) fileName = fileName.substring(0, fileName.length() - 3);
+        String headText = new String(head, 0, length);
+        for (EventFormat format : formats) {
+            if (format.detect(fileName, headText)) return format;
+        }
+        return DEFAULT_FORMAT;
+    }
+}
@@ -0,0 +1,249 @@
+package io;
+
+import model.Event;
+import model.Performer;
+import model.types.EventType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+/* Event Grapher
+ * Christopher Cruzen
+ * 10.19.2026
+ *
+ *   IcsFormat reads iCalendar exports (.ics). Each VEVENT becomes one event, and the
+ * reader holds only the VEVENT being read, so calendars of any size stream through.
+ *
+ *   DTSTART gives the time, in UTC, its TZID, or local time when floating; all-day
+ * events start at local midnight. The event's type comes from an X-EVENT-TYPE property
+ * (SOLO, VIRTUAL or SHARED) when present; otherwise an event with attendees is SHARED,
+ * one whose location is a link is VIRTUAL, and any other is SOLO. Attendee names become
+ * headliners of virtual and shared events and performers of solo ones. CATEGORIES become
+ * labels, URL becomes a site, LOCATION the location (and a virtual event's platform) and
+ * SUMMARY the note. Recurrence rules are not expanded; each VEVENT counts once.
+ */
+
+class IcsFormat implements EventFormat {
+
+
+    /*--- Variables ---*/
+
+    // Constants
+    private static final String BEGIN_EVENT = "BEGIN:VEVENT";
+    private static final String END_EVENT = "END:VEVENT";
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+
+    /*--- Format Methods ---*/
+
+    @Override
+    public String getName() {
+        return "ics";
+    }
+
+    @Override
+    public boolean detect(String fileName, String head) {
+        if (fileName.endsWith(".ics") || fileName.endsWith(".ical")) return true;
+        return head.replace("\uFEFF", "").stripLeading().toUpperCase(Locale.ROOT).startsWith("BEGIN:VCALENDAR");
+    }
+
+    // Returns one VEVENT's lines, still folded, joined by newlines.
+    @Override
+    public String readRecord(BufferedReader reader) throws IOException {
+        String line = reader.readLine();
+        while (line != null && !line.trim().equalsIgnoreCase(BEGIN_EVENT)) {
+            line = reader.readLine();
+        }
+        if (line == null) return null;
+
+        StringBuilder record = new StringBuilder();
+        line = reader.readLine();
+        while (line != null && !line.trim().equalsIgnoreCase(END_EVENT)) {
+            record.append(line).append('\n');
+            line = reader.readLine();
+        }
+        return record.toString();
+    }
+
+    @Override
+    public RecordParser newParser() {
+        return new Parser();
+    }
+
+
+    /*--- Private Classes ---*/
+
+    private static class Parser implements RecordParser {
+
+        private final EventClassifier classifier;
+
+        Parser() {
+            classifier = EventClassifier.getInstance();
+        }
+
+        @Override
+        public Event parse(String record) {
+            Date date = null;
+            EventType type = null;
+            List<String> attendees = new ArrayList<>();
+            List<String> sites = new ArrayList<>();
+            List<String> labels = new ArrayList<>();
+            String location = "";
+            String summary = "";
+            int nesting = 0;
+
+            // Unfold Continuation Lines, Then Read Each Property
+            for (String line : record.replace("\n ", "").replace("\n\t", "").split("\n")) {
+                int colon = findValueStart(line);
+                if (colon < 0) continue;
+                String[] nameAndParameters = line.substring(0, colon).split(";");
+                String name = nameAndParameters[0].trim().toUpperCase(Locale.ROOT);
+                String value = line.substring(colon + 1);
+
+                // Skip Nested Components Such As Alarms
+                if (name.equals("BEGIN")) nesting++;
+                if (name.equals("END")) nesting--;
+                if (nesting > 0 || name.equals("END")) continue;
+
+                switch (name) {
+                    case "DTSTART":
+                        date = parseDate(value.trim(), nameAndParameters);
+                        break;
+                    case "X-EVENT-TYPE":
+                        try {
+                            type = EventType.valueOf(value.trim().toUpperCase(Locale.ROOT));
+                        } catch (IllegalArgumentException exception) {
+                            return null;
+                        }
+                        break;
+                    case "ATTENDEE":
+                        String attendee = getParameter(nameAndParameters, "CN");
+                        if (attendee.isEmpty()) attendee = value.replaceFirst("(?i)^mailto:", "").trim();
+                        if (!attendee.isEmpty()) attendees.add(attendee);
+                        break;
+                    case "CATEGORIES":
+                        for (String label : splitList(value)) labels.add(label.toLowerCase());
+                        break;
+                    case "URL":
+                        if (!value.isBlank()) sites.add(value.trim());
+                        break;
+                    case "LOCATION":
+                        location = unescape(value).trim();
+                        break;
+                    case "SUMMARY":
+                        summary = unescape(value).trim();
+                        break;
+                    default:
+                        break;
+                }
+            }
+            if (date == null) return null;
+
+            // Infer Type
+            if (type == null) {
+                if (!attendees.isEmpty()) {
+                    type = EventType.SHARED;
+                } else if (location.startsWith("http://") || location.startsWith("https://")) {
+                    type = EventType.VIRTUAL;
+                } else {
+                    type = EventType.SOLO;
+                }
+            }
+
+            // Build Event
+            EventFields fields = new EventFields(date, type);
+            if (type == EventType.SOLO) {
+                for (String attendee : attendees) fields.performers.add(new Performer(attendee, ""));
+            } else {
+                fields.headliners = attendees;
+            }
+            if (type == EventType.VIRTUAL) fields.platform = location;
+            fields.sites = sites;
+            fields.labels = labels;
+            fields.location = location;
+            fields.note = summary;
+            return fields.build(classifier);
+        }
+
+        private static Date parseDate(String value, String[] parameters) {
+            try {
+                if (value.length() == 8 || getParameter(parameters, "VALUE").equalsIgnoreCase("DATE")) {
+                    return Date.from(LocalDate.parse(value.substring(0, 8), DATE_FORMAT)
+                            .atStartOfDay(ZoneId.systemDefault()).toInstant());
+                }
+                if (value.endsWith("Z")) {
+                    return Date.from(LocalDateTime.parse(value.substring(0, value.length() - 1), DATE_TIME_FORMAT)
+                            .toInstant(ZoneOffset.UTC));
+                }
+                String zoneName = getParameter(parameters, "TZID");
+                ZoneId zone = ZoneId.systemDefault();
+                if (!zoneName.isEmpty()) {
+                    try {
+                        zone = ZoneId.of(zoneName);
+                    } catch (DateTimeException exception) {
+                        // Unknown Zone - Treat As Local Time
+                    }
+                }
+                return Date.from(LocalDateTime.parse(value, DATE_TIME_FORMAT).atZone(zone).toInstant());
+            } catch (DateTimeException | IndexOutOfBoundsException exception) {
+                return null;
+            }
+        }
+
+        // Returns the index of the colon that ends the name and parameters, skipping quoted text.
+        private static int findValueStart(String line) {
+            boolean quoted = false;
+            for (int x = 0; x < line.length(); x++) {
+                char next = line.charAt(x);
+                if (next == '"') quoted = !quoted;
+                if (next == ':' && !quoted) return x;
+            }
+            return -1;
+        }
+
+        private static String getParameter(String[] nameAndParameters, String parameter) {
+            for (int x = 1; x < nameAndParameters.length; x++) {
+                int equals = nameAndParameters[x].indexOf('=');
+                if (equals > 0 && nameAndParameters[x].substring(0, equals).trim().equalsIgnoreCase(parameter)) {
+                    return nameAndParameters[x].substring(equals + 1).replace("\"", "").trim();
+                }
+            }
+            return "";
+        }
+
+        // Splits a comma separated text value, honoring escaped commas.
+        private static List<String> splitList(String value) {
+            List<String> items = new ArrayList<>();
+            for (String item : value.split("(?<!\\\\),")) {
+                String text = unescape(item).trim();
+                if (!text.isEmpty()) items.add(text);
+            }
+            return items;
+        }
+
+        private static String unescape(String value) {
+            StringBuilder text = new StringBuilder(value.length());
+            for (int x = 0; x < value.length(); x++) {
+                char next = value.charAt(x);
+                if (next == '\\' && x + 1 < value.length()) {
+                    char escaped = value.charAt(++x);
+                    text.append(escaped == 'n' || escaped == 'N' ? '\n' : escaped);
+                } else {
+                    text.append(next);
+                }
+            }
+            return text.toString();
+        }
+    }
+}
@@ -1,16 +1,34 @@
 package io;
 
+import java.io.BufferedInputStream;
 import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileReader;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
 
 /* Event Grapher
  * Christopher Cruzen
  * 07.19.2023
  *
  *   InputManager manages direct file access logic for Event Grapher.
+ *
+ *   Input files may be gzip-compressed, and "-" reads from stdin, so archives can be
+ * read in place or piped from another process. Compressed input is recognized by its
+ * header bytes rather than its name and is decompressed as a stream, on its own thread,
+ * straight into the parser. Nothing is decompressed to disk.
  */
 
 public class InputManager {
@@ -19,50 +37,83 @@ public class InputManager {
     /*--- Variables ---*/
 
     // Constants
-    private static final String INPUT_FILENAME = "input\\input.txt";
+    public static final String INPUT_FILENAME = "input\\input.txt";
+    public static final String STDIN_NAME = "-";
+    private static final int BUFFER_SIZE = 1 << 16;
 
-    // Variables
-    private final File inputFile;
-    private List<String> inputContents;
 
+    /*--- Public IO Methods ---*/
 
-    /*--- Constructor ---*/
+    /* Note: Method expands a list of file paths and glob patterns (ex: "input/2023-*.txt")
+     *       into the matching input files. Globs only apply to the file name portion of
+     *       a pattern. Files are returned in name order, without duplicates.
+     */
+    public List<File> resolveInputFiles(List<String> patterns) {
+        try {
+            return findInputFiles(patterns);
+        } catch (FileNotFoundException exception) {
+            System.out.println("Error: " + exception.getMessage());
+            System.exit(1);
+            return new ArrayList<>();
+        }
+    }
 
-    public InputManager() {
+    // Same as resolveInputFiles, but throws rather than exiting, for callers that must outlive a missing file.
+    public List<File> findInputFiles(List<String> patterns) throws FileNotFoundException {
+        Set<File> files = new LinkedHashSet<>();
 
-        // Set Up Variables
-        inputFile = new File(INPUT_FILENAME);
-    }
+        for (String pattern : patterns) {
+            File file = new File(pattern);
+            if (pattern.equals(STDIN_NAME) || !isGlob(file.getName())) {
+                files.add(file);
+                continue;
+            }
 
+            File directory = file.getAbsoluteFile().getParentFile();
+            PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + file.getName());
+            File[] matches = directory == null ? null : directory.listFiles((dir, name) ->
+                    matcher.matches(Path.of(name)) && new File(dir, name).isFile()
+            );
+            if (matches != null) {
+                Arrays.sort(matches);
+                files.addAll(Arrays.asList(matches));
+            }
+        }
 
-    /*--- Public IO Methods ---*/
+        if (files.isEmpty()) throw new FileNotFoundException("No input file.");
+        for (File file : files) {
+            if (!isStdin(file) && !file.exists()) throw new FileNotFoundException("No input file " + file.getPath() + ".");
+        }
 
-    public List<String> readInputFile() {
-        if (!inputFile.exists()) {
-            System.out.println("Error: No input file.");
-            System.exit(1);
+        return new ArrayList<>(files);
+    }
+
+    public BufferedReader openInputFile(File file) throws IOException {
+        InputStream stream = new BufferedInputStream(isStdin(file) ? System.in : new FileInputStream(file), BUFFER_SIZE);
+        if (isGzip(stream)) {
+            stream = new ReadAheadInputStream(new GZIPInputStream(stream, BUFFER_SIZE), file.getName());
         }
+        return new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
 
-        inputContents = new ArrayList<>();
-        BufferedReader bufferedReader;
+    public static boolean isStdin(File file) {
+        return file.getPath().equals(STDIN_NAME);
+    }
 
-        try {
-            bufferedReader = new BufferedReader(new FileReader(inputFile));
-            String line = bufferedReader.readLine();
 
-            while (line != null) {
-                inputContents.add(line);
-                line = bufferedReader.readLine();
-            }
+    /*--- Private Methods ---*/
 
-            bufferedReader.close();
-            return inputContents;
+    // Peeks at the gzip magic number without consuming it.
+    private boolean isGzip(InputStream stream) throws IOException {
+        stream.mark(2);
+        int first = stream.read();
+        int second = stream.read();
+        stream.reset();
+        return first == 0x1f && second == 0x8b;
+    }
 
-        } catch (Exception exception) {
-            System.out.println("Error: Issue reading input file.");
-            System.exit(1);
-            return new ArrayList<>();
-        }
+    private boolean isGlob(String name) {
+        return name.contains("*") || name.contains("?") || name.contains("[") || name.contains("{");
     }
 
 }
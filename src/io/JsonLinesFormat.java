@@ -0,0 +1,299 @@
+package io;
+
+import model.Event;
+import model.Performer;
+import model.types.EventType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/* Event Grapher
+ * Christopher Cruzen
+ * 10.19.2026
+ *
+ *   JsonLinesFormat reads JSON lines dumps (.jsonl, .ndjson), one event object per line:
+ *
+ *     {"date": "2023-01-05T05:43:00", "type": "VIRTUAL", "headliners": ["Eve", "Finn"],
+ *      "platform": "plat2", "labels": ["anime"]}
+ *
+ *   "date" may be ISO-8601, with or without an offset (local time when without), the
+ * line format's "MM.dd.yyyy hh:mma", or epoch millis. "type" is SOLO, VIRTUAL or SHARED.
+ * Optional fields are "independent" (boolean), the string lists "headliners", "sites"
+ * and "labels", "performers" (names, or objects with "name" and "site"), and the strings
+ * "style", "platform", "format", "location" and "note". Other keys are ignored, and lines
+ * that aren't event objects are skipped.
+ */
+
+class JsonLinesFormat implements EventFormat {
+
+
+    /*--- Format Methods ---*/
+
+    @Override
+    public String getName() {
+        return "jsonl";
+    }
+
+    @Override
+    public boolean detect(String fileName, String head) {
+        if (fileName.endsWith(".jsonl") || fileName.endsWith(".ndjson")) return true;
+        return head.stripLeading().startsWith("{");
+    }
+
+    @Override
+    public String readRecord(BufferedReader reader) throws IOException {
+        return reader.readLine();
+    }
+
+    @Override
+    public RecordParser newParser() {
+        return new Parser();
+    }
+
+
+    /*--- Private Classes ---*/
+
+    private static class Parser implements RecordParser {
+
+        private final SimpleDateFormat dateFormat;
+        private final EventClassifier classifier;
+
+        Parser() {
+            dateFormat = new SimpleDateFormat(EventRepository.EVENT_STRING_FORMAT.toPattern());
+            classifier = EventClassifier.getInstance();
+        }
+
+        @Override
+        public Event parse(String record) {
+            if (record.isBlank()) return null;
+            try {
+                Object value = new JsonReader(record).readDocument();
+                if (!(value instanceof Map)) return null;
+                Map<?, ?> object = (Map<?, ?>) value;
+
+                // Required Fields
+                Date date = parseDate(object.get("date"));
+                if (date == null || !(object.get("type") instanceof String)) return null;
+                EventType type = EventType.valueOf(((String) object.get("type")).trim().toUpperCase(Locale.ROOT));
+
+                // Optional Fields
+                EventFields fields = new EventFields(date, type);
+                fields.independent = Boolean.TRUE.equals(object.get("independent"));
+                fields.headliners = getStrings(object.get("headliners"), false);
+                fields.sites = getStrings(object.get("sites"), false);
+                fields.labels = getStrings(object.get("labels"), true);
+                fields.performers = getPerformers(object.get("performers"));
+                fields.style = getString(object.get("style"));
+                fields.platform = getString(object.get("platform"));
+                fields.format = getString(object.get("format"));
+                fields.location = getString(object.get("location"));
+                fields.note = getString(object.get("note"));
+                return fields.build(classifier);
+
+            } catch (IllegalArgumentException | IndexOutOfBoundsException exception) {
+                return null;
+            }
+        }
+
+        private Date parseDate(Object value) {
+            if (value instanceof Number) return new Date(((Number) value).longValue());
+            if (!(value instanceof String)) return null;
+            String text = ((String) value).trim();
+            try {
+                return Date.from(OffsetDateTime.parse(text).toInstant());
+            } catch (DateTimeParseException exception) {
+                // Not Offset Time
+            }
+            try {
+                return Date.from(LocalDateTime.parse(text).atZone(ZoneId.systemDefault()).toInstant());
+            } catch (DateTimeParseException exception) {
+                // Not Local Time
+            }
+            try {
+                return Date.from(Instant.parse(text));
+            } catch (DateTimeParseException exception) {
+                // Not An Instant
+            }
+            try {
+                return dateFormat.parse(text);
+            } catch (ParseException exception) {
+                return null;
+            }
+        }
+
+        private static String getString(Object value) {
+            return value instanceof String ? ((String) value).trim() : "";
+        }
+
+        private static List<String> getStrings(Object value, boolean lowerCase) {
+            List<String> strings = new ArrayList<>();
+            if (!(value instanceof List)) return strings;
+            for (Object item : (List<?>) value) {
+                if (!(item instanceof String) || ((String) item).isBlank()) continue;
+                String text = ((String) item).trim();
+                strings.add(lowerCase ? text.toLowerCase() : text);
+            }
+            return strings;
+        }
+
+        private static List<Performer> getPerformers(Object value) {
+            List<Performer> performers = new ArrayList<>();
+            if (!(value instanceof List)) return performers;
+            for (Object item : (List<?>) value) {
+                if (item instanceof String) {
+                    performers.add(new Performer(((String) item).trim(), ""));
+                } else if (item instanceof Map) {
+                    Performer performer = new Performer(getString(((Map<?, ?>) item).get("name")), "");
+                    performer.site = getString(((Map<?, ?>) item).get("site"));
+                    performers.add(performer);
+                }
+            }
+            return performers;
+        }
+    }
+
+    // Minimal JSON reader for one document. Numbers are read as Long or Double.
+    private static class JsonReader {
+
+        private final String text;
+        private int position;
+
+        JsonReader(String text) {
+            this.text = text;
+        }
+
+        Object readDocument() {
+            Object value = readValue();
+            skipWhitespace();
+            if (position != text.length()) throw new IllegalArgumentException("Trailing characters.");
+            return value;
+        }
+
+        private Object readValue() {
+            skipWhitespace();
+            if (position >= text.length()) throw new IllegalArgumentException("Unexpected end.");
+            char next = text.charAt(position);
+            switch (next) {
+                case '{':
+                    return readObject();
+                case '[':
+                    return readArray();
+                case '"':
+                    return readString();
+                case 't':
+                    expect("true");
+                    return Boolean.TRUE;
+                case 'f':
+                    expect("false");
+                    return Boolean.FALSE;
+                case 'n':
+                    expect("null");
+                    return null;
+                default:
+                    return readNumber();
+            }
+        }
+
+        private Map<String, Object> readObject() {
+            Map<String, Object> object = new HashMap<>();
+            position++;
+            skipWhitespace();
+            if (peek() == '}') {
+                position++;
+                return object;
+            }
+            while (true) {
+                skipWhitespace();
+                if (peek() != '"') throw new IllegalArgumentException("Expected key.");
+                String key = readString();
+                skipWhitespace();
+                if (peek() != ':') throw new IllegalArgumentException("Expected colon.");
+                position++;
+                object.put(key, readValue());
+                skipWhitespace();
+                char next = text.charAt(position++);
+                if (next == '}') return object;
+                if (next != ',') throw new IllegalArgumentException("Expected comma.");
+            }
+        }
+
+        private List<Object> readArray() {
+            List<Object> array = new ArrayList<>();
+            position++;
+            skipWhitespace();
+            if (peek() == ']') {
+                position++;
+                return array;
+            }
+            while (true) {
+                array.add(readValue());
+                skipWhitespace();
+                char next = text.charAt(position++);
+                if (next == ']') return array;
+                if (next != ',') throw new IllegalArgumentException("Expected comma.");
+            }
+        }
+
+        private String readString() {
+            StringBuilder builder = new StringBuilder();
+            position++;
+            while (true) {
+                char next = text.charAt(position++);
+                if (next == '"') return builder.toString();
+                if (next != '\\') {
+                    builder.append(next);
+                    continue;
+                }
+                char escaped = text.charAt(position++);
+                switch (escaped) {
+                    case 'b': builder.append('\b'); break;
+                    case 'f': builder.append('\f'); break;
+                    case 'n': builder.append('\n'); break;
+                    case 'r': builder.append('\r'); break;
+                    case 't': builder.append('\t'); break;
+                    case 'u':
+                        builder.append((char) Integer.parseInt(text.substring(position, position + 4), 16));
+                        position += 4;
+                        break;
+                    default: builder.append(escaped);
+                }
+            }
+        }
+
+        private Number readNumber() {
+            int start = position;
+            while (position < text.length() && "+-0123456789.eE".indexOf(text.charAt(position)) >= 0) position++;
+            String number = text.substring(start, position);
+            if (number.isEmpty()) throw new IllegalArgumentException("Unexpected character.");
+            if (number.contains(".") || number.contains("e") || number.contains("E")) return Double.parseDouble(number);
+            return Long.parseLong(number);
+        }
+
+        private void expect(String word) {
+            if (!text.startsWith(word, position)) throw new IllegalArgumentException("Expected " + word + ".");
+            position += word.length();
+        }
+
+        private char peek() {
+            if (position >= text.length()) throw new IllegalArgumentException("Unexpected end.");
+            return text.charAt(position);
+        }
+
+        private void skipWhitespace() {
+            while (position < text.length() && Character.isWhitespace(text.charAt(position))) position++;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package io;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/* Event Grapher
+ * Christopher Cruzen
+ * 10.19.2026
+ *
+ *   LineFormat is Event Grapher's own comma separated format, one event per line. It
+ * claims any file no other format does; see EventLineParser for the fields.
+ */
+
+class LineFormat implements EventFormat {
+
+    @Override
+    public String getName() {
+        return "events";
+    }
+
+    @Override
+    public boolean detect(String fileName, String head) {
+        return true;
+    }
+
+    @Override
+    public String readRecord(BufferedReader reader) throws IOException {
+        return reader.readLine();
+    }
+
+    @Override
+    public RecordParser newParser() {
+        return new EventLineParser()::parseLine;
+    }
+}
@@ -0,0 +1,139 @@
+package io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/* Event Grapher
+ * Christopher Cruzen
+ * 10.19.2026
+ *
+ *   ReadAheadInputStream drains a source stream on its own thread, handing chunks to
+ * the reader through a small bounded queue. Wrapping a decompressing stream in one lets
+ * decompression run alongside parsing instead of taking turns with it, while the bounded
+ * queue keeps the reader's lag, and so the memory used, to a few chunks.
+ */
+
+class ReadAheadInputStream extends InputStream {
+
+
+    /*--- Variables ---*/
+
+    // Constants
+    private static final int CHUNK_SIZE = 1 << 16;
+    private static final int QUEUE_CHUNKS = 16;
+    private static final byte[] END = new byte[0];
+
+    // Variables
+    private final InputStream source;
+    private final BlockingQueue<byte[]> chunks;
+    private final Thread readerThread;
+    private volatile IOException failure;
+    private volatile boolean closed;
+    private byte[] chunk;
+    private int position;
+
+
+    /*--- Constructor ---*/
+
+    ReadAheadInputStream(InputStream source, String name) {
+        this.source = source;
+        this.chunks = new ArrayBlockingQueue<>(QUEUE_CHUNKS);
+        this.chunk = new byte[0];
+
+        readerThread = new Thread(this::fill, "read-ahead-" + name);
+        readerThread.setDaemon(true);
+        readerThread.start();
+    }
+
+
+    /*--- Public Methods ---*/
+
+    @Override
+    public int read() throws IOException {
+        if (!ensureChunk()) return -1;
+        return chunk[position++] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        if (length == 0) return 0;
+        if (!ensureChunk()) return -1;
+        int count = Math.min(length, chunk.length - position);
+        System.arraycopy(chunk, position, buffer, offset, count);
+        position += count;
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return chunk.length - position;
+    }
+
+    /* Note: Method stops the read-ahead thread and waits for it to finish before closing the
+     *       source, so a decompressor is never closed (and its native memory freed) in the
+     *       middle of a read. The wait is at most the one source read already under way.
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        readerThread.interrupt();
+        chunks.clear();
+
+        // Wait Out The Read-Ahead Thread, Even If Interrupted
+        boolean interrupted = false;
+        while (readerThread.isAlive()) {
+            try {
+                readerThread.join();
+            } catch (InterruptedException exception) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) Thread.currentThread().interrupt();
+        source.close();
+    }
+
+
+    /*--- Private Methods ---*/
+
+    // Runs on the read-ahead thread until the source ends, fails, or the stream closes.
+    private void fill() {
+        try {
+            while (!closed) {
+                byte[] buffer = new byte[CHUNK_SIZE];
+                int size = source.readNBytes(buffer, 0, CHUNK_SIZE);
+                if (size == 0) break;
+                chunks.put(size == CHUNK_SIZE ? buffer : Arrays.copyOf(buffer, size));
+                if (size < CHUNK_SIZE) break;
+            }
+        } catch (IOException exception) {
+            failure = exception;
+        } catch (InterruptedException exception) {
+            return;
+        }
+        if (closed) return;
+        try {
+            chunks.put(END);
+        } catch (InterruptedException exception) {
+            // Closed While Finishing
+        }
+    }
+
+    // Returns false at end of stream.
+    private boolean ensureChunk() throws IOException {
+        while (position == chunk.length) {
+            if (chunk == END) return false;
+            try {
+                chunk = chunks.take();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while reading input.", exception);
+            }
+            position = 0;
+            if (chunk == END && failure != null) throw failure;
+        }
+        return true;
+    }
+}
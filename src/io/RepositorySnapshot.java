@@ -0,0 +1,479 @@
+package io;
+
+import analysis.CooccurrenceGraph;
+import analysis.DistinctCounts;
+import analysis.HeavyHitters;
+import analysis.Rankings;
+import analysis.RollingCounts;
+import index.EventBitmap;
+import index.EventIndex;
+import model.CreditedEvent;
+import model.Event;
+import model.LiveEvent;
+import model.types.EventType;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.time.ZoneId;
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Deque;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/* Event Grapher
+ * Christopher Cruzen
+ * 10.19.2026
+ *
+ *   RepositorySnapshot is one immutable, numbered version of the dataset: the merged
+ * chronological event list, its primitive columns and its bitmap indexes. A reader that
+ * holds a snapshot sees one consistent dataset for as long as it likes, with no locks,
+ * however many newer versions are published in the meantime.
+ *
+ *   Each input file is parsed into its own partition. A new snapshot re-reads only the
+ * files that changed since the previous one and shares every other partition's events
+ * with it, so a reload costs memory for the changed files plus the merged columns, not a
+ * second copy of the whole dataset. Files are read in whatever format FormatRegistry
+ * detects, and their records are parsed in parallel batches.
+ *
+ * Note: Lists handed out are unmodifiable, and the list fields of stored events are
+ *       frozen the same way. Event's remaining fields are public for the painters' sake;
+ *       treat them as read-only, since snapshots share events.
+ */
+
+public class RepositorySnapshot {
+
+
+    /*--- Variables ---*/
+
+    // Constants
+    private static final int PARSE_THREADS = Runtime.getRuntime().availableProcessors();
+    private static final int BATCHES_PER_THREAD = 2;
+    private static final int BATCH_RECORDS = 4096;
+    private static final int EXACT_RANKING_EVENTS = 1 << 16;
+
+    // Variables
+    private final long version;
+    private final long fingerprint;
+    private final List<Partition> partitions;
+    private final List<Event> eventList;
+    private final long[] timestamps;
+    private final byte[] typeCodes;
+    private final long[][] typeTimestamps;
+    private final EventIndex eventIndex;
+    private final int outOfOrderCount;
+    private final Rankings rankings;
+    private final DistinctCounts distinctCounts;
+    private final RollingCounts rollingCounts;
+    private volatile CooccurrenceGraph cooccurrenceGraph;
+
+
+    /*--- Constructor ---*/
+
+    private RepositorySnapshot(long version, List<Partition> partitions) {
+        this.version = version;
+        this.partitions = Collections.unmodifiableList(partitions);
+
+        // Merge Partitions Chronologically
+        List<Event> merged = mergePartitions(partitions);
+        eventList = Collections.unmodifiableList(merged);
+        int outOfOrder = 0;
+        for (Partition partition : partitions) outOfOrder += partition.outOfOrderCount;
+        outOfOrderCount = outOfOrder;
+
+        // Primitive Columns
+        timestamps = new long[merged.size()];
+        typeCodes = new byte[merged.size()];
+        int[] typeCounts = new int[EventType.values().length];
+        for (int x = 0; x < merged.size(); x++) {
+            Event event = merged.get(x);
+            timestamps[x] = event.date.getTime();
+            typeCodes[x] = (byte) event.type.ordinal();
+            typeCounts[typeCodes[x]]++;
+        }
+
+        // Split Sorted Timestamps By Type
+        typeTimestamps = new long[typeCounts.length][];
+        for (int x = 0; x < typeCounts.length; x++) typeTimestamps[x] = new long[typeCounts[x]];
+        int[] typePositions = new int[typeCounts.length];
+        for (int x = 0; x < timestamps.length; x++) {
+            typeTimestamps[typeCodes[x]][typePositions[typeCodes[x]]++] = timestamps[x];
+        }
+
+        eventIndex = new EventIndex(eventList);
+        fingerprint = computeFingerprint(partitions);
+
+        // Combine Partition Rankings
+        Rankings combined = partitions.isEmpty() ? new Rankings(HeavyHitters.EXACT) : partitions.get(0).rankings;
+        int rankingCapacity = merged.size() <= EXACT_RANKING_EVENTS ? HeavyHitters.EXACT : Rankings.DEFAULT_CAPACITY;
+        for (int x = 1; x < partitions.size(); x++) combined = combined.merge(partitions.get(x).rankings, rankingCapacity);
+        rankings = combined;
+
+        // Combine Partition Distinct Counts
+        DistinctCounts counts = partitions.isEmpty() ? new DistinctCounts(ZoneId.systemDefault()) : partitions.get(0).distinctCounts;
+        for (int x = 1; x < partitions.size(); x++) counts = counts.merge(partitions.get(x).distinctCounts);
+        distinctCounts = counts;
+
+        // Daily Running Totals
+        rollingCounts = RollingCounts.build(timestamps, typeCodes, ZoneId.systemDefault());
+    }
+
+
+    /*--- Static Build Methods ---*/
+
+    /* Note: Builds the next version from the given files. Partitions of the previous
+     *       snapshot whose file is unchanged are reused as they are.
+     */
+    static RepositorySnapshot build(InputManager inputManager, List<File> inputFiles, RepositorySnapshot previous)
+            throws IOException {
+        List<Partition> partitions = new ArrayList<>(inputFiles.size());
+        ExecutorService executor = Executors.newFixedThreadPool(PARSE_THREADS);
+        try {
+            for (File file : inputFiles) {
+                long fileFingerprint = getFileFingerprint(file);
+                Partition reused = previous == null ? null : previous.findPartition(file, fileFingerprint);
+                partitions.add(reused != null ? reused : readPartition(inputManager, file, fileFingerprint, executor));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return new RepositorySnapshot(previous == null ? 1 : previous.version + 1, partitions);
+    }
+
+    // Returns true if any of the given files differs from the one this snapshot read.
+    boolean isStale(List<File> inputFiles) {
+        if (inputFiles.size() != partitions.size()) return true;
+        for (File file : inputFiles) {
+            if (findPartition(file, getFileFingerprint(file)) == null) return true;
+        }
+        return false;
+    }
+
+
+    /*--- Public Data Access Methods ---*/
+
+    // Increases by one with each version published by the same repository.
+    public long getVersion() {
+        return version;
+    }
+
+    // Changes whenever any input file is added, removed or modified; stable across restarts.
+    public long getFingerprint() {
+        return fingerprint;
+    }
+
+    public List<Event> getEvents() {
+        return eventList;
+    }
+
+    public int size() {
+        return eventList.size();
+    }
+
+    // Returns event times in epoch millis, parallel to the event list. Do not modify.
+    public long[] getTimestamps() {
+        return timestamps;
+    }
+
+    // Returns EventType ordinals, parallel to the event list. Do not modify.
+    public byte[] getTypeCodes() {
+        return typeCodes;
+    }
+
+    // Returns sorted event times in epoch millis for a single event type. Do not modify.
+    public long[] getTimestamps(EventType type) {
+        return typeTimestamps[type.ordinal()];
+    }
+
+    public EventIndex getEventIndex() {
+        return eventIndex;
+    }
+
+    /* Note: Returns the most frequent headliners, performers, sites & platforms. Counts are
+     *       exact for small inputs and Space-Saving estimates, with bounded error, beyond.
+     */
+    public Rankings getRankings() {
+        return rankings;
+    }
+
+    /* Note: Returns rankings of just the events at the given ascending positions, so a
+     *       filtered or single-year view ranks what it shows. Every position returns the
+     *       snapshot's own rankings. Returns null if the thread is interrupted.
+     */
+    public Rankings getRankings(int[] positions) {
+        if (positions.length == eventList.size()) return rankings;
+        Rankings subset = new Rankings(positions.length <= EXACT_RANKING_EVENTS ? HeavyHitters.EXACT : Rankings.DEFAULT_CAPACITY);
+        for (int x = 0; x < positions.length; x++) {
+            if ((x & 0xffff) == 0 && Thread.currentThread().isInterrupted()) return null;
+            subset.accept(eventList.get(positions[x]));
+        }
+        return subset;
+    }
+
+    // Returns distinct performer & site estimates for any week, month, year or range.
+    public DistinctCounts getDistinctCounts() {
+        return distinctCounts;
+    }
+
+    // Same as getRankings(positions), for distinct counts. Returns null if the thread is interrupted.
+    public DistinctCounts getDistinctCounts(int[] positions) {
+        if (positions.length == eventList.size()) return distinctCounts;
+        DistinctCounts subset = new DistinctCounts(ZoneId.systemDefault());
+        for (int x = 0; x < positions.length; x++) {
+            if ((x & 0xffff) == 0 && Thread.currentThread().isInterrupted()) return null;
+            subset.accept(eventList.get(positions[x]));
+        }
+        return subset;
+    }
+
+    // Returns per-day running totals, answering any rolling-window sum or average in constant time.
+    public RollingCounts getRollingCounts() {
+        return rollingCounts;
+    }
+
+    // Returns the performer & site co-occurrence graph, built on first use and kept with this version.
+    public CooccurrenceGraph getCooccurrenceGraph() {
+        CooccurrenceGraph graph = cooccurrenceGraph;
+        if (graph == null) {
+            synchronized (this) {
+                if (cooccurrenceGraph == null) cooccurrenceGraph = CooccurrenceGraph.build(eventList);
+                graph = cooccurrenceGraph;
+            }
+        }
+        return graph;
+    }
+
+    // Events that arrived after a later event in their file, before the file was sorted.
+    public int getOutOfOrderCount() {
+        return outOfOrderCount;
+    }
+
+
+    /*--- Public Query Methods ---*/
+
+    // Returns a read-only list of the events whose positions are set in the bitmap.
+    public List<Event> eventsMatching(EventBitmap bitmap) {
+        int[] positions = bitmap.toArray();
+        return new AbstractList<Event>() {
+            @Override
+            public Event get(int index) {
+                return eventList.get(positions[index]);
+            }
+
+            @Override
+            public int size() {
+                return positions.length;
+            }
+        };
+    }
+
+    /* Note: Range queries use half-open windows [start, end) and binary search the sorted
+     *       timestamp column, so each costs O(log N). Returned lists are read-only views
+     *       over the event list; no events are copied.
+     */
+
+    public List<Event> eventsBetween(Date start, Date end) {
+        return eventsBetween(start.getTime(), end.getTime());
+    }
+
+    public List<Event> eventsBetween(long start, long end) {
+        int from = lowerBound(timestamps, start);
+        int to = Math.max(from, lowerBound(timestamps, end));
+        return eventList.subList(from, to);
+    }
+
+    public int countBetween(Date start, Date end) {
+        return countBetween(start.getTime(), end.getTime());
+    }
+
+    public int countBetween(long start, long end) {
+        return countBetween(timestamps, start, end);
+    }
+
+    public int countBetween(long start, long end, EventType type) {
+        return countBetween(typeTimestamps[type.ordinal()], start, end);
+    }
+
+    // Returns the index of the first event at or after the given time.
+    public int indexAtOrAfter(long time) {
+        return lowerBound(timestamps, time);
+    }
+
+
+    /*--- Private Build Methods ---*/
+
+    /* Note: Records are cut from the file in order on the calling thread and parsed in
+     *       batches on the executor. A bounded window of batches is in flight at once, and
+     *       finished batches are appended in input order.
+     */
+    private static Partition readPartition(InputManager inputManager, File file, long fileFingerprint,
+                                           ExecutorService executor) throws IOException {
+        List<Event> parsedEvents = new ArrayList<>();
+        try (BufferedReader reader = inputManager.openInputFile(file)) {
+            EventFormat format = FormatRegistry.detect(file, reader);
+            Deque<CompletableFuture<List<Event>>> window = new ArrayDeque<>();
+            boolean exhausted = false;
+            while (!exhausted || !window.isEmpty()) {
+                while (!exhausted && window.size() < PARSE_THREADS * BATCHES_PER_THREAD) {
+                    List<String> batch = new ArrayList<>(BATCH_RECORDS);
+                    String record = format.readRecord(reader);
+                    while (record != null) {
+                        batch.add(record);
+                        if (batch.size() == BATCH_RECORDS) break;
+                        record = format.readRecord(reader);
+                    }
+                    exhausted = record == null;
+                    if (!batch.isEmpty()) window.addLast(CompletableFuture.supplyAsync(() -> parseBatch(format, batch), executor));
+                }
+                if (!window.isEmpty()) parsedEvents.addAll(window.removeFirst().join());
+            }
+        }
+
+        // Rank Values
+        Rankings rankings = new Rankings(parsedEvents.size() <= EXACT_RANKING_EVENTS ? HeavyHitters.EXACT : Rankings.DEFAULT_CAPACITY);
+        DistinctCounts distinctCounts = new DistinctCounts(ZoneId.systemDefault());
+        for (Event event : parsedEvents) {
+            rankings.accept(event);
+            distinctCounts.accept(event);
+        }
+
+        // Restore Chronological Order
+        EventSorter eventSorter = new EventSorter();
+        List<Event> sorted = eventSorter.sort(parsedEvents);
+        return new Partition(file, fileFingerprint, Collections.unmodifiableList(sorted), eventSorter.getOutOfOrderCount(),
+                rankings, distinctCounts);
+    }
+
+    private static List<Event> parseBatch(EventFormat format, List<String> batch) {
+        EventFormat.RecordParser parser = format.newParser();
+        List<Event> events = new ArrayList<>(batch.size());
+        for (String record : batch) {
+            Event event = parser.parse(record);
+            if (event != null) events.add(freeze(event));
+        }
+        return events;
+    }
+
+    private static Event freeze(Event event) {
+        event.headliners = Collections.unmodifiableList(event.headliners);
+        event.gear = Collections.unmodifiableList(event.gear);
+        event.labels = Collections.unmodifiableList(event.labels);
+        if (event instanceof CreditedEvent) {
+            ((CreditedEvent) event).sites = Collections.unmodifiableList(((CreditedEvent) event).sites);
+        }
+        if (event instanceof LiveEvent) {
+            ((LiveEvent) event).performers = Collections.unmodifiableList(((LiveEvent) event).performers);
+        }
+        return event;
+    }
+
+    // k-way merge of sorted partitions; ties keep input file order.
+    private static List<Event> mergePartitions(List<Partition> partitions) {
+        int total = 0;
+        for (Partition partition : partitions) total += partition.events.size();
+        List<Event> merged = new ArrayList<>(total);
+        if (partitions.size() == 1) {
+            merged.addAll(partitions.get(0).events);
+            return merged;
+        }
+
+        PriorityQueue<int[]> heap = new PriorityQueue<>((a, b) -> {
+            int result = Long.compare(partitions.get(a[0]).getTime(a[1]), partitions.get(b[0]).getTime(b[1]));
+            return result != 0 ? result : Integer.compare(a[0], b[0]);
+        });
+        for (int x = 0; x < partitions.size(); x++) {
+            if (!partitions.get(x).events.isEmpty()) heap.add(new int[]{x, 0});
+        }
+        while (!heap.isEmpty()) {
+            int[] cursor = heap.poll();
+            Partition partition = partitions.get(cursor[0]);
+            merged.add(partition.events.get(cursor[1]));
+            if (++cursor[1] < partition.events.size()) heap.add(cursor);
+        }
+        return merged;
+    }
+
+    private Partition findPartition(File file, long fileFingerprint) {
+        for (Partition partition : partitions) {
+            if (partition.file.equals(file) && partition.fingerprint == fileFingerprint) return partition;
+        }
+        return null;
+    }
+
+    // Fingerprints a file by path, size and modification time. Stdin can only be read once, so it never changes.
+    private static long getFileFingerprint(File file) {
+        if (InputManager.isStdin(file)) return 0;
+        long fingerprint = 17;
+        fingerprint = (fingerprint * 31) + file.getPath().hashCode();
+        fingerprint = (fingerprint * 31) + file.length();
+        fingerprint = (fingerprint * 31) + file.lastModified();
+        return fingerprint;
+    }
+
+    // Combines the files' fingerprints, so re-reading any file, whatever field it changed, changes the snapshot's.
+    private static long computeFingerprint(List<Partition> partitions) {
+        long fingerprint = 17;
+        for (Partition partition : partitions) fingerprint = (fingerprint * 31) + partition.fingerprint;
+        return fingerprint;
+    }
+
+
+    /*--- Private Search Methods ---*/
+
+    private static int countBetween(long[] sortedTimes, long start, long end) {
+        return Math.max(0, lowerBound(sortedTimes, end) - lowerBound(sortedTimes, start));
+    }
+
+    // Returns the first index whose time is >= the given time.
+    private static int lowerBound(long[] sortedTimes, long time) {
+        int low = 0;
+        int high = sortedTimes.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sortedTimes[middle] < time) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+
+    /*--- Private Classes ---*/
+
+    // The sorted events of one input file, shared between snapshots while the file is unchanged.
+    private static class Partition {
+
+        final File file;
+        final long fingerprint;
+        final List<Event> events;
+        final int outOfOrderCount;
+        final long[] times;
+        final Rankings rankings;
+        final DistinctCounts distinctCounts;
+
+        Partition(File file, long fingerprint, List<Event> events, int outOfOrderCount,
+                  Rankings rankings, DistinctCounts distinctCounts) {
+            this.file = file;
+            this.fingerprint = fingerprint;
+            this.events = events;
+            this.outOfOrderCount = outOfOrderCount;
+            this.rankings = rankings;
+            this.distinctCounts = distinctCounts;
+            this.times = new long[events.size()];
+            for (int x = 0; x < times.length; x++) times[x] = events.get(x).date.getTime();
+        }
+
+        long getTime(int index) {
+            return times[index];
+        }
+    }
+}
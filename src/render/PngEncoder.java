@@ -0,0 +1,213 @@
+package render;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/* Event Grapher
+ * Christopher Cruzen
+ * 10.19.2026
+ *
+ *   PngEncoder writes a truecolor PNG one horizontal band of rows at a time, so an
+ * image never has to exist in memory all at once.
+ *
+ *   Bands are compressed independently: each is filtered and deflated on its own, ending
+ * on a sync flush so the next band's deflate data can follow it directly. That lets
+ * bands compress in parallel on any thread through compressBand(), while writeBand()
+ * appends them to the zlib stream strictly in order. Each band's Adler-32 checksum is
+ * computed alongside its compression and folded into the stream's running checksum,
+ * so the uncompressed rows can be dropped as soon as a band is compressed.
+ *
+ * Ex: encoder.writeHeader();
+ *     encoder.writeBand(PngEncoder.compressBand(pixels, width, rows, level, false));
+ *     ...
+ *     encoder.finish();
+ */
+
+public class PngEncoder {
+
+
+    /*--- Variables ---*/
+
+    // Constants
+    private static final byte[] SIGNATURE = {(byte) 137, 80, 78, 71, 13, 10, 26, 10};
+    private static final int IDAT_SIZE = 1 << 16;
+    private static final int FILTER_SUB = 1;
+    private static final int ADLER_BASE = 65521;
+
+    // Variables
+    private final DataOutputStream output;
+    private final int width;
+    private final int height;
+    private long adler;
+    private final byte[] idatBuffer;
+    private int idatSize;
+    private int rowsWritten;
+
+
+    /*--- Constructor ---*/
+
+    public PngEncoder(OutputStream output, int width, int height) {
+        this.output = new DataOutputStream(output);
+        this.width = width;
+        this.height = height;
+        this.adler = 1;
+        this.idatBuffer = new byte[IDAT_SIZE];
+    }
+
+
+    /*--- Public Static Methods ---*/
+
+    /* Note: Filters and deflates rows of ARGB pixels (alpha is dropped). Safe to call from
+     *       any thread. Pass last = true only for the band holding the image's final row.
+     */
+    public static Band compressBand(int[] pixels, int width, int rows, int level, boolean last) {
+
+        // Sub Filter - Each Byte Minus The Same Channel One Pixel Left
+        int stride = (width * 3) + 1;
+        byte[] filtered = new byte[stride * rows];
+        for (int row = 0; row < rows; row++) {
+            int out = row * stride;
+            int in = row * width;
+            filtered[out++] = FILTER_SUB;
+            int previous = 0;
+            for (int x = 0; x < width; x++) {
+                int pixel = pixels[in + x];
+                filtered[out++] = (byte) ((pixel >> 16) - (previous >> 16));
+                filtered[out++] = (byte) ((pixel >> 8) - (previous >> 8));
+                filtered[out++] = (byte) (pixel - previous);
+                previous = pixel;
+            }
+        }
+
+        Adler32 checksum = new Adler32();
+        checksum.update(filtered);
+
+        // Raw Deflate, Flushed To A Byte Boundary
+        Deflater deflater = new Deflater(level, true);
+        deflater.setInput(filtered);
+        if (last) deflater.finish();
+        byte[] compressed = new byte[Math.max(1024, filtered.length / 4)];
+        int size = 0;
+        while (true) {
+            if (size == compressed.length) compressed = Arrays.copyOf(compressed, compressed.length * 2);
+            size += deflater.deflate(compressed, size, compressed.length - size,
+                    last ? Deflater.NO_FLUSH : Deflater.SYNC_FLUSH);
+            if (last ? deflater.finished() : size < compressed.length) break;
+        }
+        deflater.end();
+        return new Band(rows, filtered.length, checksum.getValue(), Arrays.copyOf(compressed, size));
+    }
+
+
+    /*--- Public Methods ---*/
+
+    public void writeHeader() throws IOException {
+        output.write(SIGNATURE);
+        byte[] header = new byte[13];
+        putInt(header, 0, width);
+        putInt(header, 4, height);
+        header[8] = 8;      // Bit Depth
+        header[9] = 2;      // Color Type: Truecolor
+        header[10] = 0;     // Compression: Deflate
+        header[11] = 0;     // Filter Method
+        header[12] = 0;     // No Interlace
+        writeChunk("IHDR", header, header.length);
+
+        // zlib Header: Deflate, 32K Window, No Dictionary
+        idatBuffer[idatSize++] = 0x78;
+        idatBuffer[idatSize++] = 0x01;
+    }
+
+    // Bands must arrive top to bottom.
+    public void writeBand(Band band) throws IOException {
+        adler = combineAdler(adler, band.checksum, band.length);
+        appendIdat(band.compressed);
+        rowsWritten += band.rows;
+    }
+
+    public void finish() throws IOException {
+        if (rowsWritten != height) {
+            throw new IOException("Wrote " + rowsWritten + " of " + height + " rows.");
+        }
+        byte[] checksum = new byte[4];
+        putInt(checksum, 0, (int) adler);
+        appendIdat(checksum);
+        if (idatSize > 0) writeChunk("IDAT", idatBuffer, idatSize);
+        writeChunk("IEND", new byte[0], 0);
+        output.flush();
+    }
+
+
+    /*--- Private Methods ---*/
+
+    private void appendIdat(byte[] data) throws IOException {
+        int offset = 0;
+        while (offset < data.length) {
+            int count = Math.min(data.length - offset, IDAT_SIZE - idatSize);
+            System.arraycopy(data, offset, idatBuffer, idatSize, count);
+            idatSize += count;
+            offset += count;
+            if (idatSize == IDAT_SIZE) {
+                writeChunk("IDAT", idatBuffer, idatSize);
+                idatSize = 0;
+            }
+        }
+    }
+
+    private void writeChunk(String type, byte[] data, int length) throws IOException {
+        byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+        CRC32 crc = new CRC32();
+        crc.update(typeBytes);
+        crc.update(data, 0, length);
+        output.writeInt(length);
+        output.write(typeBytes);
+        output.write(data, 0, length);
+        output.writeInt((int) crc.getValue());
+    }
+
+    // Checksum of two byte runs back to back, from each run's own checksum (as zlib's adler32_combine).
+    private static long combineAdler(long first, long second, long secondLength) {
+        long remainder = secondLength % ADLER_BASE;
+        long sum1 = first & 0xffff;
+        long sum2 = (remainder * sum1) % ADLER_BASE;
+        sum1 += (second & 0xffff) + ADLER_BASE - 1;
+        sum2 += ((first >> 16) & 0xffff) + ((second >> 16) & 0xffff) + ADLER_BASE - remainder;
+        if (sum1 >= ADLER_BASE) sum1 -= ADLER_BASE;
+        if (sum1 >= ADLER_BASE) sum1 -= ADLER_BASE;
+        if (sum2 >= (ADLER_BASE << 1)) sum2 -= (ADLER_BASE << 1);
+        if (sum2 >= ADLER_BASE) sum2 -= ADLER_BASE;
+        return sum1 | (sum2 << 16);
+    }
+
+    private static void putInt(byte[] buffer, int offset, int value) {
+        buffer[offset] = (byte) (value >>> 24);
+        buffer[offset + 1] = (byte) (value >>> 16);
+        buffer[offset + 2] = (byte) (value >>> 8);
+        buffer[offset + 3] = (byte) value;
+    }
+
+
+    /*--- Classes ---*/
+
+    // A compressed run of rows, ready to append to the image.
+    public static class Band {
+
+        final int rows;
+        final long length;
+        final long checksum;
+        final byte[] compressed;
+
+        Band(int rows, long length, long checksum, byte[] compressed) {
+            this.rows = rows;
+            this.length = length;
+            this.checksum = checksum;
+            this.compressed = compressed;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package render;
+
+import analysis.DistinctCounts;
+import analysis.EventAggregates;
+import analysis.Rankings;
+import ui.InfographicPainter;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.Deflater;
+
+/* Event Grapher
+ * Christopher Cruzen
+ * 10.19.2026
+ *
+ *   TileRenderer paints the infographic at any scale and streams it out as a PNG. The
+ * image is cut into bands of rows and each band into square tiles. Every tile is painted
+ * on a worker thread into its own small image through its own Graphics2D, translated and
+ * clipped to the tile, and each finished band is compressed on a worker as well.
+ *
+ *   Only a window of bands a little wider than the thread count is in flight at once,
+ * and bands leave memory as soon as they're written, so an 8x poster costs a few bands
+ * of pixels rather than the whole image.
+ */
+
+public class TileRenderer {
+
+
+    /*--- Variables ---*/
+
+    // Constants
+    public static final int DEFAULT_TILE_SIZE = 512;
+    private static final int BANDS_PER_THREAD = 2;
+
+    // Variables
+    private final double scale;
+    private final int tileSize;
+    private final int threads;
+    private final int compressionLevel;
+    private Rankings rankings;
+    private DistinctCounts distinctCounts;
+
+
+    /*--- Constructor ---*/
+
+    public TileRenderer(double scale) {
+        this(scale, DEFAULT_TILE_SIZE, Runtime.getRuntime().availableProcessors(), Deflater.DEFAULT_COMPRESSION);
+    }
+
+    public TileRenderer(double scale, int tileSize, int threads, int compressionLevel) {
+        this.scale = scale;
+        this.tileSize = tileSize;
+        this.threads = threads;
+        this.compressionLevel = compressionLevel;
+    }
+
+
+    /*--- Public Methods ---*/
+
+    // Draws the rankings panel from the given rankings; without them the panel is left empty.
+    public void setRankings(Rankings rankings) {
+        this.rankings = rankings;
+    }
+
+    // Adds distinct performer & site counts to the totals; without them they're left out.
+    public void setDistinctCounts(DistinctCounts distinctCounts) {
+        this.distinctCounts = distinctCounts;
+    }
+
+    public int getWidth() {
+        return (int) Math.ceil(InfographicPainter.WIDTH * scale);
+    }
+
+    public int getHeight() {
+        return (int) Math.ceil(InfographicPainter.HEIGHT * scale);
+    }
+
+    public void render(EventAggregates aggregates, OutputStream output) throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            render(aggregates, output, executor);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // Renders on a caller-supplied executor, which is left running.
+    public void render(EventAggregates aggregates, OutputStream output, ExecutorService executor) throws IOException {
+        int width = getWidth();
+        int height = getHeight();
+        int bands = (height + tileSize - 1) / tileSize;
+        PngEncoder encoder = new PngEncoder(output, width, height);
+        encoder.writeHeader();
+
+        // Keep A Bounded Window Of Bands In Flight, Writing Them In Order
+        Deque<CompletableFuture<PngEncoder.Band>> window = new ArrayDeque<>();
+        int nextBand = 0;
+        try {
+            while (nextBand < bands || !window.isEmpty()) {
+                while (nextBand < bands && window.size() < threads * BANDS_PER_THREAD) {
+                    window.addLast(submitBand(aggregates, nextBand++, bands, width, height, executor));
+                }
+                encoder.writeBand(window.removeFirst().join());
+            }
+        } catch (CompletionException exception) {
+            for (CompletableFuture<PngEncoder.Band> pending : window) pending.cancel(true);
+            throw new IOException("Couldn't render tile.", exception.getCause());
+        }
+        encoder.finish();
+    }
+
+
+    /*--- Private Methods ---*/
+
+    private CompletableFuture<PngEncoder.Band> submitBand(EventAggregates aggregates, int band, int bands,
+                                                          int width, int height, ExecutorService executor) {
+        int top = band * tileSize;
+        int rows = Math.min(tileSize, height - top);
+        int[] pixels = new int[width * rows];
+
+        // Paint Each Tile Of The Band Concurrently
+        int columns = (width + tileSize - 1) / tileSize;
+        CompletableFuture<?>[] tiles = new CompletableFuture<?>[columns];
+        for (int column = 0; column < columns; column++) {
+            int left = column * tileSize;
+            int tileWidth = Math.min(tileSize, width - left);
+            tiles[column] = CompletableFuture.runAsync(
+                    () -> paintTile(aggregates, left, top, tileWidth, rows, pixels, width), executor
+            );
+        }
+
+        // Then Compress The Band
+        return CompletableFuture.allOf(tiles).thenApplyAsync(
+                ignored -> PngEncoder.compressBand(pixels, width, rows, compressionLevel, band == bands - 1), executor
+        );
+    }
+
+    private void paintTile(EventAggregates aggregates, int left, int top, int tileWidth, int tileHeight,
+                           int[] bandPixels, int bandWidth) {
+        BufferedImage tile = new BufferedImage(tileWidth, tileHeight, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = tile.createGraphics();
+        try {
+            graphics.translate(-left, -top);
+            graphics.clipRect(left, top, tileWidth, tileHeight);
+            graphics.scale(scale, scale);
+            InfographicPainter painter = new InfographicPainter(aggregates);
+            painter.setRankings(rankings);
+            painter.setDistinctCounts(distinctCounts);
+            painter.paint(graphics);
+        } finally {
+            graphics.dispose();
+        }
+
+        // Copy Into The Band
+        int[] tilePixels = ((DataBufferInt) tile.getRaster().getDataBuffer()).getData();
+        for (int row = 0; row < tileHeight; row++) {
+            System.arraycopy(tilePixels, row * tileWidth, bandPixels, (row * bandWidth) + left, tileWidth);
+        }
+    }
+}
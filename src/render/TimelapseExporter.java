@@ -0,0 +1,189 @@
+package render;
+
+import analysis.EventAggregates;
+import ui.InfographicPainter;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Date;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.Deflater;
+
+/* Event Grapher
+ * Christopher Cruzen
+ * 10.19.2026
+ *
+ *   TimelapseExporter replays a year into a numbered sequence of PNG frames, one per day
+ * or per hour of simulated time, each showing the infographic as it stood at the end of
+ * that step. Stitch the frames into a video with any encoder, e.g.
+ *
+ *     ffmpeg -framerate 30 -i frame-%05d.png timelapse.mp4
+ *
+ *   Events are fed in chronological order into one running EventAggregates. At each step
+ * boundary the running aggregates are copied and the copy is painted and encoded on a
+ * worker thread, while the feed carries on. Nothing is ever recomputed from scratch, and
+ * at most a couple of frames per thread wait in memory at once.
+ */
+
+public class TimelapseExporter {
+
+
+    /*--- Variables ---*/
+
+    public enum Step {
+        DAY,
+        HOUR
+    }
+
+    // Constants
+    private static final int FRAMES_PER_THREAD = 2;
+    private static final Color CAPTION_COLOR = new Color(127, 137, 153);
+
+    // Options
+    private final File directory;
+    private final Step step;
+    private final double scale;
+    private final int threads;
+
+    // Running State
+    private final EventAggregates aggregates;
+    private final ZoneId zone;
+    private final long yearStart;
+    private final long yearEnd;
+    private ZonedDateTime nextBoundary;
+    private int frameCount;
+
+    // Workers
+    private final ExecutorService executor;
+    private final Semaphore framePermits;
+    private final ThreadLocal<BufferedImage> frameImages;
+    private final AtomicReference<IOException> failure;
+
+
+    /*--- Constructor ---*/
+
+    public TimelapseExporter(File directory, int year, Step step, double scale) {
+        this.directory = directory;
+        this.step = step;
+        this.scale = scale;
+        this.threads = Runtime.getRuntime().availableProcessors();
+
+        aggregates = new EventAggregates(year);
+        zone = aggregates.getZone();
+        nextBoundary = advance(LocalDate.of(year, 1, 1).atStartOfDay(zone));
+        yearStart = LocalDate.of(year, 1, 1).atStartOfDay(zone).toInstant().toEpochMilli();
+        yearEnd = LocalDate.of(year + 1, 1, 1).atStartOfDay(zone).toInstant().toEpochMilli();
+
+        executor = Executors.newFixedThreadPool(threads);
+        framePermits = new Semaphore(threads * FRAMES_PER_THREAD);
+        int width = (int) Math.ceil(InfographicPainter.WIDTH * scale);
+        int height = (int) Math.ceil(InfographicPainter.HEIGHT * scale);
+        frameImages = ThreadLocal.withInitial(() -> new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB));
+        failure = new AtomicReference<>();
+    }
+
+
+    /*--- Public Methods ---*/
+
+    // Events must arrive in chronological order. Events outside the year are skipped.
+    public void accept(long timestamp, int type) throws IOException {
+        if (timestamp >= yearEnd) return;
+        while (timestamp >= nextBoundary.toInstant().toEpochMilli()) {
+            emitFrame();
+        }
+        if (timestamp >= yearStart) aggregates.accept(timestamp, type);
+    }
+
+    // Emits the frames still due through the end of the year and waits for every frame.
+    public int finish() throws IOException {
+        try {
+            while (nextBoundary.toInstant().toEpochMilli() <= yearEnd) {
+                emitFrame();
+            }
+            executor.shutdown();
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException exception) {
+            executor.shutdownNow();
+            throw new IOException("Interrupted while writing frames.", exception);
+        }
+        if (failure.get() != null) throw failure.get();
+        return frameCount;
+    }
+
+    public EventAggregates getAggregates() {
+        return aggregates;
+    }
+
+
+    /*--- Private Methods ---*/
+
+    private void emitFrame() throws IOException {
+        if (failure.get() != null) throw failure.get();
+        long frameEnd = nextBoundary.toInstant().toEpochMilli();
+        int frameNumber = ++frameCount;
+        nextBoundary = advance(nextBoundary);
+
+        // Snapshot & Hand Off
+        EventAggregates snapshot = aggregates.copy();
+        framePermits.acquireUninterruptibly();
+        executor.execute(() -> {
+            try {
+                writeFrame(snapshot, frameEnd, new File(directory, String.format(Locale.ROOT, "frame-%05d.png", frameNumber)));
+            } catch (IOException exception) {
+                failure.compareAndSet(null, exception);
+            } finally {
+                framePermits.release();
+            }
+        });
+    }
+
+    private void writeFrame(EventAggregates snapshot, long frameEnd, File file) throws IOException {
+        BufferedImage image = frameImages.get();
+        Graphics2D graphics = image.createGraphics();
+        try {
+            graphics.scale(scale, scale);
+            new InfographicPainter(snapshot).paint(graphics);
+            drawCaption(graphics, frameEnd - 1);
+        } finally {
+            graphics.dispose();
+        }
+
+        // Encode The Whole Frame As One Band
+        int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        PngEncoder.Band band = PngEncoder.compressBand(pixels, image.getWidth(), image.getHeight(), Deflater.BEST_SPEED, true);
+        try (OutputStream output = new BufferedOutputStream(new FileOutputStream(file), 1 << 16)) {
+            PngEncoder encoder = new PngEncoder(output, image.getWidth(), image.getHeight());
+            encoder.writeHeader();
+            encoder.writeBand(band);
+            encoder.finish();
+        }
+    }
+
+    private void drawCaption(Graphics2D graphics, long time) {
+        SimpleDateFormat format = new SimpleDateFormat(step == Step.DAY ? "MMM d" : "MMM d, h a");
+        graphics.setColor(CAPTION_COLOR);
+        graphics.setFont(new Font("Sanserif", Font.BOLD | Font.ITALIC, 16));
+        graphics.drawString("Through " + format.format(new Date(time)), 20, InfographicPainter.HEIGHT - 20);
+    }
+
+    private ZonedDateTime advance(ZonedDateTime boundary) {
+        return step == Step.DAY
+                ? boundary.toLocalDate().plusDays(1).atStartOfDay(zone)
+                : boundary.plusHours(1);
+    }
+}
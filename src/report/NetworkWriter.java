@@ -0,0 +1,148 @@
+package report;
+
+import analysis.CooccurrenceGraph;
+
+import java.util.List;
+import java.util.Locale;
+
+/* Event Grapher
+ * Christopher Cruzen
+ * 10.19.2026
+ *
+ *   NetworkWriter formats the co-occurrence graph as JSON or CSV: its size, its largest
+ * connected components, its strongest pairs, and the strongest neighbors of any names
+ * asked about. Like StatsWriter it uses no AWT or Swing classes.
+ *
+ *   CSV output is one row per value with the columns metric,first,second,value, where
+ * names are written kind:name (ex: performer:Cara) and quoted when needed.
+ */
+
+public class NetworkWriter {
+
+
+    /*--- Variables ---*/
+
+    private final StatsWriter.Format format;
+
+
+    /*--- Constructor ---*/
+
+    public NetworkWriter(StatsWriter.Format format) {
+        this.format = format;
+    }
+
+
+    /*--- Public Methods ---*/
+
+    // Lists the top pairs & components, and the neighborhoods of the given node ids.
+    public String write(CooccurrenceGraph graph, int top, List<Integer> nodes) {
+        return format == StatsWriter.Format.JSON ? writeJson(graph, top, nodes) : writeCsv(graph, top, nodes);
+    }
+
+
+    /*--- Private JSON Methods ---*/
+
+    private String writeJson(CooccurrenceGraph graph, int top, List<Integer> nodes) {
+        StringBuilder json = new StringBuilder(4096);
+
+        // Totals
+        json.append("{\n");
+        json.append("  \"nodes\": ").append(graph.getNodeCount()).append(",\n");
+        json.append("  \"edges\": ").append(graph.getEdgeCount()).append(",\n");
+        json.append("  \"components\": ").append(graph.getComponentCount()).append(",\n");
+
+        // Largest Components
+        json.append("  \"largestComponents\": [");
+        int[] components = graph.getLargestComponents(top);
+        for (int x = 0; x < components.length; x++) {
+            json.append(x == 0 ? "" : ", ").append(graph.getComponentSize(components[x]));
+        }
+        json.append("],\n");
+
+        // Strongest Pairs
+        json.append("  \"topPairs\": ");
+        appendJsonEdges(json, graph, graph.getTopPairs(top), "  ");
+        json.append(",\n");
+
+        // Neighborhoods
+        json.append("  \"neighbors\": [");
+        for (int x = 0; x < nodes.size(); x++) {
+            int node = nodes.get(x);
+            json.append(x == 0 ? "\n" : ",\n");
+            json.append("    {\"name\": ").append(quote(graph.getName(node)))
+                    .append(", \"kind\": \"").append(getKindKey(graph, node))
+                    .append("\", \"degree\": ").append(graph.getDegree(node))
+                    .append(", \"componentSize\": ").append(graph.getComponentSize(graph.getComponent(node)))
+                    .append(", \"strongest\": ");
+            appendJsonEdges(json, graph, graph.getNeighbors(node, top), "    ");
+            json.append("}");
+        }
+        json.append(nodes.isEmpty() ? "]\n" : "\n  ]\n");
+        json.append("}\n");
+        return json.toString();
+    }
+
+    private void appendJsonEdges(StringBuilder json, CooccurrenceGraph graph, List<CooccurrenceGraph.Edge> edges, String indent) {
+        json.append("[");
+        for (int x = 0; x < edges.size(); x++) {
+            CooccurrenceGraph.Edge edge = edges.get(x);
+            json.append(x == 0 ? "\n" : ",\n").append(indent).append("  {\"first\": ").append(quote(graph.getName(edge.first)))
+                    .append(", \"firstKind\": \"").append(getKindKey(graph, edge.first))
+                    .append("\", \"second\": ").append(quote(graph.getName(edge.second)))
+                    .append(", \"secondKind\": \"").append(getKindKey(graph, edge.second))
+                    .append("\", \"events\": ").append(edge.weight).append("}");
+        }
+        json.append(edges.isEmpty() ? "]" : "\n" + indent + "]");
+    }
+
+
+    /*--- Private CSV Methods ---*/
+
+    private String writeCsv(CooccurrenceGraph graph, int top, List<Integer> nodes) {
+        StringBuilder csv = new StringBuilder(4096);
+        csv.append("metric,first,second,value\n");
+        appendCsvRow(csv, "nodes", "", "", "" + graph.getNodeCount());
+        appendCsvRow(csv, "edges", "", "", "" + graph.getEdgeCount());
+        appendCsvRow(csv, "components", "", "", "" + graph.getComponentCount());
+        for (int component : graph.getLargestComponents(top)) {
+            appendCsvRow(csv, "component_size", "", "", "" + graph.getComponentSize(component));
+        }
+        for (CooccurrenceGraph.Edge edge : graph.getTopPairs(top)) {
+            appendCsvRow(csv, "top_pair", getCsvName(graph, edge.first), getCsvName(graph, edge.second), "" + edge.weight);
+        }
+        for (int node : nodes) {
+            appendCsvRow(csv, "degree", getCsvName(graph, node), "", "" + graph.getDegree(node));
+            for (CooccurrenceGraph.Edge edge : graph.getNeighbors(node, top)) {
+                appendCsvRow(csv, "neighbor", getCsvName(graph, node), getCsvName(graph, edge.second), "" + edge.weight);
+            }
+        }
+        return csv.toString();
+    }
+
+    private void appendCsvRow(StringBuilder csv, String metric, String first, String second, String value) {
+        csv.append(metric).append(',').append(first).append(',').append(second).append(',').append(value).append('\n');
+    }
+
+
+    /*--- Private Formatting Methods ---*/
+
+    private static String getKindKey(CooccurrenceGraph graph, int node) {
+        return graph.getKind(node).name().toLowerCase(Locale.ROOT);
+    }
+
+    private static String getCsvName(CooccurrenceGraph graph, int node) {
+        String name = getKindKey(graph, node) + ":" + graph.getName(node);
+        if (name.contains(",") || name.contains("\"")) return "\"" + name.replace("\"", "\"\"") + "\"";
+        return name;
+    }
+
+    private static String quote(String text) {
+        StringBuilder quoted = new StringBuilder(text.length() + 2).append('"');
+        for (char next : text.toCharArray()) {
+            if (next == '"' || next == '\\') quoted.append('\\').append(next);
+            else if (next < ' ') quoted.append(String.format(Locale.ROOT, "\\u%04x", (int) next));
+            else quoted.append(next);
+        }
+        return quoted.append('"').toString();
+    }
+}
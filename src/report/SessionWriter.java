@@ -0,0 +1,184 @@
+package report;
+
+import analysis.GapDistribution;
+import analysis.IntervalJoin;
+import analysis.Sessions;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+/* Event Grapher
+ * Christopher Cruzen
+ * 10.19.2026
+ *
+ *   SessionWriter formats session & proximity results as JSON or CSV: how many sessions
+ * the events form, their lengths and sizes, and how many events of one kind fall within
+ * a window of another, optionally with every such pair. Like StatsWriter it uses no AWT
+ * or Swing classes.
+ *
+ *   CSV output is one row per value with the columns metric,left,right,value. Pair rows
+ * carry both events' times and the value is the right event's offset in minutes.
+ */
+
+public class SessionWriter {
+
+
+    /*--- Variables ---*/
+
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
+    private static final double MINUTE_MILLIS = 60 * 1000;
+
+    private final StatsWriter.Format format;
+    private final ZoneId zone;
+
+
+    /*--- Constructor ---*/
+
+    public SessionWriter(StatsWriter.Format format) {
+        this.format = format;
+        this.zone = ZoneId.systemDefault();
+    }
+
+
+    /*--- Public Methods ---*/
+
+    // Pairs are listed only when asked for, as there may be many.
+    public String write(Sessions sessions, Proximity proximity, boolean listPairs) {
+        return format == StatsWriter.Format.JSON ? writeJson(sessions, proximity, listPairs) : writeCsv(sessions, proximity, listPairs);
+    }
+
+
+    /*--- Private JSON Methods ---*/
+
+    private String writeJson(Sessions sessions, Proximity proximity, boolean listPairs) {
+        StringBuilder json = new StringBuilder(4096);
+        GapDistribution lengths = sessions.getLengths();
+
+        // Sessions
+        json.append("{\n");
+        json.append("  \"sessions\": {\n");
+        json.append("    \"maxGapMinutes\": ").append(formatDecimal(sessions.getMaxGap() / MINUTE_MILLIS)).append(",\n");
+        json.append("    \"count\": ").append(sessions.size()).append(",\n");
+        json.append("    \"averageEvents\": ").append(formatDecimal(sessions.getAverageEvents())).append(",\n");
+        json.append("    \"maxEvents\": ").append(sessions.getMaxEvents()).append(",\n");
+        json.append("    \"lengthMillis\": {\"mean\": ").append(formatDecimal(lengths.getMean()))
+                .append(", \"p50\": ").append(lengths.getP50()).append(", \"p90\": ").append(lengths.getP90())
+                .append(", \"max\": ").append(lengths.getMax()).append("},\n");
+        json.append("    \"longest\": ");
+        if (lengths.isEmpty()) json.append("null");
+        else json.append("{\"start\": \"").append(formatTime(lengths.getMaxStartTime()))
+                .append("\", \"end\": \"").append(formatTime(lengths.getMaxEndTime()))
+                .append("\", \"events\": ").append(lengths.getMaxEndIndex() - lengths.getMaxStartIndex() + 1).append("}");
+        json.append("\n  },\n");
+
+        // Proximity
+        json.append("  \"proximity\": {\n");
+        json.append("    \"left\": \"").append(proximity.leftLabel).append("\",\n");
+        json.append("    \"right\": \"").append(proximity.rightLabel).append("\",\n");
+        json.append("    \"windowMinutes\": ").append(formatDecimal(proximity.window / MINUTE_MILLIS)).append(",\n");
+        json.append("    \"leftEvents\": ").append(proximity.left.length).append(",\n");
+        json.append("    \"rightEvents\": ").append(proximity.right.length).append(",\n");
+        json.append("    \"pairs\": ").append(proximity.pairs).append(",\n");
+        json.append("    \"matchedLeft\": ").append(proximity.matchedLeft).append(",\n");
+        json.append("    \"matchedPercent\": ").append(formatDecimal(proximity.getMatchedPercent()));
+        if (listPairs) {
+            json.append(",\n    \"pairList\": [");
+            boolean[] first = {true};
+            IntervalJoin.join(proximity.left, proximity.right, proximity.window, (leftIndex, rightIndex) -> {
+                json.append(first[0] ? "\n" : ",\n");
+                first[0] = false;
+                json.append("      {\"left\": \"").append(formatTime(proximity.left[leftIndex]))
+                        .append("\", \"right\": \"").append(formatTime(proximity.right[rightIndex]))
+                        .append("\", \"offsetMinutes\": ").append(formatOffset(proximity, leftIndex, rightIndex)).append("}");
+            });
+            json.append(first[0] ? "]" : "\n    ]");
+        }
+        json.append("\n  }\n}\n");
+        return json.toString();
+    }
+
+
+    /*--- Private CSV Methods ---*/
+
+    private String writeCsv(Sessions sessions, Proximity proximity, boolean listPairs) {
+        StringBuilder csv = new StringBuilder(4096);
+        GapDistribution lengths = sessions.getLengths();
+
+        // Sessions
+        csv.append("metric,left,right,value\n");
+        appendCsvRow(csv, "session_max_gap_minutes", "", "", formatDecimal(sessions.getMaxGap() / MINUTE_MILLIS));
+        appendCsvRow(csv, "session_count", "", "", "" + sessions.size());
+        appendCsvRow(csv, "session_average_events", "", "", formatDecimal(sessions.getAverageEvents()));
+        appendCsvRow(csv, "session_max_events", "", "", "" + sessions.getMaxEvents());
+        appendCsvRow(csv, "session_length_mean_millis", "", "", formatDecimal(lengths.getMean()));
+        appendCsvRow(csv, "session_length_p50_millis", "", "", "" + lengths.getP50());
+        appendCsvRow(csv, "session_length_p90_millis", "", "", "" + lengths.getP90());
+        appendCsvRow(csv, "session_length_max_millis", "", "", "" + lengths.getMax());
+
+        // Proximity
+        String left = proximity.leftLabel;
+        String right = proximity.rightLabel;
+        appendCsvRow(csv, "window_minutes", left, right, formatDecimal(proximity.window / MINUTE_MILLIS));
+        appendCsvRow(csv, "left_events", left, right, "" + proximity.left.length);
+        appendCsvRow(csv, "right_events", left, right, "" + proximity.right.length);
+        appendCsvRow(csv, "pairs", left, right, "" + proximity.pairs);
+        appendCsvRow(csv, "matched_left", left, right, "" + proximity.matchedLeft);
+        appendCsvRow(csv, "matched_percent", left, right, formatDecimal(proximity.getMatchedPercent()));
+        if (listPairs) {
+            IntervalJoin.join(proximity.left, proximity.right, proximity.window, (leftIndex, rightIndex) ->
+                    appendCsvRow(csv, "pair", formatTime(proximity.left[leftIndex]), formatTime(proximity.right[rightIndex]),
+                            formatOffset(proximity, leftIndex, rightIndex)));
+        }
+        return csv.toString();
+    }
+
+    private void appendCsvRow(StringBuilder csv, String metric, String left, String right, String value) {
+        csv.append(metric).append(',').append(left).append(',').append(right).append(',').append(value).append('\n');
+    }
+
+
+    /*--- Private Formatting Methods ---*/
+
+    private String formatOffset(Proximity proximity, int leftIndex, int rightIndex) {
+        return formatDecimal((proximity.right[rightIndex] - proximity.left[leftIndex]) / MINUTE_MILLIS);
+    }
+
+    private static String formatDecimal(double value) {
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+
+    private String formatTime(long timestamp) {
+        return TIME_FORMAT.format(Instant.ofEpochMilli(timestamp).atZone(zone));
+    }
+
+
+    /*--- Public Classes ---*/
+
+    // Joins two sorted series once, keeping the counts for output.
+    public static class Proximity {
+
+        public final String leftLabel;
+        public final String rightLabel;
+        public final long[] left;
+        public final long[] right;
+        public final long window;
+        public final long pairs;
+        public final int matchedLeft;
+
+        public Proximity(String leftLabel, String rightLabel, long[] left, long[] right, long window) {
+            this.leftLabel = leftLabel;
+            this.rightLabel = rightLabel;
+            this.left = left;
+            this.right = right;
+            this.window = window;
+            pairs = IntervalJoin.join(left, right, window, null);
+            matchedLeft = IntervalJoin.countMatched(left, right, window);
+        }
+
+        public double getMatchedPercent() {
+            return left.length == 0 ? 0 : matchedLeft * 100.0 / left.length;
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package report;
+
+import analysis.AnomalyDetector;
+import analysis.EventAggregates;
+import analysis.GapDistribution;
+import model.types.EventType;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+
+/* Event Grapher
+ * Christopher Cruzen
+ * 10.19.2026
+ *
+ *   StatsWriter formats the numbers behind the infographic as JSON or CSV: totals,
+ * averages, type shares, peak day and week, gaps, and the bucket counts behind each
+ * chart. It reads only from EventAggregates and uses no AWT or Swing classes, so it
+ * can run on headless machines.
+ *
+ *   CSV output is one row per value with the columns metric,type,day,hour,value. Days
+ * count from Monday = 0 for weekly buckets and from January 1st = 0 for annual ones,
+ * and each burst or drought's rows carry the day its interval starts on.
+ */
+
+public class StatsWriter {
+
+
+    /*--- Variables ---*/
+
+    public enum Format {
+        JSON,
+        CSV
+    }
+
+    private static final String[] WEEKDAY_KEYS = {"mon", "tue", "wed", "thu", "fri", "sat", "sun"};
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
+
+    private final Format format;
+
+
+    /*--- Constructor ---*/
+
+    public StatsWriter(Format format) {
+        this.format = format;
+    }
+
+
+    /*--- Public Methods ---*/
+
+    public String write(EventAggregates aggregates) {
+        return format == Format.JSON ? writeJson(aggregates) : writeCsv(aggregates);
+    }
+
+    public Format getFormat() {
+        return format;
+    }
+
+
+    /*--- Private JSON Methods ---*/
+
+    private String writeJson(EventAggregates aggregates) {
+        StringBuilder json = new StringBuilder(16384);
+        GapDistribution gaps = aggregates.getGapAnalyzer().getOverall();
+        boolean empty = aggregates.getTotalCount() == 0;
+
+        // Totals
+        json.append("{\n");
+        json.append("  \"year\": ").append(aggregates.getYear()).append(",\n");
+        json.append("  \"total\": ").append(aggregates.getTotalCount()).append(",\n");
+        json.append("  \"dailyAverage\": ").append(formatDecimal(aggregates.getDailyAverage())).append(",\n");
+        json.append("  \"weeklyAverage\": ").append(formatDecimal(aggregates.getWeeklyAverage())).append(",\n");
+        json.append("  \"outOfOrder\": ").append(aggregates.getGapAnalyzer().getOutOfOrderCount()).append(",\n");
+        json.append("  \"types\": {");
+        for (EventType type : EventType.values()) {
+            json.append(type.ordinal() == 0 ? "\n" : ",\n");
+            json.append("    \"").append(getTypeKey(type)).append("\": {\"count\": ").append(aggregates.getTypeCount(type))
+                    .append(", \"percent\": ").append(formatDecimal(aggregates.getTypePercent(type) * 100)).append("}");
+        }
+        json.append("\n  },\n");
+
+        // Peaks
+        json.append("  \"peakDay\": ");
+        if (empty) json.append("null");
+        else json.append("{\"count\": ").append(aggregates.getPeakDayCount())
+                .append(", \"date\": \"").append(formatDate(aggregates, aggregates.getPeakDayStart())).append("\"}");
+        json.append(",\n");
+        json.append("  \"peakWeek\": ");
+        if (empty) json.append("null");
+        else json.append("{\"count\": ").append(aggregates.getPeakWeekCount())
+                .append(", \"start\": \"").append(formatTime(aggregates, aggregates.getPeakWeekStart())).append("\"}");
+        json.append(",\n");
+
+        // Gaps
+        json.append("  \"longestGap\": ");
+        appendJsonGap(json, aggregates, gaps.isEmpty(), gaps.getMax(), gaps.getMaxStartTime(), gaps.getMaxEndTime());
+        json.append(",\n");
+        json.append("  \"shortestGap\": ");
+        appendJsonGap(json, aggregates, gaps.isEmpty(), gaps.getMin(), gaps.getMinStartTime(), gaps.getMinEndTime());
+        json.append(",\n");
+        json.append("  \"gapPercentilesMillis\": {\"p50\": ").append(gaps.getP50())
+                .append(", \"p90\": ").append(gaps.getP90()).append(", \"p99\": ").append(gaps.getP99()).append("},\n");
+
+        // Bursts & Droughts
+        json.append("  \"anomalies\": [");
+        List<AnomalyDetector.Anomaly> anomalies = aggregates.getAnomalies();
+        for (int x = 0; x < anomalies.size(); x++) {
+            AnomalyDetector.Anomaly anomaly = anomalies.get(x);
+            json.append(x == 0 ? "\n" : ",\n");
+            json.append("    {\"kind\": \"").append(getAnomalyKey(anomaly))
+                    .append("\", \"start\": \"").append(formatTime(aggregates, anomaly.start))
+                    .append("\", \"end\": \"").append(formatTime(aggregates, anomaly.end))
+                    .append("\", \"value\": ").append(anomaly.value)
+                    .append(", \"baseline\": ").append(formatDecimal(anomaly.baseline))
+                    .append(", \"score\": ").append(formatDecimal(anomaly.score)).append("}");
+        }
+        json.append(anomalies.isEmpty() ? "],\n" : "\n  ],\n");
+
+        // Weekly Activity (Type x Weekday x Hour)
+        json.append("  \"weekly\": {");
+        for (EventType type : EventType.values()) {
+            json.append(type.ordinal() == 0 ? "\n" : ",\n");
+            json.append("    \"").append(getTypeKey(type)).append("\": {");
+            for (int day = 0; day < 7; day++) {
+                json.append(day == 0 ? "" : ", ").append("\"").append(WEEKDAY_KEYS[day]).append("\": [");
+                for (int hour = 0; hour < 24; hour++) {
+                    json.append(hour == 0 ? "" : ", ").append(aggregates.getWeekHourCount(type, day, hour));
+                }
+                json.append("]");
+            }
+            json.append("}");
+        }
+        json.append("\n  },\n");
+
+        // Daily Activity (Type x Weekday)
+        json.append("  \"daily\": {");
+        for (EventType type : EventType.values()) {
+            json.append(type.ordinal() == 0 ? "\n" : ",\n");
+            json.append("    \"").append(getTypeKey(type)).append("\": [");
+            for (int day = 0; day < 7; day++) {
+                json.append(day == 0 ? "" : ", ").append(aggregates.getWeekdayCount(type, day));
+            }
+            json.append("]");
+        }
+        json.append("\n  },\n");
+
+        // Hourly Activity
+        json.append("  \"hourly\": [");
+        for (int hour = 0; hour < 24; hour++) {
+            json.append(hour == 0 ? "" : ", ").append(aggregates.getHourCount(hour));
+        }
+        json.append("],\n");
+
+        // Annual Activity
+        json.append("  \"annual\": [");
+        for (int day = 0; day < aggregates.getDaysInYear(); day++) {
+            json.append(day == 0 ? "" : ", ").append(aggregates.getDayCount(day));
+        }
+        json.append("]\n}\n");
+        return json.toString();
+    }
+
+    private void appendJsonGap(StringBuilder json, EventAggregates aggregates, boolean empty, long gap, long start, long end) {
+        if (empty) {
+            json.append("null");
+            return;
+        }
+        json.append("{\"millis\": ").append(gap)
+                .append(", \"start\": \"").append(formatTime(aggregates, start))
+                .append("\", \"end\": \"").append(formatTime(aggregates, end)).append("\"}");
+    }
+
+
+    /*--- Private CSV Methods ---*/
+
+    private String writeCsv(EventAggregates aggregates) {
+        StringBuilder csv = new StringBuilder(65536);
+        GapDistribution gaps = aggregates.getGapAnalyzer().getOverall();
+        boolean empty = aggregates.getTotalCount() == 0;
+
+        // Totals
+        csv.append("metric,type,day,hour,value\n");
+        appendCsvRow(csv, "year", "", "", "", "" + aggregates.getYear());
+        appendCsvRow(csv, "total", "", "", "", "" + aggregates.getTotalCount());
+        appendCsvRow(csv, "daily_average", "", "", "", formatDecimal(aggregates.getDailyAverage()));
+        appendCsvRow(csv, "weekly_average", "", "", "", formatDecimal(aggregates.getWeeklyAverage()));
+        appendCsvRow(csv, "out_of_order", "", "", "", "" + aggregates.getGapAnalyzer().getOutOfOrderCount());
+        for (EventType type : EventType.values()) {
+            appendCsvRow(csv, "type_count", getTypeKey(type), "", "", "" + aggregates.getTypeCount(type));
+            appendCsvRow(csv, "type_percent", getTypeKey(type), "", "", formatDecimal(aggregates.getTypePercent(type) * 100));
+        }
+
+        // Peaks & Gaps
+        if (!empty) {
+            appendCsvRow(csv, "peak_day_count", "", "", "", "" + aggregates.getPeakDayCount());
+            appendCsvRow(csv, "peak_day_date", "", "", "", formatDate(aggregates, aggregates.getPeakDayStart()));
+            appendCsvRow(csv, "peak_week_count", "", "", "", "" + aggregates.getPeakWeekCount());
+            appendCsvRow(csv, "peak_week_start", "", "", "", formatTime(aggregates, aggregates.getPeakWeekStart()));
+        }
+        if (!gaps.isEmpty()) {
+            appendCsvRow(csv, "longest_gap_millis", "", "", "", "" + gaps.getMax());
+            appendCsvRow(csv, "longest_gap_start", "", "", "", formatTime(aggregates, gaps.getMaxStartTime()));
+            appendCsvRow(csv, "longest_gap_end", "", "", "", formatTime(aggregates, gaps.getMaxEndTime()));
+            appendCsvRow(csv, "shortest_gap_millis", "", "", "", "" + gaps.getMin());
+            appendCsvRow(csv, "shortest_gap_start", "", "", "", formatTime(aggregates, gaps.getMinStartTime()));
+            appendCsvRow(csv, "shortest_gap_end", "", "", "", formatTime(aggregates, gaps.getMinEndTime()));
+            appendCsvRow(csv, "gap_p50_millis", "", "", "", "" + gaps.getP50());
+            appendCsvRow(csv, "gap_p90_millis", "", "", "", "" + gaps.getP90());
+            appendCsvRow(csv, "gap_p99_millis", "", "", "", "" + gaps.getP99());
+        }
+
+        // Bursts & Droughts
+        for (AnomalyDetector.Anomaly anomaly : aggregates.getAnomalies()) {
+            String key = getAnomalyKey(anomaly);
+            String day = "" + getDayOfYear(aggregates, anomaly.start);
+            appendCsvRow(csv, key + "_start", "", day, "", formatTime(aggregates, anomaly.start));
+            appendCsvRow(csv, key + "_end", "", day, "", formatTime(aggregates, anomaly.end));
+            appendCsvRow(csv, key + "_value", "", day, "", "" + anomaly.value);
+            appendCsvRow(csv, key + "_baseline", "", day, "", formatDecimal(anomaly.baseline));
+            appendCsvRow(csv, key + "_score", "", day, "", formatDecimal(anomaly.score));
+        }
+
+        // Buckets
+        for (EventType type : EventType.values()) {
+            for (int day = 0; day < 7; day++) {
+                for (int hour = 0; hour < 24; hour++) {
+                    appendCsvRow(csv, "weekly", getTypeKey(type), "" + day, "" + hour, "" + aggregates.getWeekHourCount(type, day, hour));
+                }
+            }
+        }
+        for (EventType type : EventType.values()) {
+            for (int day = 0; day < 7; day++) {
+                appendCsvRow(csv, "daily", getTypeKey(type), "" + day, "", "" + aggregates.getWeekdayCount(type, day));
+            }
+        }
+        for (int hour = 0; hour < 24; hour++) {
+            appendCsvRow(csv, "hourly", "", "", "" + hour, "" + aggregates.getHourCount(hour));
+        }
+        for (int day = 0; day < aggregates.getDaysInYear(); day++) {
+            appendCsvRow(csv, "annual", "", "" + day, "", "" + aggregates.getDayCount(day));
+        }
+        return csv.toString();
+    }
+
+    private void appendCsvRow(StringBuilder csv, String metric, String type, String day, String hour, String value) {
+        csv.append(metric).append(',').append(type).append(',').append(day).append(',')
+                .append(hour).append(',').append(value).append('\n');
+    }
+
+
+    /*--- Private Formatting Methods ---*/
+
+    private static String getTypeKey(EventType type) {
+        return type.name().toLowerCase(Locale.ROOT);
+    }
+
+    private static String getAnomalyKey(AnomalyDetector.Anomaly anomaly) {
+        return anomaly.kind.name().toLowerCase(Locale.ROOT);
+    }
+
+    private static int getDayOfYear(EventAggregates aggregates, long timestamp) {
+        return Instant.ofEpochMilli(timestamp).atZone(aggregates.getZone()).getDayOfYear() - 1;
+    }
+
+    private static String formatDecimal(double value) {
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+
+    private static String formatDate(EventAggregates aggregates, long timestamp) {
+        LocalDate date = Instant.ofEpochMilli(timestamp).atZone(aggregates.getZone()).toLocalDate();
+        return date.toString();
+    }
+
+    private static String formatTime(EventAggregates aggregates, long timestamp) {
+        return TIME_FORMAT.format(Instant.ofEpochMilli(timestamp).atZone(aggregates.getZone()));
+    }
+}
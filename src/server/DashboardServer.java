@@ -0,0 +1,407 @@
+package server;
+
+import analysis.EventAggregates;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import index.EventFilter;
+import io.EventRepository;
+import io.RepositorySnapshot;
+import report.StatsWriter;
+import ui.InfographicPainter;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/* Event Grapher
+ * Christopher Cruzen
+ * 10.19.2026
+ *
+ *   DashboardServer serves the infographic over HTTP so it can be shared from one
+ * machine instead of opened in a window on each. Handlers run on virtual threads.
+ *
+ *   GET /                  Page showing the chart, with year and filter controls
+ *   GET /chart.png         The infographic as a PNG
+ *   GET /stats.json        Statistics as JSON (see StatsWriter)
+ *   GET /stats.csv         Statistics as CSV
+ *
+ *   Every endpoint but the page accepts ?year=YYYY (default: the first event's year)
+ * and ?filter=<expression> (see EventFilter). Only events inside the requested year
+ * are aggregated.
+ *
+ *   Responses are cached by dataset version, path, year and canonical filter, and carry
+ * an ETag built from the same key, so unchanged charts are answered with 304s. Requests
+ * that arrive while the same response is still rendering wait for that render rather
+ * than starting their own. Each request reads a single RepositorySnapshot from start to
+ * finish, and its cache key and ETag carry that snapshot's fingerprint. The input files
+ * are polled for changes; a change re-reads just the changed files into a new snapshot,
+ * which retires every cached response and ETag without disturbing requests in flight.
+ */
+
+public class DashboardServer {
+
+
+    /*--- Variables ---*/
+
+    // Constants
+    public static final String FLAG = "--serve";
+    private static final String PORT_OPTION = "--port=";
+    private static final int DEFAULT_PORT = 8080;
+    private static final int CACHE_SIZE = 256;
+    private static final int RELOAD_CHECK_SECONDS = 5;
+
+    // Variables
+    private final List<String> inputPatterns;
+    private final int port;
+    private final Map<String, CompletableFuture<CachedResponse>> responseCache;
+    private final Semaphore renderPermits;
+    private EventRepository eventRepository;
+
+
+    /*--- Constructor ---*/
+
+    // Arguments are options followed by input file paths or globs.
+    public DashboardServer(List<String> arguments) {
+        int requestedPort = DEFAULT_PORT;
+        inputPatterns = new ArrayList<>();
+        for (String argument : arguments) {
+            if (argument.startsWith(PORT_OPTION)) {
+                requestedPort = parsePort(argument.substring(PORT_OPTION.length()));
+            } else {
+                inputPatterns.add(argument);
+            }
+        }
+        port = requestedPort;
+
+        responseCache = new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CompletableFuture<CachedResponse>> eldest) {
+                return size() > CACHE_SIZE;
+            }
+        };
+        renderPermits = new Semaphore(Runtime.getRuntime().availableProcessors());
+    }
+
+
+    /*--- Public Methods ---*/
+
+    public void start() throws IOException {
+        System.setProperty("java.awt.headless", "true");
+        eventRepository = loadRepository();
+
+        // Serve Requests
+        HttpServer server = HttpServer.create(new InetSocketAddress(port), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(newVirtualThreadExecutor());
+        server.start();
+
+        // Watch Input Files
+        ScheduledExecutorService watcher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "input-watcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        watcher.scheduleWithFixedDelay(this::reloadIfChanged, RELOAD_CHECK_SECONDS, RELOAD_CHECK_SECONDS, TimeUnit.SECONDS);
+
+        System.out.println("Serving " + eventRepository.getSnapshot().size() + " events on http://localhost:" + port + "/");
+    }
+
+
+    /*--- Private Request Methods ---*/
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!exchange.getRequestMethod().equals("GET") && !exchange.getRequestMethod().equals("HEAD")) {
+                sendText(exchange, 405, "Method not allowed.");
+                return;
+            }
+
+            // Parse Request
+            String path = exchange.getRequestURI().getPath();
+            if (!path.equals("/") && !path.equals("/chart.png") && !path.equals("/stats.json") && !path.equals("/stats.csv")) {
+                sendText(exchange, 404, "Not found.");
+                return;
+            }
+            Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+            RepositorySnapshot snapshot = eventRepository.getSnapshot();
+            EventFilter filter;
+            int year;
+            try {
+                filter = EventFilter.parse(query.get("filter"));
+                year = query.containsKey("year") ? Integer.parseInt(query.get("year")) : getFirstEventYear(snapshot);
+                if (year < 1 || year > 9999) throw new NumberFormatException();
+            } catch (NumberFormatException exception) {
+                sendText(exchange, 400, "Invalid year.");
+                return;
+            } catch (IllegalArgumentException exception) {
+                sendText(exchange, 400, "Invalid filter: " + exception.getMessage());
+                return;
+            }
+
+            // Answer From Cache, Rendering Once Per Key
+            String key = snapshot.getFingerprint() + "|" + path + "|" + year + "|" + filter;
+            String etag = "\"" + Long.toHexString(snapshot.getFingerprint()) + "-" + Integer.toHexString(key.hashCode()) + "\"";
+            CachedResponse response = getResponse(key, etag, () -> render(snapshot, path, year, filter));
+            exchange.getResponseHeaders().set("ETag", response.etag);
+            exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+            if (response.etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", response.contentType);
+            boolean head = exchange.getRequestMethod().equals("HEAD");
+            exchange.sendResponseHeaders(200, head ? -1 : response.body.length);
+            if (!head) {
+                try (OutputStream body = exchange.getResponseBody()) {
+                    body.write(response.body);
+                }
+            }
+        } catch (RuntimeException exception) {
+            System.out.println("Error: Couldn't serve " + exchange.getRequestURI() + ".");
+            sendText(exchange, 500, "Internal error.");
+        }
+    }
+
+    private CachedResponse getResponse(String key, String etag, Renderer renderer) {
+        CompletableFuture<CachedResponse> future;
+        boolean owner = false;
+        synchronized (responseCache) {
+            future = responseCache.get(key);
+            if (future == null) {
+                future = new CompletableFuture<>();
+                responseCache.put(key, future);
+                owner = true;
+            }
+        }
+
+        // First Requester Renders; Everyone Else Waits On The Same Future
+        if (owner) {
+            try {
+                renderPermits.acquireUninterruptibly();
+                try {
+                    CachedResponse response = renderer.render();
+                    response.etag = etag;
+                    future.complete(response);
+                } finally {
+                    renderPermits.release();
+                }
+            } catch (RuntimeException | IOException exception) {
+                future.completeExceptionally(exception);
+                synchronized (responseCache) {
+                    responseCache.remove(key, future);
+                }
+            }
+        }
+        try {
+            return future.join();
+        } catch (CompletionException exception) {
+            throw new IllegalStateException(exception.getCause());
+        }
+    }
+
+    private CachedResponse render(RepositorySnapshot snapshot, String path, int year, EventFilter filter) throws IOException {
+        if (path.equals("/")) {
+            return new CachedResponse(getPage(snapshot, year, filter).getBytes(StandardCharsets.UTF_8), "text/html; charset=utf-8");
+        }
+        int[] positions = getPositions(snapshot, year, filter);
+        EventAggregates aggregates = EventAggregates.compute(year, snapshot.getTimestamps(), snapshot.getTypeCodes(), positions);
+        if (path.equals("/chart.png")) {
+            return new CachedResponse(renderChart(aggregates, snapshot, filter, positions), "image/png");
+        }
+        StatsWriter.Format format = path.equals("/stats.json") ? StatsWriter.Format.JSON : StatsWriter.Format.CSV;
+        String contentType = format == StatsWriter.Format.JSON ? "application/json" : "text/csv";
+        return new CachedResponse(new StatsWriter(format).write(aggregates).getBytes(StandardCharsets.UTF_8), contentType + "; charset=utf-8");
+    }
+
+
+    /*--- Private Render Methods ---*/
+
+    // Returns the positions of the filtered events that fall inside the given year.
+    private static int[] getPositions(RepositorySnapshot snapshot, int year, EventFilter filter) {
+        ZoneId zone = ZoneId.systemDefault();
+        int from = snapshot.indexAtOrAfter(LocalDate.of(year, 1, 1).atStartOfDay(zone).toInstant().toEpochMilli());
+        int to = snapshot.indexAtOrAfter(LocalDate.of(year + 1, 1, 1).atStartOfDay(zone).toInstant().toEpochMilli());
+        int[] positions = filter.evaluate(snapshot.getEventIndex()).toArray();
+        int first = lowerBound(positions, from);
+        int last = lowerBound(positions, to);
+        return Arrays.copyOfRange(positions, first, last);
+    }
+
+    private static byte[] renderChart(EventAggregates aggregates, RepositorySnapshot snapshot, EventFilter filter,
+                                      int[] positions) throws IOException {
+        BufferedImage image = new BufferedImage(InfographicPainter.WIDTH, InfographicPainter.HEIGHT, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        try {
+            InfographicPainter painter = new InfographicPainter(aggregates);
+            painter.setRankings(snapshot.getRankings(positions));
+            painter.setDistinctCounts(snapshot.getDistinctCounts(positions));
+            if (filter.matchesAll()) painter.setRollingCounts(snapshot.getRollingCounts());
+            painter.paint(graphics);
+        } finally {
+            graphics.dispose();
+        }
+        ByteArrayOutputStream png = new ByteArrayOutputStream(256 * 1024);
+        ImageIO.write(image, "png", png);
+        return png.toByteArray();
+    }
+
+    private static String getPage(RepositorySnapshot snapshot, int year, EventFilter filter) {
+        String query = "?year=" + year + (filter.matchesAll() ? "" : "&filter=" + encode(filter.toString()));
+        StringBuilder page = new StringBuilder("<!DOCTYPE html>\n<html><head><title>Event Grapher</title></head>\n")
+                .append("<body style=\"background:#282a2f;color:#7f8999;font-family:sans-serif\">\n")
+                .append("<form method=\"get\" action=\"/\">Year <select name=\"year\">");
+        int firstYear = getFirstEventYear(snapshot);
+        int lastYear = getLastEventYear(snapshot);
+        for (int option = firstYear; option <= lastYear; option++) {
+            page.append("<option").append(option == year ? " selected" : "").append(">").append(option).append("</option>");
+        }
+        page.append("</select> Filter <input name=\"filter\" size=\"60\" value=\"").append(escape(filter.toString()))
+                .append("\"> <input type=\"submit\" value=\"Apply\"> ")
+                .append("<a href=\"/stats.json").append(escape(query)).append("\">JSON</a> ")
+                .append("<a href=\"/stats.csv").append(escape(query)).append("\">CSV</a></form>\n")
+                .append("<img src=\"/chart.png").append(escape(query)).append("\" alt=\"Event infographic\">\n")
+                .append("</body></html>\n");
+        return page.toString();
+    }
+
+
+    /*--- Private Dataset Methods ---*/
+
+    private EventRepository loadRepository() {
+        return inputPatterns.isEmpty() ? new EventRepository() : new EventRepository(inputPatterns);
+    }
+
+    /* Note: Requests already running keep the snapshot they started with. Cache keys carry
+     *       the snapshot's fingerprint, so old entries can never answer new requests; the
+     *       clear just hands their memory back sooner.
+     */
+    private void reloadIfChanged() {
+        try {
+            if (!eventRepository.isStale() || !eventRepository.reload()) return;
+        } catch (IOException | RuntimeException exception) {
+            System.out.println("Error: Couldn't reload input files. Still serving the previous version.");
+            return;
+        }
+        synchronized (responseCache) {
+            responseCache.clear();
+        }
+        RepositorySnapshot snapshot = eventRepository.getSnapshot();
+        System.out.println("Reloaded " + snapshot.size() + " events as version " + snapshot.getVersion() + ".");
+    }
+
+    private static int getFirstEventYear(RepositorySnapshot snapshot) {
+        long[] timestamps = snapshot.getTimestamps();
+        if (timestamps.length == 0) return LocalDate.now().getYear();
+        return Instant.ofEpochMilli(timestamps[0]).atZone(ZoneId.systemDefault()).getYear();
+    }
+
+    private static int getLastEventYear(RepositorySnapshot snapshot) {
+        long[] timestamps = snapshot.getTimestamps();
+        if (timestamps.length == 0) return LocalDate.now().getYear();
+        return Instant.ofEpochMilli(timestamps[timestamps.length - 1]).atZone(ZoneId.systemDefault()).getYear();
+    }
+
+
+    /*--- Public Static Methods ---*/
+
+    /* Note: Virtual threads arrived in Java 21. On older runtimes tasks fall back to a
+     *       cached platform thread pool, which runs the same tasks with more memory. Also
+     *       used by BatchCommand for its jobs.
+     */
+    public static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException exception) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+
+    /*--- Private Utility Methods ---*/
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) return query;
+        for (String pair : rawQuery.split("&")) {
+            int equals = pair.indexOf('=');
+            if (equals <= 0) continue;
+            query.put(URLDecoder.decode(pair.substring(0, equals), StandardCharsets.UTF_8),
+                    URLDecoder.decode(pair.substring(equals + 1), StandardCharsets.UTF_8));
+        }
+        return query;
+    }
+
+    private static void sendText(HttpExchange exchange, int status, String message) throws IOException {
+        byte[] body = (message + "\n").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        }
+    }
+
+    private static int lowerBound(int[] sorted, int value) {
+        int index = Arrays.binarySearch(sorted, value);
+        return index < 0 ? -index - 1 : index;
+    }
+
+    private static String encode(String text) {
+        return URLEncoder.encode(text, StandardCharsets.UTF_8);
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+
+    private static int parsePort(String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException exception) {
+            System.out.println("Error: Invalid port " + value + ".");
+            System.exit(1);
+            return DEFAULT_PORT;
+        }
+    }
+
+
+    /*--- Private Classes ---*/
+
+    private interface Renderer {
+        CachedResponse render() throws IOException;
+    }
+
+    private static class CachedResponse {
+
+        final byte[] body;
+        final String contentType;
+        String etag;
+
+        CachedResponse(byte[] body, String contentType) {
+            this.body = body;
+            this.contentType = contentType;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package ui;
+
+import analysis.EventAggregates;
+import index.EventFilter;
+import index.EventIndex;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/* Event Grapher
+ * Christopher Cruzen
+ * 10.19.2026
+ *
+ *   FilterBar is the strip of controls above the infographic used to slice the dataset.
+ * Field/value pickers build up a filter expression that can also be edited by hand; the
+ * expression is handed to GraphPanel whenever it changes. The compare field takes two or
+ * more years in any order (ex: 2023 2022) to overlay in place of the infographic, the
+ * oldest as the baseline; clearing it returns to the single year.
+ */
+
+class FilterBar extends JPanel {
+
+
+    /*--- Variables ---*/
+
+    private static final long serialVersionUID = 1L;
+
+    private final GraphPanel graphPanel;
+    private final JComboBox<EventIndex.Field> fieldBox;
+    private final JComboBox<String> valueBox;
+    private final JTextField expressionField;
+    private final JTextField compareField;
+    private final JLabel statusLabel;
+
+
+    /*--- Constructor ---*/
+
+    FilterBar(GraphPanel graphPanel) {
+        super(new FlowLayout(FlowLayout.LEFT, 6, 4));
+        this.graphPanel = graphPanel;
+
+        // Build Controls
+        fieldBox = new JComboBox<>(EventIndex.Field.values());
+        valueBox = new JComboBox<>();
+        valueBox.setEditable(true);
+        valueBox.setPrototypeDisplayValue("XXXXXXXXXXXXXXXXXXXXXX");
+        JButton includeButton = new JButton("Include");
+        JButton excludeButton = new JButton("Exclude");
+        expressionField = new JTextField(40);
+        JButton clearButton = new JButton("Clear");
+        compareField = new JTextField(10);
+        statusLabel = new JLabel();
+
+        // Wire Up Listeners
+        fieldBox.addActionListener(e -> refreshValues());
+        includeButton.addActionListener(e -> appendTerm(false));
+        excludeButton.addActionListener(e -> appendTerm(true));
+        expressionField.addActionListener(e -> applyExpression());
+        clearButton.addActionListener(e -> {
+            expressionField.setText("");
+            applyExpression();
+        });
+        compareField.addActionListener(e -> applyComparison());
+        graphPanel.addPropertyChangeListener(GraphPanel.AGGREGATES_PROPERTY, e -> updateStatus());
+
+        // Lay Out
+        add(new JLabel("Filter:"));
+        add(fieldBox);
+        add(valueBox);
+        add(includeButton);
+        add(excludeButton);
+        add(expressionField);
+        add(clearButton);
+        add(new JLabel("Compare:"));
+        add(compareField);
+        add(statusLabel);
+
+        refreshValues();
+        updateStatus();
+    }
+
+
+    /*--- Private Methods ---*/
+
+    private void refreshValues() {
+        EventIndex.Field field = (EventIndex.Field) fieldBox.getSelectedItem();
+        List<String> values = new ArrayList<>(graphPanel.getSnapshot().getEventIndex().getValues(field));
+        values.sort(String.CASE_INSENSITIVE_ORDER);
+        valueBox.setModel(new DefaultComboBoxModel<>(values.toArray(new String[0])));
+    }
+
+    private void appendTerm(boolean exclude) {
+        Object value = valueBox.getEditor().getItem();
+        if (value == null || value.toString().trim().isEmpty()) return;
+
+        EventIndex.Field field = (EventIndex.Field) fieldBox.getSelectedItem();
+        String term = (exclude ? "!" : "") + field.name().toLowerCase(Locale.ROOT)
+                + ":\"" + value.toString().trim() + "\"";
+        String expression = expressionField.getText().trim();
+        expressionField.setText(expression.isEmpty() ? term : expression + " & " + term);
+        applyExpression();
+    }
+
+    private void applyExpression() {
+        try {
+            EventFilter filter = EventFilter.parse(expressionField.getText());
+            statusLabel.setForeground(UIManager.getColor("Label.foreground"));
+            statusLabel.setText("Filtering...");
+            graphPanel.setFilter(filter);
+        } catch (IllegalArgumentException exception) {
+            showError(exception.getMessage());
+        }
+    }
+
+    private void applyComparison() {
+        String text = compareField.getText().trim();
+        if (text.isEmpty()) {
+            graphPanel.setComparisonYears(null);
+            updateStatus();
+            return;
+        }
+
+        // Parse & Check Years
+        String[] values = text.split("[\\s,]+");
+        int[] years = new int[values.length];
+        List<Integer> available = new ArrayList<>();
+        for (int year : graphPanel.getYears()) available.add(year);
+        for (int x = 0; x < values.length; x++) {
+            try {
+                years[x] = Integer.parseInt(values[x]);
+            } catch (NumberFormatException exception) {
+                showError("Invalid year " + values[x] + ".");
+                return;
+            }
+            if (!available.contains(years[x])) {
+                showError("No events in " + years[x] + ".");
+                return;
+            }
+        }
+        years = Arrays.stream(years).sorted().distinct().toArray();
+        if (years.length < 2) {
+            showError("Compare two or more years.");
+            return;
+        }
+        graphPanel.setComparisonYears(years);
+        updateStatus();
+    }
+
+    private void showError(String message) {
+        statusLabel.setForeground(Color.RED);
+        statusLabel.setText(message);
+    }
+
+    private void updateStatus() {
+        EventAggregates aggregates = graphPanel.getAggregates();
+        statusLabel.setForeground(UIManager.getColor("Label.foreground"));
+        statusLabel.setText(aggregates.getTotalCount() + " events  (" + graphPanel.getLastComputeMillis() + "ms)");
+    }
+}
@@ -1,9 +1,12 @@
 package ui;
 
+import analysis.TimelinePyramid;
+import io.EventRepository;
 import ui.utility.DisplayUtility;
 
 import javax.swing.*;
 import java.awt.*;
+import java.util.List;
 
 /* Event Grapher
  * Christopher Cruzen
@@ -19,11 +22,21 @@ public class GraphWindow {
 
     private JFrame frame;
     private GraphPanel graphPanel;
+    private FilterBar filterBar;
+    private TimelinePanel timelinePanel;
+    private final List<String> inputPatterns;
 
 
     /*--- Constructor ---*/
 
     public GraphWindow() {
+        this(List.of());
+    }
+
+    // Input patterns are file paths or globs; an empty list reads the default input file.
+    public GraphWindow(List<String> inputPatterns) {
+        this.inputPatterns = inputPatterns;
+
         setGlobalLookAndFeel();
         initializeFrameAttributes();
 
@@ -58,11 +71,23 @@ public class GraphWindow {
     }
 
     private void initializeViewClasses() {
-        graphPanel = new GraphPanel();
+        EventRepository eventRepository = inputPatterns.isEmpty()
+                ? new EventRepository()
+                : new EventRepository(inputPatterns);
+        graphPanel = new GraphPanel(eventRepository);
+        filterBar = new FilterBar(graphPanel);
+        timelinePanel = new TimelinePanel(TimelinePyramid.build(graphPanel.getSnapshot().getTimestamps(), graphPanel.getSnapshot().getTypeCodes()));
     }
 
     private void addViewClasses() {
         JScrollPane scrollPane = new JScrollPane(graphPanel);
-        frame.add(scrollPane, BorderLayout.CENTER);
+        JPanel yearTab = new JPanel(new BorderLayout());
+        yearTab.add(filterBar, BorderLayout.NORTH);
+        yearTab.add(scrollPane, BorderLayout.CENTER);
+
+        JTabbedPane tabbedPane = new JTabbedPane();
+        tabbedPane.addTab("Year", yearTab);
+        tabbedPane.addTab("Timeline", timelinePanel);
+        frame.add(tabbedPane, BorderLayout.CENTER);
     }
 }
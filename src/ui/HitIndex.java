@@ -0,0 +1,90 @@
+package ui;
+
+import analysis.BucketIndex;
+
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/* Event Grapher
+ * Christopher Cruzen
+ * 10.19.2026
+ *
+ *   HitIndex maps screen positions on the infographic to the chart buckets drawn there.
+ * Regions are registered into a uniform grid of cells as the painter lays them out, so
+ * finding the region under the mouse only checks the handful of regions sharing a cell.
+ */
+
+class HitIndex {
+
+
+    /*--- Variables ---*/
+
+    // Constants
+    private static final int CELL_SIZE = 32;
+
+    // Variables
+    private final int columns;
+    private final int rows;
+    private final List<List<HitRegion>> cells;
+
+
+    /*--- Constructor ---*/
+
+    HitIndex(int width, int height) {
+        columns = (width / CELL_SIZE) + 1;
+        rows = (height / CELL_SIZE) + 1;
+        cells = new ArrayList<>(columns * rows);
+        for (int x = 0; x < columns * rows; x++) cells.add(new ArrayList<>(2));
+    }
+
+
+    /*--- Methods ---*/
+
+    void add(HitRegion region) {
+        Rectangle bounds = region.bounds;
+        int firstColumn = clamp(bounds.x / CELL_SIZE, columns);
+        int lastColumn = clamp((bounds.x + bounds.width - 1) / CELL_SIZE, columns);
+        int firstRow = clamp(bounds.y / CELL_SIZE, rows);
+        int lastRow = clamp((bounds.y + bounds.height - 1) / CELL_SIZE, rows);
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                cells.get((row * columns) + column).add(region);
+            }
+        }
+    }
+
+    // Returns the region under a point, or null if the point isn't over a bucket.
+    HitRegion find(int x, int y) {
+        if (x < 0 || y < 0) return null;
+        int column = x / CELL_SIZE;
+        int row = y / CELL_SIZE;
+        if (column >= columns || row >= rows) return null;
+        for (HitRegion region : cells.get((row * columns) + column)) {
+            if (region.bounds.contains(x, y)) return region;
+        }
+        return null;
+    }
+
+    private static int clamp(int value, int limit) {
+        return Math.max(0, Math.min(limit - 1, value));
+    }
+
+
+    /*--- Classes ---*/
+
+    static class HitRegion {
+
+        final Rectangle bounds;
+        final BucketIndex.Family family;
+        final int bucket;
+        final String label;
+
+        HitRegion(Rectangle bounds, BucketIndex.Family family, int bucket, String label) {
+            this.bounds = bounds;
+            this.family = family;
+            this.bucket = bucket;
+            this.label = label;
+        }
+    }
+}
@@ -0,0 +1,1518 @@
+package ui;
+
+import analysis.AnomalyDetector;
+import analysis.BucketIndex;
+import analysis.DistinctCounts;
+import analysis.EventAggregates;
+import analysis.GapDistribution;
+import analysis.HeavyHitters;
+import analysis.Rankings;
+import analysis.RollingCounts;
+import analysis.YearCube;
+import io.InputReader;
+import model.types.EventType;
+import ui.utility.DisplayUtility;
+
+import java.awt.*;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Line2D;
+import java.text.DecimalFormat;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/* Event Grapher
+ * Christopher Cruzen
+ * 10.19.2026
+ *
+ *   InfographicPainter draws Event Grapher's stats and infographics onto any Graphics2D,
+ * be it a panel on screen or an offscreen image. Everything it draws comes from a single
+ * precomputed EventAggregates, so painting never touches the event list itself.
+ *
+ * Note: Painters hold their own date & number formats, which aren't thread-safe. Create
+ *       one painter per thread when rendering concurrently.
+ */
+
+@SuppressWarnings("deprecation")
+public class InfographicPainter {
+
+
+    /*--- Variable Declarations ---*/
+
+    // Interface Constants
+    public static final int WIDTH = InterfaceConstants.WINDOW_WIDTH - 50;
+    public static final int HEIGHT = InterfaceConstants.PANEL_HEIGHT;
+    private static final int POINT_DIAMETER_SMALL = 5;
+    private static final int POINT_OFFSET = 0;
+
+    // Color Constants
+    private static final Color[] THEME_COLORS = {
+            new Color(53, 57, 64),
+            new Color(56, 71, 99),
+            new Color(63, 91, 143),
+            new Color(87, 120, 181),
+            new Color(131, 156, 201),
+            new Color(184, 200, 227),
+            new Color(255, 255, 255),
+
+            new Color(51, 72, 102),
+            new Color(70, 70, 70)
+    };
+
+//    // Old Theme Colors (White -> Blue)
+//    private static final Color[] THEME_COLORS = {
+//            new Color(240, 240, 240),
+//            new Color(189, 231, 250),
+//            new Color(123, 208, 245),
+//            new Color(69, 181, 230),
+//            new Color(87, 154, 199),
+//            new Color(65, 116, 163),
+//            new Color(54, 95, 135),
+//            new Color(51, 72, 102),
+//            new Color(70, 70, 70)
+//    };
+
+    public static final Color BACKGROUND_COLOR = new Color(40, 42, 47);
+    private static final Color AXIS_COLOR = new Color(99, 107, 120);
+    private static final Color TEXT_COLOR_PRIMARY = new Color(255, 255, 255);
+    private static final Color TEXT_COLOR_SECONDARY = new Color(127, 137, 153);
+    private static final Color BURST_COLOR = new Color(235, 150, 90);
+    private static final Color DROUGHT_COLOR = new Color(186, 130, 210);
+    private static final Color[] YEAR_COLORS = {
+            THEME_COLORS[3], THEME_COLORS[6], BURST_COLOR, DROUGHT_COLOR, THEME_COLORS[5], new Color(120, 190, 140)
+    };
+
+    // Paint Constants
+    private static final int WINDOW_PADDING = 15;
+    private static final int TEXT_SIZE = 15;
+    private static final int TEXT_LINE_SPACING = 1;
+    private static final int DAY_GRID_BOX_SIZE = 22;
+    private static final int DAY_GRID_BOX_SPACING = 3;
+    private static final int AXIS_PADDING = 8;
+    private static final int AXIS_TICK = 4;
+    private static final int CORNER_RADIUS = 5;
+    private static final float AXIS_SIZE = 1.5f;
+
+    // Formatting Constants
+    private static final int RANKED_VALUES = 20;
+    private static final String[] WEEKDAY_NAMES = {"Monday", "Tuesday", "Wednesday", "Thursday", "Friday", "Saturday", "Sunday"};
+    private final DecimalFormat DECIMAL_FORMAT_3 = new DecimalFormat("0.00#");
+    private final DecimalFormat DECIMAL_FORMAT_P = new DecimalFormat("0.#");
+    private final SimpleDateFormat EVENT_DAY_PROSE_FORMAT = new SimpleDateFormat(InputReader.EVENT_DAY_PROSE_FORMAT.toPattern());
+    private final SimpleDateFormat EVENT_TIME_FORMAT = new SimpleDateFormat(InputReader.EVENT_TIME_FORMAT.toPattern());
+    private final SimpleDateFormat DAY_LABEL_FORMAT = new SimpleDateFormat("EEE, MMM d");
+
+    // Shared Fonts (Keyed By Style & Size, Reused Across Painters & Threads)
+    private static final Map<Integer, Font> FONTS = new ConcurrentHashMap<>();
+
+    // Data Variables
+    private final EventAggregates aggregates;
+    private HitIndex hitIndex;
+    private Rankings rankings;
+    private DistinctCounts distinctCounts;
+    private RollingCounts rollingCounts;
+    private YearCube yearCube;
+    private int[] comparisonYears;
+
+
+    /*--- Constructor ---*/
+
+    public InfographicPainter(EventAggregates aggregates) {
+        this.aggregates = aggregates;
+    }
+
+
+    /*--- Public Methods ---*/
+
+    // Registers every drawn bucket's screen region into the given index on the next paint.
+    void setHitIndex(HitIndex hitIndex) {
+        this.hitIndex = hitIndex;
+    }
+
+    // Draws the rankings panel from the given rankings; without them the panel is left empty.
+    public void setRankings(Rankings rankings) {
+        this.rankings = rankings;
+    }
+
+
+    // Adds distinct performer & site counts to the totals; without them they're left out.
+    public void setDistinctCounts(DistinctCounts distinctCounts) {
+        this.distinctCounts = distinctCounts;
+    }
+
+    /* Note: Draws rolling averages from the given running totals, whose windows may reach
+     *       back past January 1st. Without them they're taken from this year's aggregates.
+     */
+    public void setRollingCounts(RollingCounts rollingCounts) {
+        this.rollingCounts = rollingCounts;
+    }
+
+    /* Note: Draws the given years against each other, from the cube's slices, in place of
+     *       the infographic. The first year is the baseline changes are measured from. Null
+     *       years return to the infographic.
+     */
+    public void setComparison(YearCube yearCube, int[] years) {
+        this.yearCube = yearCube;
+        this.comparisonYears = years;
+    }
+
+
+    /*--- Draw Method ---*/
+
+    public void paint(Graphics2D graphics) {
+
+        // Setup 2D Graphics
+        graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        graphics.setColor(BACKGROUND_COLOR);
+        graphics.fillRect(0, 0, WIDTH, HEIGHT);
+
+        // Draw Comparison Instead, If Asked
+        if (yearCube != null && comparisonYears != null) {
+            drawComparison(graphics);
+            return;
+        }
+
+        // Draw Interface
+        drawTotals(graphics);
+        drawAnnualActivity(graphics, new Point(75, 190));
+        drawWeeklyActivity(graphics, new Point(90, 540));
+        drawDailyActivity(graphics, new Point(800, 665));
+        drawHourlyActivity(graphics, new Point(796, 945));
+        if (rankings != null) drawRankings(graphics, new Point(75, 1090));
+        drawRollingTrend(graphics, new Point(75, 1470));
+    }
+
+
+    /*--- Private Draw Methods ---*/
+
+    private void drawTotals(Graphics2D graphics) {
+
+        // Set Up Local Variables
+        int horizBase = 430;
+        int currentHeight = WINDOW_PADDING * 2;
+        int infoBaseHeight;
+
+        // Title
+        graphics.setColor(TEXT_COLOR_PRIMARY);
+        graphics.setFont(getFont(Font.BOLD, 19));
+        drawCenteredString(graphics, "" + getThisYear() + " Events", new Point(DisplayUtility.getWindowCenterX() - 13, currentHeight));
+        currentHeight += graphics.getFontMetrics().getHeight();
+        currentHeight += TEXT_LINE_SPACING;
+        currentHeight += 20;
+        infoBaseHeight = currentHeight;
+
+        int offset1 = -360;
+        int offset2 = -30;
+        int offset3 = 251;
+        int offset4 = 660;
+
+        // Events
+        graphics.setColor(TEXT_COLOR_SECONDARY);
+        graphics.setFont(getFont(Font.BOLD, TEXT_SIZE - 1));
+        graphics.drawString(
+                "Total: " + aggregates.getTotalCount()
+                        + "  (" + format3(aggregates.getDailyAverage())
+                        + "/d) (" + format3(aggregates.getWeeklyAverage()) + "/w)",
+                horizBase + offset1,
+                currentHeight
+        );
+        currentHeight += graphics.getFontMetrics().getHeight();
+        currentHeight += TEXT_LINE_SPACING;
+
+        // Solo Events
+        graphics.drawString(
+                "Solo: " + aggregates.getTypeCount(EventType.SOLO) + "  (" + formatP(aggregates.getTypePercent(EventType.SOLO)) + "%)",
+                horizBase + offset1,
+                currentHeight
+        );
+        currentHeight += graphics.getFontMetrics().getHeight();
+        currentHeight += TEXT_LINE_SPACING;
+
+        // Unique Performers
+        if (distinctCounts != null) {
+            graphics.drawString(getDistinctSummary("Performers", DistinctCounts.Category.PERFORMERS), horizBase + offset1, currentHeight);
+        }
+        currentHeight = infoBaseHeight;
+
+        // Shared Events
+        graphics.drawString(
+                "Shared: " + aggregates.getTypeCount(EventType.SHARED) + "  (" + formatP(aggregates.getTypePercent(EventType.SHARED)) + "%)",
+                horizBase + offset2,
+                currentHeight
+        );
+        currentHeight += graphics.getFontMetrics().getHeight();
+        currentHeight += TEXT_LINE_SPACING;
+
+        // Virtual Events
+        graphics.drawString(
+                "Virtual: " + aggregates.getTypeCount(EventType.VIRTUAL) + "  (" + formatP(aggregates.getTypePercent(EventType.VIRTUAL)) + "%)",
+                horizBase + offset2,
+                currentHeight
+        );
+        currentHeight += graphics.getFontMetrics().getHeight();
+        currentHeight += TEXT_LINE_SPACING;
+
+        // Unique Sites
+        if (distinctCounts != null) {
+            graphics.drawString(getDistinctSummary("Sites", DistinctCounts.Category.SITES), horizBase + offset2, currentHeight);
+        }
+        currentHeight = infoBaseHeight;
+
+        // Top Day
+        graphics.setColor(TEXT_COLOR_SECONDARY);
+        graphics.drawString(
+                "Top Day: " + getPeakDay(),
+                horizBase + offset3,
+                currentHeight
+        );
+        currentHeight += graphics.getFontMetrics().getHeight();
+        currentHeight += TEXT_LINE_SPACING;
+
+        // Top Week
+        graphics.setColor(TEXT_COLOR_SECONDARY);
+        graphics.drawString(
+                "Top Week: " + getPeakWeek(),
+                horizBase + offset3,
+                currentHeight
+        );
+        currentHeight += graphics.getFontMetrics().getHeight();
+        currentHeight += TEXT_LINE_SPACING;
+
+        // Rolling Averages
+        graphics.drawString(
+                "Rolling: " + getRollingSummary(),
+                horizBase + offset3,
+                currentHeight
+        );
+        currentHeight = infoBaseHeight;
+
+        // Longest Gap
+        graphics.setColor(TEXT_COLOR_SECONDARY);
+        graphics.drawString(
+                "Longest Gap: " + getLongestGap(),
+                horizBase + offset4,
+                currentHeight
+        );
+        currentHeight += graphics.getFontMetrics().getHeight();
+        currentHeight += TEXT_LINE_SPACING;
+
+        // Shortest Gap
+        graphics.setColor(TEXT_COLOR_SECONDARY);
+        graphics.drawString(
+                "Shortest Gap: " + getShortestGap(),
+                horizBase + offset4,
+                currentHeight
+        );
+    }
+
+    /* Note: Method draws a GitHub-like grid of squares, color coded to indicate
+     *       the number of events that took place on each day of the year.
+     */
+    private void drawAnnualActivity(Graphics2D graphics, Point location) {
+
+        // Local Variables
+        int rows = 6;                                      // Days of the Week (0-6)
+        int currentRow = getFirstOfYearAsWeekdayInteger();
+        int currentColumn = 0;                             // First Week
+        int daysInYear = getDaysInThisYear();
+        Date currentDay = getDateFromString("01.01." + getThisYear());
+        int currentMonth = currentDay.getMonth();
+        AnomalyDetector.Kind[] dayAnomalies = getDayAnomalies();
+
+        // Draw Calendar
+        for (int x = 0; x < daysInYear; x++) {
+
+            // Calculate Day Color
+            int eventsForDay = aggregates.getDayCount(x);
+            Color dayColor = getDailyColorFromNumberEvents(eventsForDay);
+
+            // Draw Box
+            Point boxLocation = new Point(
+                    location.x + (currentColumn * (DAY_GRID_BOX_SIZE + DAY_GRID_BOX_SPACING)),
+                    location.y + (currentRow * (DAY_GRID_BOX_SIZE + DAY_GRID_BOX_SPACING))
+            );
+            boolean monthChange = false;
+            if (currentDay.getMonth() != currentMonth || areDatesEqual(currentDay, new Date("01/01/"+getThisYear()))) {
+                currentMonth = currentDay.getMonth();
+                monthChange = true;
+            }
+            boolean sharedEvent = aggregates.getDayTypeCount(EventType.SHARED, x) > 0;
+            boolean virtualEvent = aggregates.getDayTypeCount(EventType.VIRTUAL, x) > 0;
+            drawDayGridBox(graphics, boxLocation, dayColor, monthChange, sharedEvent, virtualEvent);
+            if (dayAnomalies[x] != null) drawAnomalyOutline(graphics, boxLocation, dayAnomalies[x]);
+            if (hitIndex != null) {
+                recordHit(
+                        new Rectangle(boxLocation.x, boxLocation.y, DAY_GRID_BOX_SIZE, DAY_GRID_BOX_SIZE),
+                        BucketIndex.Family.DAY,
+                        x,
+                        DAY_LABEL_FORMAT.format(currentDay) + (dayAnomalies[x] == null ? "" : " (" + getAnomalyLabel(dayAnomalies[x]) + ")")
+                );
+            }
+
+            // Update Variables
+            currentDay = getDateOneDayLater(currentDay);
+            if (currentRow < rows) {
+                currentRow++;
+            } else {
+                currentRow = 0;
+                currentColumn++;
+            }
+        }
+
+        // Draw Axes
+        graphics.setColor(AXIS_COLOR);
+        graphics.setStroke(new BasicStroke(AXIS_SIZE));
+//        graphics.drawLine(
+//                location.x - AXIS_PADDING,
+//                location.y,
+//                location.x - AXIS_PADDING,
+//                location.y + (7 * DAY_GRID_BOX_SIZE) + (6 * DAY_GRID_BOX_SPACING)
+//        );
+//        graphics.drawLine(
+//                location.x + (53 * DAY_GRID_BOX_SIZE) + (52 * DAY_GRID_BOX_SPACING) + (AXIS_PADDING),
+//                location.y,
+//                location.x + (53 * DAY_GRID_BOX_SIZE) + (52 * DAY_GRID_BOX_SPACING) + (AXIS_PADDING),
+//                location.y + (7 * DAY_GRID_BOX_SIZE) + (6 * DAY_GRID_BOX_SPACING)
+//        );
+        graphics.drawRoundRect(
+                location.x - AXIS_PADDING,
+                location.y - AXIS_PADDING,
+                (53 * DAY_GRID_BOX_SIZE) + (52 * DAY_GRID_BOX_SPACING) + (2 * AXIS_PADDING),
+                (7 * DAY_GRID_BOX_SIZE) + (6 * DAY_GRID_BOX_SPACING) + (2 * AXIS_PADDING),
+                0,
+                0
+        );
+
+        // Draw Labels
+        graphics.setColor(TEXT_COLOR_SECONDARY);
+        graphics.setFont(getFont(Font.BOLD, 15));
+        int horizBase = location.x - (3 * AXIS_PADDING);
+        int vertBase = location.y + (DAY_GRID_BOX_SIZE / 2) - (DAY_GRID_BOX_SPACING / 2) - 1;
+        String[] days = {"M", "T", "W", "T", "F", "S", "S"};
+        for (int x = 0; x < 7; x++)
+            drawCenteredString(graphics, days[x],
+                    new Point(horizBase, vertBase + (x * (DAY_GRID_BOX_SIZE + DAY_GRID_BOX_SPACING))));
+        graphics.setColor(TEXT_COLOR_SECONDARY);
+        graphics.setFont(getFont(Font.BOLD, 16));
+        horizBase = location.x + (2 * (DAY_GRID_BOX_SIZE + DAY_GRID_BOX_SPACING)) + 1;
+        vertBase = location.y + (7 * DAY_GRID_BOX_SIZE) + (6 * DAY_GRID_BOX_SPACING) + (3 * AXIS_PADDING);
+        int horizOffset = 110;
+        String[] months = {"Jan", "Feb", "Mar", "Apr", "May", "Jun", "Jul", "Aug", "Sep", "Oct", "Nov", "Dec"};
+        for (int x = 0; x < 12; x++)
+            drawCenteredString(graphics, months[x], new Point(horizBase + (x * horizOffset), vertBase));
+
+
+        // Draw Color Key
+        graphics.setFont(getFont(Font.BOLD | Font.ITALIC, 16));
+        horizBase = location.x + (53 * DAY_GRID_BOX_SIZE) + (52 * DAY_GRID_BOX_SPACING) + (2 * AXIS_PADDING);
+        vertBase = location.y;
+        for (int x = 0; x < 8; x++) {
+            if (x < 6) {
+                Color dayColor = getDailyColorFromNumberEvents(x);
+                Point boxLocation = new Point(horizBase, vertBase + (x * (DAY_GRID_BOX_SIZE + DAY_GRID_BOX_SPACING)));
+                drawDayGridBox(graphics, boxLocation, dayColor, false, false, false);
+                if (x < 4) graphics.setColor(THEME_COLORS[6]);
+                else graphics.setColor(BACKGROUND_COLOR);
+                drawCenteredString(graphics, "" + x, new Point(boxLocation.x + (DAY_GRID_BOX_SIZE / 2) - 1, boxLocation.y + (DAY_GRID_BOX_SIZE / 2) - 1));
+            } else if (x == 7) {
+                Color dayColor = getDailyColorFromNumberEvents(x);
+                Point boxLocation = new Point(horizBase, vertBase + ((x - 1) * (DAY_GRID_BOX_SIZE + DAY_GRID_BOX_SPACING)));
+                drawDayGridBox(graphics, boxLocation, dayColor, false, false, false);
+                graphics.setColor(BACKGROUND_COLOR);
+                drawCenteredString(graphics, "" + x, new Point(boxLocation.x + (DAY_GRID_BOX_SIZE / 2) - 1, boxLocation.y + (DAY_GRID_BOX_SIZE / 2) - 1));
+            }
+        }
+
+        // Draw Icon Key
+        Point boxLocation = new Point(location.x + 500, location.y + 230);
+        int textLocationX;
+        int spaceAfterText = 20;
+        String[] labels = {"New Month", "Shared", "Virtual", "Burst", "Drought"};
+        for (int x = 0; x < labels.length; x++) {
+            boolean isFirst = x == 0;
+            drawDayGridBox(graphics, boxLocation, isFirst ? TEXT_COLOR_SECONDARY : BACKGROUND_COLOR, x == 0, x == 1, x == 2);
+            if (x == 3) drawAnomalyOutline(graphics, boxLocation, AnomalyDetector.Kind.BURST);
+            if (x == 4) drawAnomalyOutline(graphics, boxLocation, AnomalyDetector.Kind.DROUGHT);
+            graphics.setColor(TEXT_COLOR_SECONDARY);
+            textLocationX = boxLocation.x + DAY_GRID_BOX_SIZE + (getTextWidth(graphics, labels[x]) / 2) + (isFirst || x > 2 ? 10 : 2);
+            drawCenteredString(graphics, labels[x], new Point(textLocationX, boxLocation.y + (DAY_GRID_BOX_SIZE / 2) - 1));
+            boxLocation = new Point(textLocationX + (getTextWidth(graphics, labels[x]) / 2) + spaceAfterText, boxLocation.y);
+        }
+
+        // Draw Title
+        graphics.setColor(THEME_COLORS[6]);
+        graphics.setFont(getFont(Font.BOLD, 17));
+        drawCenteredString(graphics, "Annual Activity", new Point(
+                location.x + ((53 * (DAY_GRID_BOX_SIZE + DAY_GRID_BOX_SPACING)) / 2),
+                location.y - 35
+        ));
+    }
+
+    private void drawWeeklyActivity(Graphics2D graphics, Point start) {
+        drawWeeklyGraph(graphics, EventType.SOLO, new Point(start.x, start.y), "Solo", true);
+        drawWeeklyGraph(graphics, EventType.SHARED, new Point(start.x + 200, start.y), "Shared", false);
+        drawWeeklyGraph(graphics, EventType.VIRTUAL, new Point(start.x + 400, start.y), "Virtual", false);
+        graphics.setColor(THEME_COLORS[6]);
+        graphics.setFont(getFont(Font.BOLD, 17));
+        drawCenteredString(graphics, "Weekly Activity", new Point(start.x + 283, start.y - 35));
+    }
+
+    private void drawRankings(Graphics2D graphics, Point start) {
+        Rankings.Category[] categories = Rankings.Category.values();
+        for (int x = 0; x < categories.length; x++) {
+            drawRankingGraph(graphics, rankings.get(categories[x]), new Point(start.x + (x * 340), start.y), categories[x].title);
+        }
+        graphics.setColor(THEME_COLORS[6]);
+        graphics.setFont(getFont(Font.BOLD, 17));
+        drawCenteredString(graphics, "Top " + RANKED_VALUES, new Point(start.x + 650, start.y - 35));
+    }
+
+    /* Note: Method draws the 7, 30 & 90 day rolling averages for each day of the year as
+     *       lines. Every point is a constant-time lookup into the running totals.
+     */
+    private void drawRollingTrend(Graphics2D graphics, Point location) {
+
+        // Local Variables
+        int GRAPH_WIDTH = 1300;
+        int GRAPH_HEIGHT = 130;
+        int daysInYear = getDaysInThisYear();
+        int[] windows = RollingCounts.STANDARD_WINDOWS;
+        Color[] lineColors = {THEME_COLORS[3], THEME_COLORS[5], THEME_COLORS[6]};
+        float[] lineWidths = {1.2f, 2f, 2.5f};
+        RollingCounts counts = getRollingCounts();
+        LocalDate firstDay = LocalDate.of(getThisYear(), 1, 1);
+
+        // Look Up Averages & Scale
+        double[][] averages = new double[windows.length][daysInYear];
+        double maxAverage = 0;
+        for (int w = 0; w < windows.length; w++) {
+            for (int x = 0; x < daysInYear; x++) {
+                averages[w][x] = counts.average(null, firstDay.plusDays(x), windows[w]);
+                maxAverage = Math.max(maxAverage, averages[w][x]);
+            }
+        }
+        double scale = Math.max(1, Math.ceil(maxAverage));
+
+        // Draw Background & Guides
+        graphics.setColor(THEME_COLORS[0]);
+        graphics.fillRoundRect(location.x, location.y, GRAPH_WIDTH, GRAPH_HEIGHT, CORNER_RADIUS, CORNER_RADIUS);
+        graphics.setFont(getFont(Font.BOLD, 13));
+        graphics.setStroke(new BasicStroke(1f));
+        for (int x = 0; x <= 2; x++) {
+            int guideY = location.y + GRAPH_HEIGHT - (x * GRAPH_HEIGHT / 2);
+            graphics.setColor(AXIS_COLOR);
+            if (x == 1) graphics.drawLine(location.x, guideY, location.x + GRAPH_WIDTH, guideY);
+            graphics.setColor(TEXT_COLOR_SECONDARY);
+            drawCenteredString(graphics, DECIMAL_FORMAT_P.format(scale * x / 2), new Point(location.x - (3 * AXIS_PADDING), guideY));
+        }
+
+        // Draw Lines (Longest Window On Top)
+        for (int w = 0; w < windows.length; w++) {
+            graphics.setColor(lineColors[w]);
+            graphics.setStroke(new BasicStroke(lineWidths[w], BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+            int[] pointsX = new int[daysInYear];
+            int[] pointsY = new int[daysInYear];
+            for (int x = 0; x < daysInYear; x++) {
+                pointsX[x] = location.x + (int) ((x + 0.5) * GRAPH_WIDTH / daysInYear);
+                pointsY[x] = location.y + GRAPH_HEIGHT - (int) (averages[w][x] / scale * GRAPH_HEIGHT);
+            }
+            graphics.drawPolyline(pointsX, pointsY, daysInYear);
+        }
+
+        // Draw Axis
+        graphics.setColor(AXIS_COLOR);
+        graphics.setStroke(new BasicStroke(AXIS_SIZE));
+        int axisY = location.y + GRAPH_HEIGHT + AXIS_PADDING;
+        graphics.drawLine(location.x, axisY, location.x + GRAPH_WIDTH, axisY);
+        graphics.setFont(getFont(Font.BOLD, 16));
+        String[] months = {"Jan", "Feb", "Mar", "Apr", "May", "Jun", "Jul", "Aug", "Sep", "Oct", "Nov", "Dec"};
+        for (int x = 0; x < 12; x++) {
+            int monthX = location.x + (int) ((firstDay.withMonth(x + 1).getDayOfYear() - 1) * (double) GRAPH_WIDTH / daysInYear);
+            graphics.setColor(AXIS_COLOR);
+            drawLine(graphics, new Point(monthX, axisY), new Point(monthX, axisY + AXIS_TICK));
+            graphics.setColor(TEXT_COLOR_SECONDARY);
+            drawCenteredString(graphics, months[x], new Point(monthX + (GRAPH_WIDTH / 24), axisY + (2 * AXIS_PADDING)));
+        }
+
+        // Draw Key
+        graphics.setFont(getFont(Font.BOLD | Font.ITALIC, 16));
+        int keyX = location.x + GRAPH_WIDTH - 330;
+        int keyY = location.y - 15;
+        for (int w = 0; w < windows.length; w++) {
+            graphics.setColor(lineColors[w]);
+            graphics.setStroke(new BasicStroke(lineWidths[w] + 1, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+            drawLine(graphics, new Point(keyX, keyY), new Point(keyX + 20, keyY));
+            graphics.setColor(TEXT_COLOR_SECONDARY);
+            String label = windows[w] + "-Day";
+            drawCenteredString(graphics, label, new Point(keyX + 28 + (getTextWidth(graphics, label) / 2), keyY));
+            keyX += 110;
+        }
+
+        // Draw Title
+        graphics.setColor(THEME_COLORS[6]);
+        graphics.setFont(getFont(Font.BOLD, 17));
+        drawCenteredString(graphics, "Rolling Average (Events / Day)", new Point(location.x + 650, location.y - 35));
+    }
+
+    private void drawComparison(Graphics2D graphics) {
+
+        // Local Variables
+        int[] years = comparisonYears;
+        YearCube.Slice[] slices = new YearCube.Slice[years.length];
+        for (int y = 0; y < years.length; y++) slices[y] = yearCube.getSlice(years[y]);
+
+        // Draw Title
+        graphics.setColor(TEXT_COLOR_PRIMARY);
+        graphics.setFont(getFont(Font.BOLD, 19));
+        drawCenteredString(graphics, "Year Over Year", new Point(WIDTH / 2, WINDOW_PADDING * 3));
+
+        // Draw Key
+        graphics.setFont(getFont(Font.BOLD | Font.ITALIC, 16));
+        String[] keyLabels = new String[years.length];
+        int keyWidth = 0;
+        for (int y = 0; y < years.length; y++) {
+            int total = slices[y] == null ? 0 : slices[y].getTotal(null);
+            keyLabels[y] = years[y] + " (" + total + (total == 1 ? " Event)" : " Events)");
+            keyWidth += 28 + getTextWidth(graphics, keyLabels[y]) + 40;
+        }
+        int keyX = (WIDTH - keyWidth) / 2;
+        int keyY = WINDOW_PADDING * 6;
+        for (int y = 0; y < years.length; y++) {
+            graphics.setColor(getYearColor(y));
+            graphics.setStroke(new BasicStroke(3.5f, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+            drawLine(graphics, new Point(keyX, keyY), new Point(keyX + 20, keyY));
+            graphics.setColor(TEXT_COLOR_SECONDARY);
+            drawCenteredString(graphics, keyLabels[y], new Point(keyX + 28 + (getTextWidth(graphics, keyLabels[y]) / 2), keyY));
+            keyX += 28 + getTextWidth(graphics, keyLabels[y]) + 40;
+        }
+
+        // Bucket Labels
+        String[] hourLabels = new String[24];
+        for (int x = 0; x < 24; x += 3) hourLabels[x] = getHourLabel(x);
+        String[] weekLabels = new String[YearCube.WEEKS];
+        String[] months = {"Jan", "Feb", "Mar", "Apr", "May", "Jun", "Jul", "Aug", "Sep", "Oct", "Nov", "Dec"};
+        for (int x = 0; x < 12; x++) weekLabels[(LocalDate.of(years[0], x + 1, 1).getDayOfYear() - 1) / 7] = months[x];
+
+        // Draw Sections
+        drawComparisonSection(graphics, slices, "Hour Of Day", 24, (slice, x) -> slice.getHourCount(null, x),
+                hourLabels, new Point(75, 180));
+        drawComparisonSection(graphics, slices, "Day Of Week", 7, (slice, x) -> slice.getWeekdayCount(null, x),
+                WEEKDAY_NAMES, new Point(75, 680));
+        drawComparisonSection(graphics, slices, "Week Of Year", YearCube.WEEKS, (slice, x) -> slice.getWeekCount(null, x),
+                weekLabels, new Point(75, 1180));
+    }
+
+    /* Note: Method overlays each year's share of its own events per bucket, so years of
+     *       different sizes compare by shape, then charts each later year's change in
+     *       events from the first year, bucket by bucket.
+     */
+    private void drawComparisonSection(Graphics2D graphics, YearCube.Slice[] slices, String title, int buckets,
+                                       java.util.function.ToIntBiFunction<YearCube.Slice, Integer> counter,
+                                       String[] labels, Point location) {
+
+        // Local Variables
+        int GRAPH_WIDTH = 1300;
+        int OVERLAY_HEIGHT = 230;
+        int CHANGE_HEIGHT = 100;
+        int CHANGE_OFFSET = 320;
+        double bucketWidth = GRAPH_WIDTH / (double) buckets;
+
+        // Look Up Shares & Changes
+        int[][] counts = new int[slices.length][buckets];
+        double[][] shares = new double[slices.length][buckets];
+        double maxShare = 0;
+        int maxChange = 1;
+        for (int y = 0; y < slices.length; y++) {
+            int total = slices[y] == null ? 0 : slices[y].getTotal(null);
+            for (int x = 0; x < buckets; x++) {
+                counts[y][x] = slices[y] == null ? 0 : counter.applyAsInt(slices[y], x);
+                shares[y][x] = total == 0 ? 0 : counts[y][x] / (double) total;
+                maxShare = Math.max(maxShare, shares[y][x]);
+                maxChange = Math.max(maxChange, Math.abs(counts[y][x] - counts[0][x]));
+            }
+        }
+        double scale = Math.max(0.01, Math.ceil(maxShare * 100) / 100);
+
+        // Draw Overlay Background & Guides
+        graphics.setColor(THEME_COLORS[0]);
+        graphics.fillRoundRect(location.x, location.y, GRAPH_WIDTH, OVERLAY_HEIGHT, CORNER_RADIUS, CORNER_RADIUS);
+        graphics.setFont(getFont(Font.BOLD, 13));
+        graphics.setStroke(new BasicStroke(1f));
+        for (int x = 0; x <= 2; x++) {
+            int guideY = location.y + OVERLAY_HEIGHT - (x * OVERLAY_HEIGHT / 2);
+            graphics.setColor(AXIS_COLOR);
+            if (x == 1) graphics.drawLine(location.x, guideY, location.x + GRAPH_WIDTH, guideY);
+            graphics.setColor(TEXT_COLOR_SECONDARY);
+            drawCenteredString(graphics, formatP(scale * x / 2) + "%", new Point(location.x - (4 * AXIS_PADDING), guideY));
+        }
+
+        // Draw Overlay Lines (Latest Year On Top)
+        for (int y = 0; y < slices.length; y++) {
+            graphics.setColor(getYearColor(y));
+            graphics.setStroke(new BasicStroke(2.5f, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+            int[] pointsX = new int[buckets];
+            int[] pointsY = new int[buckets];
+            for (int x = 0; x < buckets; x++) {
+                pointsX[x] = location.x + (int) ((x + 0.5) * bucketWidth);
+                pointsY[x] = location.y + OVERLAY_HEIGHT - (int) (shares[y][x] / scale * OVERLAY_HEIGHT);
+            }
+            graphics.drawPolyline(pointsX, pointsY, buckets);
+            if (buckets <= 24) {
+                for (int x = 0; x < buckets; x++) drawSmallPoint(graphics, new Point(pointsX[x], pointsY[x]));
+            }
+        }
+
+        // Draw Axis
+        graphics.setColor(AXIS_COLOR);
+        graphics.setStroke(new BasicStroke(AXIS_SIZE));
+        int axisY = location.y + OVERLAY_HEIGHT + AXIS_PADDING;
+        graphics.drawLine(location.x, axisY, location.x + GRAPH_WIDTH, axisY);
+        graphics.setFont(getFont(Font.BOLD, 16));
+        for (int x = 0; x < buckets; x++) {
+            if (labels[x] == null) continue;
+            int labelX = location.x + (int) ((x + 0.5) * bucketWidth);
+            graphics.setColor(AXIS_COLOR);
+            drawLine(graphics, new Point(labelX, axisY), new Point(labelX, axisY + AXIS_TICK));
+            graphics.setColor(TEXT_COLOR_SECONDARY);
+            drawCenteredString(graphics, labels[x], new Point(labelX, axisY + (2 * AXIS_PADDING)));
+        }
+
+        // Draw Change Background & Guides
+        int changeTop = location.y + CHANGE_OFFSET;
+        int zeroY = changeTop + (CHANGE_HEIGHT / 2);
+        graphics.setColor(THEME_COLORS[0]);
+        graphics.fillRoundRect(location.x, changeTop, GRAPH_WIDTH, CHANGE_HEIGHT, CORNER_RADIUS, CORNER_RADIUS);
+        graphics.setColor(AXIS_COLOR);
+        graphics.setStroke(new BasicStroke(1f));
+        graphics.drawLine(location.x, zeroY, location.x + GRAPH_WIDTH, zeroY);
+        graphics.setFont(getFont(Font.BOLD, 13));
+        graphics.setColor(TEXT_COLOR_SECONDARY);
+        drawCenteredString(graphics, "+" + maxChange, new Point(location.x - (4 * AXIS_PADDING), changeTop));
+        drawCenteredString(graphics, "0", new Point(location.x - (4 * AXIS_PADDING), zeroY));
+        drawCenteredString(graphics, "-" + maxChange, new Point(location.x - (4 * AXIS_PADDING), changeTop + CHANGE_HEIGHT));
+
+        // Draw Change Bars, One Per Later Year Within Each Bucket
+        double barWidth = bucketWidth * 0.8 / Math.max(1, slices.length - 1);
+        for (int y = 1; y < slices.length; y++) {
+            graphics.setColor(getYearColor(y));
+            for (int x = 0; x < buckets; x++) {
+                int change = counts[y][x] - counts[0][x];
+                int height = (int) Math.round(Math.abs(change) / (double) maxChange * (CHANGE_HEIGHT / 2));
+                int barX = location.x + (int) ((x + 0.1) * bucketWidth + (y - 1) * barWidth);
+                graphics.fillRect(barX, change > 0 ? zeroY - height : zeroY, Math.max(1, (int) barWidth - 1), height);
+            }
+        }
+
+        // Draw Titles
+        graphics.setColor(THEME_COLORS[6]);
+        graphics.setFont(getFont(Font.BOLD, 17));
+        drawCenteredString(graphics, title + " (Share Of Each Year's Events)", new Point(location.x + 650, location.y - 25));
+        drawCenteredString(graphics, "Change From " + comparisonYears[0] + " (Events)", new Point(location.x + 650, changeTop - 20));
+    }
+
+    private Color getYearColor(int index) {
+        return YEAR_COLORS[index % YEAR_COLORS.length];
+    }
+
+    /* Note: Method draws a ranked bar per value, longest first. Estimated counts, once
+     *       the rankings are past exact counting, are marked with a tilde.
+     */
+    private void drawRankingGraph(Graphics2D graphics, HeavyHitters sketch, Point location, String title) {
+
+        // Local Variables
+        int NAME_WIDTH = 100;
+        int BAR_MAX_WIDTH = 150;
+        int BAR_HEIGHT = 11;
+        int BAR_SPACE = 3;
+        java.util.List<HeavyHitters.Entry> entries = sketch.top(RANKED_VALUES);
+        long maxCount = entries.isEmpty() ? 1 : entries.get(0).count;
+        String prefix = sketch.isExact() ? "" : "~";
+
+        // Draw Bars
+        graphics.setFont(getFont(Font.PLAIN, 12));
+        for (int x = 0; x < RANKED_VALUES; x++) {
+            int top = location.y + (x * (BAR_HEIGHT + BAR_SPACE));
+            graphics.setColor(THEME_COLORS[0]);
+            graphics.fillRoundRect(location.x + NAME_WIDTH, top, BAR_MAX_WIDTH, BAR_HEIGHT, CORNER_RADIUS, CORNER_RADIUS);
+            if (x >= entries.size()) continue;
+
+            HeavyHitters.Entry entry = entries.get(x);
+            double percent = entry.count / (double) maxCount;
+            graphics.setColor(getGradientColor(percent));
+            graphics.fillRoundRect(location.x + NAME_WIDTH, top, Math.max(CORNER_RADIUS, (int) (percent * BAR_MAX_WIDTH)),
+                    BAR_HEIGHT, CORNER_RADIUS, CORNER_RADIUS);
+
+            graphics.setColor(TEXT_COLOR_SECONDARY);
+            graphics.drawString(fitText(graphics, entry.value, NAME_WIDTH - 8), location.x, top + BAR_HEIGHT - 1);
+            graphics.setColor(THEME_COLORS[6]);
+            graphics.drawString(prefix + entry.count, location.x + NAME_WIDTH + BAR_MAX_WIDTH + 6, top + BAR_HEIGHT - 1);
+        }
+
+        // Draw Graph Label
+        graphics.setColor(TEXT_COLOR_SECONDARY);
+        graphics.setFont(getFont(Font.BOLD | Font.ITALIC, 16));
+        drawCenteredString(graphics, title, new Point(
+                location.x + NAME_WIDTH + (BAR_MAX_WIDTH / 2),
+                location.y + (RANKED_VALUES * (BAR_HEIGHT + BAR_SPACE)) + 15
+        ));
+    }
+
+    /* Note: Method draws a grid of rectangles, color coded to indicate
+     *       the number of events that took place on each hour of the week.
+     */
+    private void drawWeeklyGraph(Graphics2D graphics, EventType type, Point location, String title, boolean showTimes) {
+
+        // Local Variables
+        int HOUR_WIDTH = 23;
+        int HOUR_HEIGHT = 10;
+        int HOUR_SPACE = 1;
+        int hours = 23;
+        int currentNumericHour = 0;
+        int currentDay = 0;
+
+        // Determine Maximum Event Hour
+        int maxEvents = 0;
+        for (int day = 0; day < 7; day++) {
+            for (int row = 0; row < 24; row++) {
+                maxEvents = Math.max(maxEvents, getWeeklyGridCount(type, day, row));
+            }
+        }
+
+        // Draw Grid
+        for (int x = 0; x < (24 * 7); x++) {
+
+            // Prepare To Draw Box
+            double colorPercent = maxEvents == 0 ? 0 : getWeeklyGridCount(type, currentDay, currentNumericHour) / (double) maxEvents;
+            Color color = getHourlyEventBoxColor(colorPercent);
+
+            // Draw Box
+            graphics.setColor(color);
+            graphics.fillRect(
+                    location.x + (currentDay * (HOUR_WIDTH + HOUR_SPACE)),
+                    location.y + (currentNumericHour * (HOUR_HEIGHT + HOUR_SPACE)),
+                    HOUR_WIDTH,
+                    HOUR_HEIGHT
+            );
+            if (hitIndex != null) {
+                int day = currentNumericHour < 23 ? currentDay : (currentDay + 1) % 7;
+                int hour = (currentNumericHour + 1) % 24;
+                recordHit(
+                        new Rectangle(
+                                location.x + (currentDay * (HOUR_WIDTH + HOUR_SPACE)),
+                                location.y + (currentNumericHour * (HOUR_HEIGHT + HOUR_SPACE)),
+                                HOUR_WIDTH,
+                                HOUR_HEIGHT
+                        ),
+                        BucketIndex.Family.WEEK_HOUR,
+                        BucketIndex.getWeekHourBucket(type, day, hour),
+                        title + " - " + WEEKDAY_NAMES[day] + "s, " + getHourLabel(hour)
+                );
+            }
+
+            // Advance State Variables
+            if (currentNumericHour == hours) {
+                currentDay++;
+                currentNumericHour = 0;
+            } else {
+                currentNumericHour++;
+            }
+        }
+
+        // Draw Axes
+        graphics.setColor(AXIS_COLOR);
+        graphics.setStroke(new BasicStroke(AXIS_SIZE));
+        graphics.drawLine(
+                location.x - AXIS_PADDING,
+                location.y,
+                location.x - AXIS_PADDING,
+                location.y + (24 * HOUR_HEIGHT) + (23 * HOUR_SPACE) + AXIS_PADDING
+        );
+        graphics.drawLine(
+                location.x - AXIS_PADDING,
+                location.y + (24 * HOUR_HEIGHT) + (23 * HOUR_SPACE) + AXIS_PADDING,
+                location.x + (7 * HOUR_WIDTH) + (6 * HOUR_SPACE),
+                location.y + (24 * HOUR_HEIGHT) + (23 * HOUR_SPACE) + AXIS_PADDING
+        );
+        for (int x = 0; x < 4; x++) {
+            int baseHeight = location.y + (5 * (HOUR_HEIGHT + HOUR_SPACE)) + (HOUR_HEIGHT / 2);
+            graphics.drawLine(
+                    location.x - AXIS_PADDING,
+                    baseHeight + (x * 6 * (HOUR_HEIGHT + HOUR_SPACE)),
+                    location.x - AXIS_PADDING - AXIS_TICK,
+                    baseHeight + (x * 6 * (HOUR_HEIGHT + HOUR_SPACE))
+            );
+        }
+
+        // Draw Day Labels
+        graphics.setColor(TEXT_COLOR_SECONDARY);
+        graphics.setFont(getFont(Font.BOLD, 15));
+        int horizBase = location.x + 12;
+        int vertBase = location.y + (24 * HOUR_HEIGHT) + (23 * HOUR_SPACE) + (3 * AXIS_PADDING);
+        String[] days = {"M", "T", "W", "T", "F", "S", "S"};
+        for (int x = 0; x < 7; x++)
+            drawCenteredString(graphics, days[x],
+                    new Point(horizBase + (x * (HOUR_WIDTH + HOUR_SPACE)), vertBase));
+
+        // Draw Time Labels
+        if (showTimes) {
+            graphics.setColor(TEXT_COLOR_SECONDARY);
+            graphics.setFont(getFont(Font.BOLD, 15));
+            horizBase = location.x - 35;
+            vertBase = location.y + (5 * (HOUR_HEIGHT + HOUR_SPACE)) + 2;
+            String[] times = {"6am", "12pm", "6pm", "12am"};
+            for (int x = 0; x < times.length; x++)
+                drawCenteredString(graphics, times[x],
+                        new Point(horizBase, vertBase + (x * 6 * (HOUR_HEIGHT + HOUR_SPACE)))
+                );
+        }
+
+        // Draw Title
+        graphics.setColor(TEXT_COLOR_SECONDARY);
+        graphics.setFont(getFont(Font.BOLD | Font.ITALIC, 16));
+        drawCenteredString(graphics, title, new Point(
+                (int) (location.x + (3.5 * (HOUR_WIDTH + HOUR_SPACE))),
+                location.y + (24 * (HOUR_HEIGHT + HOUR_SPACE)) + 47
+        ));
+
+    }
+
+    private void drawDailyActivity(Graphics2D graphics, Point start) {
+        drawDailyGraph(graphics, "Solo", new Point(start.x, start.y), EventType.SOLO);
+        drawDailyGraph(graphics, "Shared", new Point(start.x + 200, start.y), EventType.SHARED);
+        drawDailyGraph(graphics, "Virtual", new Point(start.x + 400, start.y), EventType.VIRTUAL);
+        graphics.setColor(THEME_COLORS[6]);
+        graphics.setFont(getFont(Font.BOLD, 17));
+        drawCenteredString(graphics, "Daily Activity", new Point(start.x + 283, start.y - 160));
+    }
+
+    /* Note: Method draws a bar graph, color coded to indicate how many
+     *       events of each type took place on each day of the week.
+     */
+    private void drawDailyGraph(Graphics2D graphics, String title, Point location, EventType type) {
+
+        // Local Variables
+        int DAY_WIDTH = 21;
+        int DAY_MAX_HEIGHT = 125;
+        int DAY_SPACE = 3;
+        int DAYS = 7;
+
+        // Determine Maximum & Minimum Occurrences
+        int maxOccurrences = 0;
+        int minOccurrences = Integer.MAX_VALUE;
+        for (int x = 0; x < DAYS; x++) {
+            maxOccurrences = Math.max(maxOccurrences, aggregates.getWeekdayCount(type, x));
+            minOccurrences = Math.min(minOccurrences, aggregates.getWeekdayCount(type, x));
+        }
+
+        // Draw Graph
+        for (int x = 0; x < DAYS; x++) {
+
+            // Find Day's Occurrences (Monday First)
+            int dailyEvents = aggregates.getWeekdayCount(type, x);
+            recordHit(
+                    new Rectangle(location.x + (x * (DAY_WIDTH + DAY_SPACE)), location.y - DAY_MAX_HEIGHT, DAY_WIDTH, DAY_MAX_HEIGHT),
+                    BucketIndex.Family.WEEKDAY,
+                    BucketIndex.getWeekdayBucket(type, x),
+                    title + " - " + WEEKDAY_NAMES[x] + "s"
+            );
+
+            // Draw Background
+            graphics.setColor(THEME_COLORS[0]);
+            graphics.fillRoundRect(
+                    location.x + (x * (DAY_WIDTH + DAY_SPACE)),
+                    location.y - DAY_MAX_HEIGHT,
+                    DAY_WIDTH,
+                    DAY_MAX_HEIGHT,
+                    CORNER_RADIUS,
+                    CORNER_RADIUS
+            );
+
+            // Draw Bar
+            double share = maxOccurrences == 0 ? 0 : dailyEvents / (double) maxOccurrences;
+            int barHeight = (int) (share * DAY_MAX_HEIGHT);
+            int spread = maxOccurrences - minOccurrences;
+            graphics.setColor(getBoostedGradientColor(spread == 0 ? 0 : (dailyEvents - minOccurrences) / (double) spread));
+            graphics.fillRoundRect(
+                    location.x + (x * (DAY_WIDTH + DAY_SPACE)),
+                    location.y - barHeight,
+                    DAY_WIDTH,
+                    barHeight,
+                    CORNER_RADIUS,
+                    CORNER_RADIUS
+            );
+
+            // Draw Count
+            if (barHeight == 0) {
+                graphics.setColor(BACKGROUND_COLOR);
+            } else if (share > .4) {
+                graphics.setColor(BACKGROUND_COLOR);
+            } else {
+                graphics.setColor(THEME_COLORS[6]);
+            }
+            graphics.setFont(getFont(Font.PLAIN, 15));
+            drawCenteredString(graphics, "" + dailyEvents, new Point(
+                    location.x + (DAY_WIDTH / 2) + (x * (DAY_WIDTH + DAY_SPACE)),
+                    location.y - barHeight + AXIS_PADDING + 1
+            ));
+
+        }
+
+        // Draw Axis
+        graphics.setColor(AXIS_COLOR);
+        graphics.setStroke(new BasicStroke(AXIS_SIZE));
+        graphics.drawLine(
+                location.x,
+                location.y + AXIS_PADDING,
+                location.x + (7 * DAY_WIDTH) + (6 * DAY_SPACE),
+                location.y + AXIS_PADDING
+        );
+
+        // Draw Day Labels
+        graphics.setColor(TEXT_COLOR_SECONDARY);
+        graphics.setFont(getFont(Font.BOLD, 15));
+        int horizBase = location.x + (DAY_WIDTH / 2);
+        int vertBase = location.y + (3 * AXIS_PADDING);
+        String[] days = {"M", "T", "W", "T", "F", "S", "S"};
+        for (int x = 0; x < days.length; x++)
+            drawCenteredString(graphics, days[x], new Point(
+                    horizBase + (x * (DAY_WIDTH + DAY_SPACE)),
+                    vertBase
+            ));
+
+        // Draw Graph Label
+        graphics.setColor(TEXT_COLOR_SECONDARY);
+        graphics.setFont(getFont(Font.BOLD | Font.ITALIC, 16));
+        drawCenteredString(graphics, title, new Point(
+                (int) (location.x + (3.5 * (DAY_WIDTH + DAY_SPACE))),
+                location.y + 47
+        ));
+    }
+
+    private void drawHourlyActivity(Graphics2D graphics, Point start) {
+        drawHourlyGraph(graphics, start);
+    }
+
+    private void drawHourlyGraph(Graphics2D graphics, Point location) {
+
+        // Local Variables
+        int HOUR_WIDTH = 21;
+        int HOUR_MAX_HEIGHT = 125;
+        int HOUR_SPACE = 3;
+        int HOURS = 24;
+
+        // Determine Maximum Occurrences
+        int maxOccurrences = 0;
+        for (int x = 0; x < HOURS; x++) {
+            maxOccurrences = Math.max(maxOccurrences, aggregates.getHourCount(x));
+        }
+
+        // Draw Graph
+        for (int x = 0; x < HOURS; x++) {
+
+            // Find Hour's Occurrences (1am First)
+            int hourlyEvents = aggregates.getHourCount((x + 1) % HOURS);
+            recordHit(
+                    new Rectangle(location.x + (x * (HOUR_WIDTH + HOUR_SPACE)), location.y - HOUR_MAX_HEIGHT, HOUR_WIDTH, HOUR_MAX_HEIGHT),
+                    BucketIndex.Family.HOUR,
+                    (x + 1) % HOURS,
+                    getHourLabel((x + 1) % HOURS) + " - " + getHourLabel((x + 2) % HOURS)
+            );
+
+            // Draw Background
+            graphics.setColor(THEME_COLORS[0]);
+            graphics.fillRoundRect(
+                    location.x + (x * (HOUR_WIDTH + HOUR_SPACE)),
+                    location.y - HOUR_MAX_HEIGHT,
+                    HOUR_WIDTH,
+                    HOUR_MAX_HEIGHT,
+                    CORNER_RADIUS,
+                    CORNER_RADIUS
+            );
+
+            // Draw Box
+            double percent = maxOccurrences == 0 ? 0 : hourlyEvents / (double) maxOccurrences;
+            int barHeight = (int) (percent * HOUR_MAX_HEIGHT);
+            graphics.setColor(getGradientColor(percent));
+            graphics.fillRoundRect(
+                    location.x + (x * (HOUR_WIDTH + HOUR_SPACE)),
+                    location.y - barHeight,
+                    HOUR_WIDTH,
+                    barHeight,
+                    CORNER_RADIUS,
+                    CORNER_RADIUS
+            );
+
+            // Draw Count
+            int countVertPos = location.y - barHeight;
+            if (percent > .45) {
+                graphics.setColor(BACKGROUND_COLOR);
+                countVertPos += AXIS_PADDING + 1; // Draw On Bar
+            } else {
+                graphics.setColor(THEME_COLORS[6]);
+                countVertPos -= AXIS_PADDING + 1; // Draw Below Bar
+            }
+            if (percent > 0) {
+                graphics.setFont(getFont(Font.PLAIN, 15));
+                drawCenteredString(graphics, "" + hourlyEvents, new Point(
+                        location.x + (HOUR_WIDTH / 2) + (x * (HOUR_WIDTH + HOUR_SPACE)),
+                        countVertPos
+                ));
+            }
+        }
+
+        // Draw Axis
+        graphics.setColor(AXIS_COLOR);
+        graphics.setStroke(new BasicStroke(AXIS_SIZE));
+        graphics.drawLine(
+                location.x,
+                location.y + AXIS_PADDING,
+                location.x + (24 * HOUR_WIDTH) + (23 * HOUR_SPACE),
+                location.y + AXIS_PADDING
+        );
+        int horizTick = location.x + (HOUR_WIDTH / 2);
+        int vertTick = location.y + AXIS_PADDING;
+        for (int x = 0; x < HOURS; x++)
+            drawLine(
+                    graphics,
+                    new Point(horizTick + (x * (HOUR_WIDTH + HOUR_SPACE)), vertTick),
+                    new Point(horizTick + (x * (HOUR_WIDTH + HOUR_SPACE)), vertTick + AXIS_TICK)
+            );
+
+        // Draw Time Labels
+        graphics.setColor(TEXT_COLOR_SECONDARY);
+        graphics.setFont(getFont(Font.BOLD, 15));
+        int horizBase = location.x + (HOUR_WIDTH / 2) + (1 * (HOUR_WIDTH + HOUR_SPACE));
+        int vertBase = location.y + (3 * AXIS_PADDING);
+        String[] times = {"2a", "4a", "6a", "8a", "10a", "12p", "2p", "4p", "6p", "8p", "10p", "12p"};
+        for (int x = 0; x < times.length; x++)
+            drawCenteredString(graphics, times[x], new Point(
+                    horizBase + (2 * x * (HOUR_WIDTH + HOUR_SPACE)),
+                    vertBase
+            ));
+
+        // Draw Title
+        graphics.setColor(THEME_COLORS[6]);
+        graphics.setFont(getFont(Font.BOLD, 17));
+        drawCenteredString(graphics, "Hourly Activity", new Point(
+                location.x + (12 * HOUR_WIDTH) + (11 * HOUR_SPACE),
+                location.y - 160
+        ));
+    }
+
+
+    /*--- Private Formatting Methods ---*/
+
+    private String formatP(double value) {
+        return DECIMAL_FORMAT_P.format(value * 100);
+    }
+
+    private String format3(double value) {
+        return DECIMAL_FORMAT_3.format(value);
+    }
+
+
+    /*--- Private Analysis Methods ---*/
+
+    private String getLongestGap() {
+
+        // Find Longest Gap
+        GapDistribution gaps = aggregates.getGapAnalyzer().getOverall();
+        if (gaps.isEmpty()) return " -";
+        long longestGap = gaps.getMax();
+        Date start = new Date(gaps.getMaxStartTime());
+        Date end = new Date(gaps.getMaxEndTime());
+
+        // Format Output
+        int days = truncateDecimals(longestGap / 1000 / 60 / 60 / 24.0);
+        long daysInMillis = days * 24 * 60 * 60 * 1000L;
+        int hours = truncateDecimals((longestGap - daysInMillis) / 1000 / 60 / 60.0);
+        int hoursInMillis = hours * 60 * 60 * 1000;
+        int minutes = truncateDecimals((longestGap - daysInMillis - hoursInMillis) / 1000 / 60.0);
+
+
+        return " " + days + "d "
+                + hours + "h "
+                + minutes + "m  ("
+                + EVENT_DAY_PROSE_FORMAT.format(start) + " - "
+                + EVENT_DAY_PROSE_FORMAT.format(end) + ")";
+    }
+
+    private String getShortestGap() {
+
+        // Find Shortest Gap
+        GapDistribution gaps = aggregates.getGapAnalyzer().getOverall();
+        if (gaps.isEmpty()) return " -";
+        long shortestGap = gaps.getMin();
+        Date start = new Date(gaps.getMinStartTime());
+        Date end = new Date(gaps.getMinEndTime());
+
+        // Format Output
+        int days = truncateDecimals(shortestGap / 1000 / 60 / 60 / 24.0);
+        long daysInMillis = days * 24 * 60 * 60 * 1000L;
+        int hours = truncateDecimals((shortestGap - daysInMillis) / 1000 / 60 / 60.0);
+        int hoursInMillis = hours * 60 * 60 * 1000;
+        int minutes = truncateDecimals((shortestGap - daysInMillis - hoursInMillis) / 1000 / 60.0);
+
+
+        return //" " + days + "d "
+                // + hours + "hr "
+                "" + minutes + "m  ("
+                        + EVENT_DAY_PROSE_FORMAT.format(start) + ", "
+                        + EVENT_TIME_FORMAT.format(start).toLowerCase() + " - "
+                        + EVENT_TIME_FORMAT.format(end).toLowerCase() + ")";
+    }
+
+    private String getPeakDay() {
+        if (aggregates.getTotalCount() == 0) return " -";
+        Date peakDay = new Date(aggregates.getPeakDayStart());
+        return " " + aggregates.getPeakDayCount() + "  (" + EVENT_DAY_PROSE_FORMAT.format(peakDay) + ")";
+    }
+
+    private String getPeakWeek() {
+        if (aggregates.getTotalCount() == 0) return " -";
+        Date peakWeekStart = new Date(aggregates.getPeakWeekStart());
+        return " " + aggregates.getPeakWeekCount() + "  (Began "
+                + EVENT_DAY_PROSE_FORMAT.format(peakWeekStart) + " @ "
+                + EVENT_TIME_FORMAT.format(peakWeekStart).toLowerCase() + ")";
+    }
+
+    /* Note: The weekly grid's rows run from 1am down to midnight, so the bottom row of
+     *       each column holds the midnight hour that begins the following day.
+     */
+    private int getWeeklyGridCount(EventType type, int column, int row) {
+        if (row < 23) {
+            return aggregates.getWeekHourCount(type, column, row + 1);
+        } else {
+            return aggregates.getWeekHourCount(type, (column + 1) % 7, 0);
+        }
+    }
+
+    private boolean areDatesEqual(Date d1, Date d2) {
+        Date newDate1 = getZeroTimeDate(d1);
+        Date newDate2 = getZeroTimeDate(d2);
+
+        return newDate1.compareTo(newDate2) == 0;
+    }
+
+    private Date getDateOneDayLater(Date date) {
+        Calendar calendar = Calendar.getInstance();
+        calendar.setTime(date);
+        calendar.add(Calendar.DATE, 1);
+        return calendar.getTime();
+    }
+
+    private Date getZeroTimeDate(Date date) {
+        Calendar calendar = Calendar.getInstance();
+        calendar.setTime(date);
+        calendar.set(Calendar.HOUR_OF_DAY, 0);
+        calendar.set(Calendar.MINUTE, 0);
+        calendar.set(Calendar.SECOND, 0);
+        calendar.set(Calendar.MILLISECOND, 0);
+
+        return calendar.getTime();
+    }
+
+    private Date getDateFromString(String string) {
+        Date date = new Date();
+
+        try {
+            date = (new SimpleDateFormat("MM.dd.yyyy")).parse(string);
+        } catch (ParseException exception) {
+            System.out.println("Error: Couldn't parse string date.");
+            System.exit(1);
+        }
+
+        return date;
+    }
+
+    private int truncateDecimals(double number) {
+        String value = "" + number;
+        String newValue = value.replaceFirst("\\..*$", "");
+        return Integer.valueOf(newValue);
+    }
+
+    private int lerp(int a, int b, double f) {
+        return truncateDecimals((a * (1f - f)) + (b * f));
+    }
+
+    private int clamp(int val, int min, int max) {
+        return Math.max(min, Math.min(max, val));
+    }
+
+    private Color getGradientColor(double factor) {
+        if (factor < .5) {
+            double newFactor = factor / 0.5;
+            return lerpColor(THEME_COLORS[1], THEME_COLORS[3], newFactor);
+        } else {
+            double newFactor = (factor - 0.5) / 0.5;
+            return lerpColor(THEME_COLORS[3], THEME_COLORS[6], newFactor);
+        }
+    }
+
+    private Color getBoostedGradientColor(double factor) {
+        if (factor < .5) {
+            double newFactor = factor / 0.5;
+            return lerpColor(THEME_COLORS[2], THEME_COLORS[4], newFactor);
+        } else {
+            double newFactor = (factor - 0.5) / 0.5;
+            return lerpColor(THEME_COLORS[4], THEME_COLORS[6], newFactor);
+        }
+    }
+
+    private Color getHourlyEventBoxColor(double factor) {
+        if (factor < .5) {
+            double newFactor = factor / 0.5;
+            return lerpColor(THEME_COLORS[0], THEME_COLORS[3], newFactor);
+        } else {
+            double newFactor = (factor - 0.5) / 0.5;
+            return lerpColor(THEME_COLORS[3], THEME_COLORS[6], newFactor);
+        }
+    }
+
+    private Color lerpColor(Color a, Color b, double factor) {
+        return new Color(
+                clamp(lerp(a.getRed(), b.getRed(), factor), 0, 255),
+                clamp(lerp(a.getGreen(), b.getGreen(), factor), 0, 255),
+                clamp(lerp(a.getBlue(), b.getBlue(), factor), 0, 255)
+        );
+    }
+
+
+    /*--- Private Date Methods ---*/
+
+    /* Note: Method summarizes distinct values over the year and over its latest month
+     *       with any, e.g. "Performers: 41 unique  (12 in Dec)". Counts are estimates.
+     */
+    private String getDistinctSummary(String title, DistinctCounts.Category category) {
+        long yearStart = getDateFromLocalDate(LocalDate.of(getThisYear(), 1, 1)).getTime();
+        long yearEnd = getDateFromLocalDate(LocalDate.of(getThisYear() + 1, 1, 1)).getTime();
+        String summary = title + ": " + distinctCounts.count(category, DistinctCounts.Period.YEAR, yearStart) + " unique";
+        long monthStart = distinctCounts.getLastPeriodStart(DistinctCounts.Period.MONTH, yearStart, yearEnd);
+        if (monthStart < 0) return summary;
+        return summary + "  (" + distinctCounts.count(category, DistinctCounts.Period.MONTH, monthStart)
+                + " in " + new SimpleDateFormat("MMM").format(new Date(monthStart)) + ")";
+    }
+
+    /* Note: Method lists the 7, 30 & 90 day averages, per day, ending on the year's last
+     *       counted day, e.g. "2.714  2.9  2.833  /d (7/30/90d)".
+     */
+    private String getRollingSummary() {
+        RollingCounts counts = getRollingCounts();
+        LocalDate day = LocalDate.of(getThisYear(), 12, 31);
+        if (counts.getDays() > 0 && counts.getLastDay().isBefore(day)) day = counts.getLastDay();
+        StringBuilder summary = new StringBuilder();
+        for (int window : RollingCounts.STANDARD_WINDOWS) summary.append(format3(counts.average(null, day, window))).append("  ");
+        return summary + "/d (7/30/90d)";
+    }
+
+    /* Note: Method marks each day of the year that a burst or drought overlaps. Where
+     *       both overlap a day, the burst is shown.
+     */
+    private AnomalyDetector.Kind[] getDayAnomalies() {
+        AnomalyDetector.Kind[] days = new AnomalyDetector.Kind[getDaysInThisYear()];
+        for (AnomalyDetector.Anomaly anomaly : aggregates.getAnomalies()) {
+            int first = getDayOfThisYear(anomaly.start);
+            int last = getDayOfThisYear(anomaly.end - 1);
+            for (int x = Math.max(first, 0); x <= Math.min(last, days.length - 1); x++) {
+                if (days[x] == null || anomaly.kind == AnomalyDetector.Kind.BURST) days[x] = anomaly.kind;
+            }
+        }
+        return days;
+    }
+
+    private String getAnomalyLabel(AnomalyDetector.Kind kind) {
+        return kind == AnomalyDetector.Kind.BURST ? "Burst" : "Drought";
+    }
+
+    // Day of this year holding the given time: negative before January 1st, past the year's days after it.
+    private int getDayOfThisYear(long timestamp) {
+        LocalDate date = Instant.ofEpochMilli(timestamp).atZone(aggregates.getZone()).toLocalDate();
+        return (int) (date.toEpochDay() - LocalDate.of(getThisYear(), 1, 1).toEpochDay());
+    }
+
+    private RollingCounts getRollingCounts() {
+        if (rollingCounts == null) rollingCounts = RollingCounts.of(aggregates);
+        return rollingCounts;
+    }
+
+    private int getThisYear() {
+        return aggregates.getYear();
+    }
+
+    private int getDaysInThisYear() {
+        return aggregates.getDaysInYear();
+    }
+
+    private int getFirstOfYearAsWeekdayInteger() {
+        String firstOfYear = "" + getThisYear() + "0101";
+        Date date = getDateFromLocalDate(LocalDate.parse(firstOfYear, DateTimeFormatter.BASIC_ISO_DATE));
+        return getWeekdayFromDate(date);
+    }
+
+    // Returns an integer representing the day of the week.
+    // Ex: Mon = 0, Tues = 1, Wed = 2, etc...
+    private int getWeekdayFromDate(Date date) {
+        Calendar cal = Calendar.getInstance();
+        cal.setTime(date);
+        return (cal.get(Calendar.DAY_OF_WEEK) - 2) % 7;
+    }
+
+    private Date getDateFromLocalDate(LocalDate localDate) {
+        return Date.from(localDate.atStartOfDay(aggregates.getZone()).toInstant());
+    }
+
+
+    /*--- Private UI Methods ---*/
+
+    private static Font getFont(int style, int size) {
+        return FONTS.computeIfAbsent((style << 16) | size, key -> new Font("Sanserif", style, size));
+    }
+
+    private void recordHit(Rectangle bounds, BucketIndex.Family family, int bucket, String label) {
+        if (hitIndex != null) {
+            hitIndex.add(new HitIndex.HitRegion(bounds, family, bucket, label));
+        }
+    }
+
+    private String getHourLabel(int hour) {
+        int displayHour = (hour % 12 == 0) ? 12 : hour % 12;
+        return displayHour + (hour < 12 ? "am" : "pm");
+    }
+
+    private void drawDayGridBox(
+            Graphics2D graphics,
+            Point location,
+            Color color,
+            boolean newMonth,
+            boolean sharedEvent,
+            boolean virtualEvent
+    ) {
+
+        // Draw Box
+        graphics.setColor(color);
+        graphics.fillRoundRect(location.x, location.y, DAY_GRID_BOX_SIZE, DAY_GRID_BOX_SIZE, CORNER_RADIUS, CORNER_RADIUS);
+
+        // Draw Details
+        int offset = 7;
+        int size = 8;
+        if (newMonth) {
+            graphics.setColor(BACKGROUND_COLOR);
+            graphics.fillOval(
+                    location.x + 2,
+                    location.y + 2,
+                    3,
+                    3
+            );
+        }
+        if (virtualEvent && !sharedEvent) {
+            graphics.setColor(THEME_COLORS[6]);
+            graphics.fillOval(
+                    location.x + offset - 1,
+                    location.y + offset - 1,
+                    size + 2,
+                    size + 2
+            );
+            graphics.setColor(BACKGROUND_COLOR);
+            graphics.fillOval(
+                    location.x + offset,
+                    location.y + offset,
+                    size,
+                    size
+            );
+        }
+        if (sharedEvent) {
+            graphics.setColor(THEME_COLORS[6]);
+            graphics.fillOval(
+                    location.x + offset - 1,
+                    location.y + offset - 1,
+                    size + 2,
+                    size + 2
+            );
+            graphics.setColor(THEME_COLORS[6]);
+            graphics.fillOval(
+                    location.x + offset,
+                    location.y + offset,
+                    size,
+                    size
+            );
+        }
+    }
+
+    private void drawAnomalyOutline(Graphics2D graphics, Point location, AnomalyDetector.Kind kind) {
+        graphics.setColor(kind == AnomalyDetector.Kind.BURST ? BURST_COLOR : DROUGHT_COLOR);
+        graphics.setStroke(new BasicStroke(2f));
+        graphics.drawRoundRect(location.x - 1, location.y - 1, DAY_GRID_BOX_SIZE + 1, DAY_GRID_BOX_SIZE + 1, CORNER_RADIUS, CORNER_RADIUS);
+    }
+
+    private static Color getDailyColorFromNumberEvents(int events) {
+        Color color;
+        switch (events) {
+            case 0:
+                color = THEME_COLORS[0];
+                break;
+            case 1:
+                color = THEME_COLORS[1];
+                break;
+            case 2:
+                color = THEME_COLORS[2];
+                break;
+            case 3:
+                color = THEME_COLORS[3];
+                break;
+            case 4:
+                color = THEME_COLORS[4];
+                break;
+            case 5:
+                color = THEME_COLORS[5];
+                break;
+            case 7:
+                color = THEME_COLORS[6];
+                break;
+            default:
+                color = Color.RED;
+        }
+        return color;
+    }
+
+    private void drawCenteredString(Graphics g, String text, Point location) {
+        FontMetrics metrics = g.getFontMetrics(g.getFont());
+        int x = location.x - (metrics.stringWidth(text) / 2);
+        int y = location.y - (metrics.getHeight() / 2) + metrics.getAscent();
+        g.drawString(text, x, y);
+    }
+
+    // Shortens text with an ellipsis until it fits the given width.
+    private String fitText(Graphics2D g, String text, int width) {
+        if (getTextWidth(g, text) <= width) return text;
+        String shortened = text;
+        while (!shortened.isEmpty() && getTextWidth(g, shortened + "...") > width) {
+            shortened = shortened.substring(0, shortened.length() - 1);
+        }
+        return shortened + "...";
+    }
+
+    private int getTextWidth(Graphics2D g, String text) {
+        FontMetrics metrics = g.getFontMetrics(g.getFont());
+        return metrics.stringWidth(text);
+    }
+
+    private void drawLine(Graphics2D graphics, Point start, Point end) {
+        Line2D line = new Line2D.Float(start.x, start.y, end.x, end.y);
+        graphics.draw(line);
+    }
+
+    private void drawSmallPoint(Graphics2D graphics, Point point) {
+        Ellipse2D.Double circle = new Ellipse2D.Double(
+                point.x - (POINT_DIAMETER_SMALL / 2) + POINT_OFFSET,
+                point.y - (POINT_DIAMETER_SMALL / 2) + POINT_OFFSET,
+                POINT_DIAMETER_SMALL,
+                POINT_DIAMETER_SMALL
+        );
+        graphics.fill(circle);
+    }
+
+}
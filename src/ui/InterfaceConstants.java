@@ -11,5 +11,5 @@ public class InterfaceConstants {
 
     public static final int WINDOW_WIDTH = 1500;
     public static final int WINDOW_HEIGHT = 1200;
-    public static final int PANEL_HEIGHT = 1100;
+    public static final int PANEL_HEIGHT = 1680;
 }
@@ -0,0 +1,271 @@
+package ui;
+
+import analysis.TimelinePyramid;
+import model.types.EventType;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseWheelEvent;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+/* Event Grapher
+ * Christopher Cruzen
+ * 10.19.2026
+ *
+ *   TimelinePanel draws every year of the dataset as a zoomable, pannable bar chart of
+ * stacked event counts. The mouse wheel zooms around the cursor, dragging pans, and a
+ * double click shows the whole dataset again.
+ *
+ *   Bars are read from a TimelinePyramid at the finest level whose buckets are still a
+ * few pixels wide, so a frame only ever touches about as many buckets as there are
+ * pixels across the chart, whether it shows a day or a decade.
+ */
+
+class TimelinePanel extends JPanel {
+
+
+    /*--- Variable Declarations ---*/
+
+    // Interface Constants
+    private static final long serialVersionUID = 1L;
+    private static final int MARGIN_LEFT = 70;
+    private static final int MARGIN_RIGHT = 40;
+    private static final int MARGIN_TOP = 70;
+    private static final int MARGIN_BOTTOM = 60;
+    private static final int MIN_BAR_PIXELS = 3;
+    private static final int MIN_LABEL_PIXELS = 90;
+    private static final long MIN_SPAN = 6L * 60 * 60 * 1000;
+    private static final double ZOOM_STEP = 1.25;
+
+    // Color Constants
+    private static final Color[] TYPE_COLORS = {
+            new Color(87, 120, 181),   // Solo
+            new Color(131, 156, 201),  // Virtual
+            new Color(184, 200, 227)   // Shared
+    };
+    private static final Color AXIS_COLOR = new Color(99, 107, 120);
+    private static final Color TEXT_COLOR_PRIMARY = new Color(255, 255, 255);
+    private static final Color TEXT_COLOR_SECONDARY = new Color(127, 137, 153);
+
+    // Formatting Constants
+    private final SimpleDateFormat YEAR_FORMAT = new SimpleDateFormat("yyyy");
+    private final SimpleDateFormat MONTH_FORMAT = new SimpleDateFormat("MMM yyyy");
+    private final SimpleDateFormat DAY_FORMAT = new SimpleDateFormat("MMM d, yyyy");
+    private final SimpleDateFormat HOUR_FORMAT = new SimpleDateFormat("MMM d, h a");
+
+    // Data Variables
+    private final TimelinePyramid pyramid;
+    private double viewStart;
+    private double viewSpan;
+    private int dragX;
+
+
+    /*--- Constructor ---*/
+
+    TimelinePanel(TimelinePyramid pyramid) {
+        this.pyramid = pyramid;
+        resetView();
+
+        // Configure UI
+        setPreferredSize(new Dimension(InfographicPainter.WIDTH, InfographicPainter.HEIGHT / 2));
+        setBackground(InfographicPainter.BACKGROUND_COLOR);
+        setToolTipText("");
+
+        // Zoom & Pan
+        MouseAdapter mouseAdapter = new MouseAdapter() {
+            @Override
+            public void mousePressed(MouseEvent e) {
+                dragX = e.getX();
+            }
+
+            @Override
+            public void mouseDragged(MouseEvent e) {
+                pan((dragX - e.getX()) * getMillisPerPixel());
+                dragX = e.getX();
+            }
+
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (e.getClickCount() == 2) {
+                    resetView();
+                    repaint();
+                }
+            }
+
+            @Override
+            public void mouseWheelMoved(MouseWheelEvent e) {
+                zoom(Math.pow(ZOOM_STEP, e.getPreciseWheelRotation()), e.getX());
+            }
+        };
+        addMouseListener(mouseAdapter);
+        addMouseMotionListener(mouseAdapter);
+        addMouseWheelListener(mouseAdapter);
+    }
+
+
+    /*--- Draw Method ---*/
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        Graphics2D graphics = (Graphics2D) g;
+        int plotWidth = getPlotWidth();
+        int plotHeight = getHeight() - MARGIN_TOP - MARGIN_BOTTOM;
+        if (plotWidth <= 0 || plotHeight <= 0) return;
+
+        // Choose Level Of Detail
+        double millisPerPixel = getMillisPerPixel();
+        TimelinePyramid.Level level = pyramid.getLevelFor(millisPerPixel, MIN_BAR_PIXELS);
+        int firstBucket = pyramid.getBucketAt(level, (long) viewStart);
+        int lastBucket = pyramid.getBucketAt(level, (long) (viewStart + viewSpan));
+        int maxTotal = Math.max(1, pyramid.getMaxTotal(level, firstBucket, lastBucket));
+
+        // Draw Stacked Bars
+        int baseline = MARGIN_TOP + plotHeight;
+        int visibleEvents = 0;
+        graphics.setClip(MARGIN_LEFT, 0, plotWidth, getHeight());
+        for (int bucket = firstBucket; bucket <= lastBucket; bucket++) {
+            int total = pyramid.getTotal(level, bucket);
+            visibleEvents += total;
+            if (total == 0) continue;
+            int left = toX(pyramid.getBucketStart(level, bucket));
+            int width = Math.max(1, toX(pyramid.getBucketEnd(level, bucket)) - left - (millisPerPixel < level.minimumMillis / 4.0 ? 1 : 0));
+            int top = baseline;
+            int cumulative = 0;
+            for (EventType type : EventType.values()) {
+                cumulative += pyramid.getCount(level, type, bucket);
+                int nextTop = baseline - (int) Math.round(cumulative * (double) plotHeight / maxTotal);
+                graphics.setColor(TYPE_COLORS[type.ordinal()]);
+                graphics.fillRect(left, nextTop, width, top - nextTop);
+                top = nextTop;
+            }
+        }
+        graphics.setClip(null);
+
+        // Draw Axes
+        graphics.setColor(AXIS_COLOR);
+        graphics.setStroke(new BasicStroke(1.5f));
+        graphics.drawLine(MARGIN_LEFT, baseline, MARGIN_LEFT + plotWidth, baseline);
+        graphics.drawLine(MARGIN_LEFT, MARGIN_TOP, MARGIN_LEFT, baseline);
+        drawTimeLabels(graphics, millisPerPixel, baseline);
+
+        // Draw Scale & Title
+        graphics.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        graphics.setColor(TEXT_COLOR_SECONDARY);
+        graphics.setFont(new Font("Sanserif", Font.BOLD, 13));
+        graphics.drawString("" + maxTotal, MARGIN_LEFT - 10 - graphics.getFontMetrics().stringWidth("" + maxTotal), MARGIN_TOP + 5);
+        graphics.drawString("0", MARGIN_LEFT - 10 - graphics.getFontMetrics().stringWidth("0"), baseline + 5);
+        graphics.setColor(TEXT_COLOR_PRIMARY);
+        graphics.setFont(new Font("Sanserif", Font.BOLD, 19));
+        graphics.drawString("Timeline", MARGIN_LEFT, 35);
+        graphics.setColor(TEXT_COLOR_SECONDARY);
+        graphics.setFont(new Font("Sanserif", Font.BOLD, 14));
+        graphics.drawString(
+                visibleEvents + " events  (" + level.name().toLowerCase() + " bars)    Scroll to zoom, drag to pan, double click to reset",
+                MARGIN_LEFT + 110,
+                35
+        );
+        drawKey(graphics);
+    }
+
+    @Override
+    public String getToolTipText(MouseEvent e) {
+        if (e.getX() < MARGIN_LEFT || e.getX() >= MARGIN_LEFT + getPlotWidth()) return null;
+        TimelinePyramid.Level level = pyramid.getLevelFor(getMillisPerPixel(), MIN_BAR_PIXELS);
+        long time = (long) (viewStart + ((e.getX() - MARGIN_LEFT) * getMillisPerPixel()));
+        if (time < pyramid.getBucketStart(level, 0) || time >= pyramid.getBucketEnd(level, pyramid.getBucketCount(level) - 1)) {
+            return null;
+        }
+
+        // Summarize Bucket
+        int bucket = pyramid.getBucketAt(level, time);
+        StringBuilder text = new StringBuilder("<html><b>")
+                .append(getLabelFormat(level).format(new Date(pyramid.getBucketStart(level, bucket))))
+                .append("</b><br>").append(pyramid.getTotal(level, bucket)).append(" events");
+        for (EventType type : EventType.values()) {
+            text.append("<br>").append(type).append(": ").append(pyramid.getCount(level, type, bucket));
+        }
+        return text.append("</html>").toString();
+    }
+
+
+    /*--- Private Methods ---*/
+
+    private void drawTimeLabels(Graphics2D graphics, double millisPerPixel, int baseline) {
+        TimelinePyramid.Level level = pyramid.getLevelFor(millisPerPixel, MIN_LABEL_PIXELS);
+        SimpleDateFormat format = getLabelFormat(level);
+        int firstBucket = pyramid.getBucketAt(level, (long) viewStart);
+        int lastBucket = pyramid.getBucketAt(level, (long) (viewStart + viewSpan));
+        graphics.setFont(new Font("Sanserif", Font.BOLD, 13));
+        for (int bucket = firstBucket; bucket <= lastBucket; bucket++) {
+            int x = toX(pyramid.getBucketStart(level, bucket));
+            if (x < MARGIN_LEFT || x > MARGIN_LEFT + getPlotWidth()) continue;
+            graphics.setColor(AXIS_COLOR);
+            graphics.drawLine(x, baseline, x, baseline + 6);
+            graphics.setColor(TEXT_COLOR_SECONDARY);
+            graphics.drawString(format.format(new Date(pyramid.getBucketStart(level, bucket))), x + 3, baseline + 22);
+        }
+    }
+
+    private void drawKey(Graphics2D graphics) {
+        int x = getWidth() - MARGIN_RIGHT - 260;
+        graphics.setFont(new Font("Sanserif", Font.BOLD, 14));
+        for (EventType type : EventType.values()) {
+            graphics.setColor(TYPE_COLORS[type.ordinal()]);
+            graphics.fillRect(x, 24, 12, 12);
+            graphics.setColor(TEXT_COLOR_SECONDARY);
+            String name = type.name().charAt(0) + type.name().substring(1).toLowerCase();
+            graphics.drawString(name, x + 18, 35);
+            x += 90;
+        }
+    }
+
+    private SimpleDateFormat getLabelFormat(TimelinePyramid.Level level) {
+        switch (level) {
+            case HOUR:
+                return HOUR_FORMAT;
+            case DAY:
+            case WEEK:
+                return DAY_FORMAT;
+            case MONTH:
+                return MONTH_FORMAT;
+            default:
+                return YEAR_FORMAT;
+        }
+    }
+
+    private void zoom(double factor, int anchorX) {
+        double anchorTime = viewStart + ((anchorX - MARGIN_LEFT) * getMillisPerPixel());
+        double fullSpan = pyramid.getEnd() - pyramid.getStart();
+        double newSpan = Math.max(MIN_SPAN, Math.min(fullSpan, viewSpan * factor));
+        viewStart = anchorTime - ((anchorTime - viewStart) * (newSpan / viewSpan));
+        viewSpan = newSpan;
+        pan(0);
+    }
+
+    // Moves the view by a number of milliseconds, keeping it inside the dataset.
+    private void pan(double millis) {
+        viewStart = Math.max(pyramid.getStart(), Math.min(pyramid.getEnd() - viewSpan, viewStart + millis));
+        repaint();
+    }
+
+    private void resetView() {
+        viewStart = pyramid.getStart();
+        viewSpan = pyramid.getEnd() - pyramid.getStart();
+    }
+
+    private double getMillisPerPixel() {
+        return viewSpan / Math.max(1, getPlotWidth());
+    }
+
+    private int getPlotWidth() {
+        return getWidth() - MARGIN_LEFT - MARGIN_RIGHT;
+    }
+
+    private int toX(long time) {
+        return MARGIN_LEFT + (int) Math.round((time - viewStart) / getMillisPerPixel());
+    }
+}